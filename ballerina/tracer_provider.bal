@@ -23,15 +23,58 @@ const DEFAULT_SAMPLER_TYPE = "const";
 
 configurable string agentHostname = "localhost";
 configurable int agentPort = 55680;
+configurable string[] agentEndpoints = [];
 configurable string samplerType = "const";
 configurable decimal samplerParam = 1;
+configurable string samplerEndpoint = "localhost:14250";
+configurable int samplerRefreshInterval = 60000;
+configurable decimal samplerLowerBound = 0.1;
+configurable int samplerMaxOperations = 2000;
+configurable boolean samplerParentBased = true;
+configurable boolean tailSampling = false;
+configurable int tailSamplingDecisionWait = 5000;
+configurable int tailSamplingLatencyThreshold = 1000;
+configurable string[] tailSamplingAttributes = [];
+configurable decimal tailSamplingProbability = 0.01;
+configurable int tailSamplingMaxBufferedBytes = 33554432;
 configurable int reporterFlushInterval = 1000;
 configurable int reporterBufferSize = 10000;
+configurable int reporterExportTimeout = 30000;
+configurable int reporterMaxExportBatchSize = 512;
+configurable string reporterQueueOverflowPolicy = "drop_newest";
+configurable int reporterBlockTimeout = 100;
+configurable string spanProcessorType = "batch";
+configurable string ringBufferWaitStrategy = "blocking";
+configurable boolean adaptiveBatching = false;
+configurable int reporterTargetExportLatency = 250;
+configurable int reporterMaxBufferedBytes = 0;
+configurable string exporterProtocol = "grpc";
+configurable int maxInFlightExports = 1;
+configurable int maxInFlightExportBytes = 16777216;
+configurable string compression = "none";
+configurable boolean directMarshaling = true;
+configurable int maxPacketSize = 65000;
+configurable string spoolDirectory = "";
+configurable int spoolMaxBytes = 134217728;
+configurable string exportThreads = "platform";
+configurable int spanMaxAttributes = 128;
+configurable int spanMaxEvents = 128;
+configurable int spanMaxLinks = 128;
+configurable int spanMaxAttributeValueLength = 0;
+configurable boolean channelWarmUp = false;
+configurable int channelWarmUpTimeout = 5000;
+configurable int channelKeepAliveTime = 0;
+configurable int exportMaxAttempts = 5;
+configurable int exportRetryInitialBackoff = 1000;
+configurable int exportRetryMaxBackoff = 5000;
+configurable int circuitBreakerFailureThreshold = 5;
+configurable int circuitBreakerOpenDuration = 30000;
 
 function init() {
     if (observe:isTracingEnabled() && observe:getTracingProvider() == PROVIDER_NAME) {
         string selectedSamplerType;
-        if (samplerType != "const" && samplerType != "ratelimiting" && samplerType != "probabilistic") {
+        if (samplerType != "const" && samplerType != "ratelimiting" && samplerType != "probabilistic"
+            && samplerType != "peroperation" && samplerType != "remote") {
             selectedSamplerType = DEFAULT_SAMPLER_TYPE;
             io:println("error: invalid Jaeger configuration sampler type: " + samplerType
                                                + ". using default " + DEFAULT_SAMPLER_TYPE + " sampling");
@@ -39,13 +82,73 @@ function init() {
             selectedSamplerType = samplerType;
         }
 
-        externInitializeConfigurations(agentHostname, agentPort, selectedSamplerType, samplerParam,
-            reporterFlushInterval, reporterBufferSize);
+        externInitializeSpanProcessorConfigurations(spanProcessorType, ringBufferWaitStrategy, reporterFlushInterval,
+            reporterExportTimeout, reporterBufferSize, reporterMaxExportBatchSize, reporterQueueOverflowPolicy,
+            reporterBlockTimeout, adaptiveBatching, reporterTargetExportLatency, reporterMaxBufferedBytes);
+        externInitializeExporterConfigurations(exporterProtocol, maxInFlightExports, maxInFlightExportBytes,
+            compression, directMarshaling, maxPacketSize, spoolDirectory, spoolMaxBytes, agentEndpoints, exportThreads);
+        externInitializeExportRetryConfigurations(exportMaxAttempts, exportRetryInitialBackoff, exportRetryMaxBackoff,
+            circuitBreakerFailureThreshold, circuitBreakerOpenDuration);
+        externInitializeSpanLimitsConfigurations(spanMaxAttributes, spanMaxEvents, spanMaxLinks,
+            spanMaxAttributeValueLength);
+        externInitializeChannelConfigurations(channelWarmUp, channelWarmUpTimeout, channelKeepAliveTime);
+        externInitializeSamplerConfigurations(samplerLowerBound, samplerMaxOperations, samplerParentBased);
+        externInitializeTailSamplingConfigurations(tailSampling, tailSamplingDecisionWait,
+            tailSamplingLatencyThreshold, tailSamplingAttributes, tailSamplingProbability,
+            tailSamplingMaxBufferedBytes);
+        externInitializeConfigurations(agentHostname, agentPort, selectedSamplerType, samplerParam, samplerEndpoint,
+            samplerRefreshInterval);
     }
 }
 
 function externInitializeConfigurations(string agentHostname, int agentPort, string samplerType,
-        decimal samplerParam, int reporterFlushInterval, int reporterBufferSize) = @java:Method {
+        decimal samplerParam, string samplerEndpoint, int samplerRefreshInterval) = @java:Method {
     'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
     name: "initializeConfigurations"
 } external;
+
+function externInitializeSamplerConfigurations(decimal samplerLowerBound, int samplerMaxOperations,
+        boolean samplerParentBased) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeSamplerConfigurations"
+} external;
+
+function externInitializeTailSamplingConfigurations(boolean tailSampling, int tailSamplingDecisionWait,
+        int tailSamplingLatencyThreshold, string[] tailSamplingAttributes, decimal tailSamplingProbability,
+        int tailSamplingMaxBufferedBytes) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeTailSamplingConfigurations"
+} external;
+
+function externInitializeSpanProcessorConfigurations(string spanProcessorType, string ringBufferWaitStrategy,
+        int reporterFlushInterval, int reporterExportTimeout, int reporterBufferSize, int reporterMaxExportBatchSize,
+        string reporterQueueOverflowPolicy, int reporterBlockTimeout, boolean adaptiveBatching,
+        int reporterTargetExportLatency, int reporterMaxBufferedBytes) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeSpanProcessorConfigurations"
+} external;
+
+function externInitializeExporterConfigurations(string exporterProtocol, int maxInFlightExports,
+        int maxInFlightExportBytes, string compression, boolean directMarshaling, int maxPacketSize,
+        string spoolDirectory, int spoolMaxBytes, string[] agentEndpoints, string exportThreads) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeExporterConfigurations"
+} external;
+
+function externInitializeExportRetryConfigurations(int exportMaxAttempts, int exportRetryInitialBackoff,
+        int exportRetryMaxBackoff, int circuitBreakerFailureThreshold, int circuitBreakerOpenDuration) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeExportRetryConfigurations"
+} external;
+
+function externInitializeSpanLimitsConfigurations(int spanMaxAttributes, int spanMaxEvents, int spanMaxLinks,
+        int spanMaxAttributeValueLength) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeSpanLimitsConfigurations"
+} external;
+
+function externInitializeChannelConfigurations(boolean channelWarmUp, int channelWarmUpTimeout,
+        int channelKeepAliveTime) = @java:Method {
+    'class: "io.ballerina.observe.trace.jaeger.JaegerTracerProvider",
+    name: "initializeChannelConfigurations"
+} external;
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+/**
+ * Spans shaped like the spans of a Ballerina HTTP resource function, shared by the benchmarks.
+ */
+final class BenchmarkSpans {
+    private static final String SERVICE_NAME = "/test";
+
+    private BenchmarkSpans() {
+    }
+
+    /**
+     * Creates sampled spans which have already ended.
+     *
+     * @param count the number of spans
+     * @return the ended spans
+     */
+    static List<ReadableSpan> createEndedSpans(int count) {
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.create(Attributes.of(stringKey("service.name"), SERVICE_NAME)))
+                .build();
+        Tracer tracer = tracerProvider.get("jaeger-benchmark");
+        List<ReadableSpan> spans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Span span = tracer.spanBuilder("get /sum")
+                    .setSpanKind(SpanKind.SERVER)
+                    .setAttribute("http.method", "GET")
+                    .setAttribute("http.url", "/test/sum?a=" + i)
+                    .setAttribute("http.status_code", 200L)
+                    .setAttribute("src.module", "ballerina/jaeger_test:0.1.0")
+                    .setAttribute("src.position", "01_http_svc_test.bal:22:5")
+                    .setAttribute("listener.name", "http")
+                    .startSpan();
+            span.addEvent("response sent");
+            span.end();
+            spans.add((ReadableSpan) span);
+        }
+        tracerProvider.close();
+        return spans;
+    }
+
+    /**
+     * Creates the data of sampled spans which have already ended.
+     *
+     * @param count the number of spans
+     * @return the span data
+     */
+    static List<SpanData> createSpanData(int count) {
+        List<SpanData> spans = new ArrayList<>(count);
+        for (ReadableSpan span : createEndedSpans(count)) {
+            spans.add(span.toSpanData());
+        }
+        return spans;
+    }
+
+    /**
+     * Span exporter which discards the spans, so that a benchmark only measures the code in front of the exporter. It
+     * also discards the encoded requests of the {@link OffHeapSpanProcessor}.
+     */
+    static final class DiscardingSpanExporter implements SpanExporter, OtlpRequestSender {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode sendEncoded(ByteBuffer request) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
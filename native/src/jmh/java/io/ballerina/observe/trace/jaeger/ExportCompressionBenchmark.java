@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.Codec;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of compressing an OTLP export request with the codecs of the gRPC exporters, to weigh the CPU time of
+ * each codec against the bytes it saves on the wire.
+ * <p>
+ * The request is encoded once from the {@link BenchmarkSpans}, then compressed through the codec registered on the
+ * channel. The {@code compressedBytes} and {@code uncompressedBytes} counters report the size of the request after
+ * and before compression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportCompressionBenchmark {
+
+    @Param({ExporterConfig.GZIP_COMPRESSION, ExporterConfig.ZSTD_COMPRESSION})
+    public String compression;
+
+    @Param({"64", "512"})
+    public int batchSize;
+
+    private byte[] request;
+    private Codec codec;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        TraceRequestMarshaler.create(BenchmarkSpans.createSpanData(batchSize)).writeBinaryTo(encoded);
+        request = encoded.toByteArray();
+        codec = ExportCompression.create(compression).getCodec();
+    }
+
+    /**
+     * Sizes of the last request compressed by a benchmark thread, reported by JMH next to the time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RequestSize {
+        public long compressedBytes;
+        public long uncompressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            compressedBytes = 0;
+            uncompressedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public long compress(RequestSize size) throws IOException {
+        CountingOutputStream compressed = new CountingOutputStream();
+        try (OutputStream stream = codec.compress(compressed)) {
+            stream.write(request);
+        }
+        size.compressedBytes = compressed.count;
+        size.uncompressedBytes = request.length;
+        return compressed.count;
+    }
+
+    /**
+     * Output stream which only counts the bytes written to it.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of exporting batches over gRPC to a slow collector, with many exports in flight on platform threads
+ * and on virtual threads.
+ * <p>
+ * With {@code platform} threads the batches are pipelined by the {@link PipelinedSpanExporter}, and with
+ * {@code virtual} threads each batch is exported on its own virtual thread by the {@link VirtualThreadSpanExporter},
+ * as configured by {@code exportThreads} and {@code maxInFlightExports}. The collector is a gRPC server in the
+ * benchmark JVM which answers each request after a delay, on a fixed number of threads. The {@code peakThreads}
+ * counter reports the largest number of live platform threads of the JVM seen during an iteration. Run with
+ * {@code -prof perf} on Linux to also compare the context switches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportThreadsBenchmark {
+    private static final String SERVICE_NAME = "opentelemetry.proto.collector.trace.v1.TraceService";
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final int BATCH_SIZE = 32;
+    private static final int MAX_IN_FLIGHT_EXPORTS = 256;
+    private static final long MAX_IN_FLIGHT_EXPORT_BYTES = 64L * 1024 * 1024;
+    private static final long RESPONSE_DELAY_MILLIS = 200;
+    private static final int EXPORT_TIMEOUT_MILLIS = 10000;
+
+    @Param({"platform", "virtual"})
+    public String exportThreads;
+
+    private List<SpanData> batch;
+    private ScheduledExecutorService responseScheduler;
+    private Server server;
+    private GrpcExportTransport transport;
+    private SpanExporter exporter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        batch = BenchmarkSpans.createSpanData(BATCH_SIZE);
+        responseScheduler = Executors.newSingleThreadScheduledExecutor();
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0))
+                .directExecutor()
+                .addService(createTraceService(responseScheduler))
+                .build()
+                .start();
+
+        ExportThreads threads = ExportThreads.fromName(exportThreads);
+        transport = new GrpcExportTransport("127.0.0.1", server.getPort(), ExporterConfig.NO_COMPRESSION, true,
+                threads, new ChannelConfig());
+        SpanExporter transportExporter = transport.createSpanExporter(EXPORT_TIMEOUT_MILLIS,
+                new ExportRetryConfig());
+        if (threads == ExportThreads.VIRTUAL) {
+            exporter = new VirtualThreadSpanExporter(transportExporter, MAX_IN_FLIGHT_EXPORTS, EXPORT_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            exporter = new PipelinedSpanExporter(transportExporter, MAX_IN_FLIGHT_EXPORTS,
+                    MAX_IN_FLIGHT_EXPORT_BYTES, EXPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        if (!transport.awaitConnection(EXPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("could not connect to the collector at " + transport.getEndpoint());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        exporter.shutdown().join(EXPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        transport.shutdown();
+        server.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        responseScheduler.shutdownNow();
+    }
+
+    /**
+     * Live platform threads seen by a benchmark thread, reported by JMH next to the throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCount {
+        public int peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakThreads = 0;
+        }
+    }
+
+    @Benchmark
+    public CompletableResultCode export(ThreadCount threadCount) {
+        // Returns once the batch is dispatched, waiting for a free slot while the exports in flight are at the limit
+        CompletableResultCode result = exporter.export(batch);
+        threadCount.peakThreads = Math.max(threadCount.peakThreads, THREADS.getThreadCount());
+        return result;
+    }
+
+    private static ServerServiceDefinition createTraceService(ScheduledExecutorService responseScheduler) {
+        MethodDescriptor<byte[], byte[]> exportMethod = MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "Export"))
+                .setRequestMarshaller(new BytesMarshaller())
+                .setResponseMarshaller(new BytesMarshaller())
+                .build();
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(exportMethod, ServerCalls.asyncUnaryCall((request, responseObserver) ->
+                        // An empty ExportTraceServiceResponse, sent without holding a thread during the delay
+                        responseScheduler.schedule(() -> {
+                            responseObserver.onNext(new byte[0]);
+                            responseObserver.onCompleted();
+                        }, RESPONSE_DELAY_MILLIS, TimeUnit.MILLISECONDS)))
+                .build();
+    }
+
+    /**
+     * Marshaller of the raw bytes of the messages, so that the collector does not decode the requests.
+     */
+    private static final class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
+import io.grpc.stub.ServerCalls;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of exporting a batch of spans to a local collector over loopback TCP and over a Unix domain socket, with
+ * the direct marshaling gRPC exporter.
+ * <p>
+ * The collector is a gRPC server in the benchmark JVM which discards the requests, so the time per export is the
+ * round trip through the transport. The Unix domain socket needs the epoll transport of the shaded Netty, which is
+ * only available on Linux, and its benchmarks fail in their setup on other platforms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportTransportBenchmark {
+    private static final String TCP_TRANSPORT = "tcp";
+    private static final String UNIX_TRANSPORT = "unix";
+    private static final String SERVICE_NAME = "opentelemetry.proto.collector.trace.v1.TraceService";
+    private static final int EXPORT_TIMEOUT_MILLIS = 10000;
+
+    @Param({TCP_TRANSPORT, UNIX_TRANSPORT})
+    public String transportType;
+
+    @Param({"1", "64"})
+    public int batchSize;
+
+    private List<SpanData> spans;
+    private Path socketDirectory;
+    private EventLoopGroup serverEventLoopGroup;
+    private Server server;
+    private GrpcExportTransport transport;
+    private SpanExporter exporter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        spans = BenchmarkSpans.createSpanData(batchSize);
+        NettyServerBuilder serverBuilder;
+        String hostname;
+        if (UNIX_TRANSPORT.equals(transportType)) {
+            if (!GrpcExportTransport.isUnixSocketAvailable()) {
+                throw new IllegalStateException("Unix domain sockets need the epoll transport, available on Linux");
+            }
+            socketDirectory = Files.createTempDirectory("jaeger-benchmark");
+            String socketPath = socketDirectory.resolve("collector.sock").toString();
+            serverEventLoopGroup = new EpollEventLoopGroup(1);
+            serverBuilder = NettyServerBuilder.forAddress(new DomainSocketAddress(socketPath))
+                    .channelType(EpollServerDomainSocketChannel.class)
+                    .bossEventLoopGroup(serverEventLoopGroup)
+                    .workerEventLoopGroup(serverEventLoopGroup);
+            hostname = "unix://" + socketPath;
+        } else {
+            serverBuilder = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0));
+            hostname = "127.0.0.1";
+        }
+        server = serverBuilder.addService(createTraceService()).build().start();
+        // The port is ignored for a Unix domain socket
+        int port = socketDirectory != null ? 0 : server.getPort();
+        transport = new GrpcExportTransport(hostname, port, ExporterConfig.NO_COMPRESSION, true,
+                ExportThreads.PLATFORM, new ChannelConfig());
+        exporter = transport.createSpanExporter(EXPORT_TIMEOUT_MILLIS, new ExportRetryConfig());
+        if (!transport.awaitConnection(EXPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("could not connect to the collector at " + transport.getEndpoint());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        exporter.shutdown().join(10, TimeUnit.SECONDS);
+        transport.shutdown();
+        server.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        if (serverEventLoopGroup != null) {
+            serverEventLoopGroup.shutdownGracefully().await(10, TimeUnit.SECONDS);
+        }
+        if (socketDirectory != null) {
+            Files.deleteIfExists(socketDirectory.resolve("collector.sock"));
+            Files.deleteIfExists(socketDirectory);
+        }
+    }
+
+    @Benchmark
+    public boolean export() {
+        CompletableResultCode result = exporter.export(spans).join(EXPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("failed to export to the collector at " + transport.getEndpoint());
+        }
+        return true;
+    }
+
+    private static ServerServiceDefinition createTraceService() {
+        MethodDescriptor<byte[], byte[]> exportMethod = MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "Export"))
+                .setRequestMarshaller(new BytesMarshaller())
+                .setResponseMarshaller(new BytesMarshaller())
+                .build();
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(exportMethod, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    // An empty ExportTraceServiceResponse
+                    responseObserver.onNext(new byte[0]);
+                    responseObserver.onCompleted();
+                }))
+                .build();
+    }
+
+    /**
+     * Marshaller of the raw bytes of the messages, so that the collector does not decode the requests.
+     */
+    private static final class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
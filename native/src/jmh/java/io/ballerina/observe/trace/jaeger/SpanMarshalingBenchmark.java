@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of encoding a batch of spans into an OTLP export request, with the marshalers of the OpenTelemetry
+ * exporter and with the direct marshaling of the {@link DirectOtlpGrpcSpanExporter} into a pooled direct buffer.
+ * <p>
+ * Run with the GC profiler, {@code gc.alloc.rate.norm} divided by the batch size gives the bytes allocated per
+ * exported span. The channel of the direct exporter is never connected, as only the encoding is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpanMarshalingBenchmark {
+    private static final OutputStream DISCARDING_STREAM = OutputStream.nullOutputStream();
+
+    @Param({"64", "512"})
+    public int batchSize;
+
+    private List<SpanData> spans;
+    private ManagedChannel channel;
+    private DirectOtlpGrpcSpanExporter directExporter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        spans = BenchmarkSpans.createSpanData(batchSize);
+        channel = NettyChannelBuilder.forTarget("127.0.0.1:4317").usePlaintext().build();
+        directExporter = new DirectOtlpGrpcSpanExporter(channel, 10, TimeUnit.SECONDS, ExportRetryPolicy.NO_RETRY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Benchmark
+    public int exporterMarshaling() throws IOException {
+        TraceRequestMarshaler marshaler = TraceRequestMarshaler.create(spans);
+        marshaler.writeBinaryTo(DISCARDING_STREAM);
+        return marshaler.getBinarySerializedSize();
+    }
+
+    @Benchmark
+    public int directMarshaling() {
+        ByteBuf request = directExporter.encode(spans);
+        try {
+            return request.readableBytes();
+        } finally {
+            request.release();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of ending spans concurrently into the SDK {@code BatchSpanProcessor} and the
+ * {@link RingBufferSpanProcessor}.
+ * <p>
+ * Both processors are configured with the same queue and batch sizes, and export to an exporter which discards the
+ * spans, so that the benchmark measures the cost paid by the threads ending the spans. When the worker falls behind,
+ * both drop the newest span.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpanProcessorBenchmark {
+    private static final String BATCH_PROCESSOR = "batch";
+    private static final int SPAN_COUNT = 1024;
+    private static final int MAX_QUEUE_SIZE = 2048;
+    private static final int MAX_EXPORT_BATCH_SIZE = 512;
+    private static final long SCHEDULE_DELAY_MILLIS = 100;
+
+    @Param({BATCH_PROCESSOR, RingBufferSpanProcessor.TYPE})
+    public String processorType;
+
+    private List<ReadableSpan> spans;
+    private SpanProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        spans = BenchmarkSpans.createEndedSpans(SPAN_COUNT);
+        BenchmarkSpans.DiscardingSpanExporter exporter = new BenchmarkSpans.DiscardingSpanExporter();
+        if (BATCH_PROCESSOR.equals(processorType)) {
+            processor = BatchSpanProcessor.builder(exporter)
+                    .setMaxQueueSize(MAX_QUEUE_SIZE)
+                    .setMaxExportBatchSize(MAX_EXPORT_BATCH_SIZE)
+                    .setScheduleDelay(SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        } else {
+            processor = RingBufferSpanProcessor.builder(exporter)
+                    .setMaxQueueSize(MAX_QUEUE_SIZE)
+                    .setMaxExportBatchSize(MAX_EXPORT_BATCH_SIZE)
+                    .setScheduleDelay(SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processor.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Position of a benchmark thread in the spans it ends.
+     */
+    @State(Scope.Thread)
+    public static class SpanCursor {
+        private int index;
+
+        int next() {
+            index = (index + 1) & (SPAN_COUNT - 1);
+            return index;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void endSpan(SpanCursor cursor) {
+        processor.onEnd(spans.get(cursor.next()));
+    }
+}
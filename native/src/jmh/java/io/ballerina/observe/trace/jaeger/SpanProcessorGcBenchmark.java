@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC pressure benchmark of creating and ending spans concurrently with the SDK {@code BatchSpanProcessor}, the
+ * {@link RingBufferSpanProcessor} and the {@link OffHeapSpanProcessor}.
+ * <p>
+ * Unlike {@link SpanProcessorBenchmark}, every operation creates a new span, so the spans held in the queues of the
+ * batch and ring buffer processors until they are exported survive young collections, while the off-heap processor
+ * only keeps their encoded bytes. Run with the GC profiler, which the build enables, and compare
+ * {@code gc.alloc.rate.norm}, {@code gc.count} and {@code gc.time} of the processors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// The heap size is fixed, so that the GC counts of the processors can be compared
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m"})
+@State(Scope.Benchmark)
+public class SpanProcessorGcBenchmark {
+    private static final String BATCH_PROCESSOR = "batch";
+    private static final int MAX_QUEUE_SIZE = 2048;
+    private static final int MAX_EXPORT_BATCH_SIZE = 512;
+    private static final long SCHEDULE_DELAY_MILLIS = 100;
+
+    @Param({BATCH_PROCESSOR, RingBufferSpanProcessor.TYPE, OffHeapSpanProcessor.TYPE})
+    public String processorType;
+
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSpans.DiscardingSpanExporter exporter = new BenchmarkSpans.DiscardingSpanExporter();
+        SpanProcessor processor;
+        if (BATCH_PROCESSOR.equals(processorType)) {
+            processor = BatchSpanProcessor.builder(exporter)
+                    .setMaxQueueSize(MAX_QUEUE_SIZE)
+                    .setMaxExportBatchSize(MAX_EXPORT_BATCH_SIZE)
+                    .setScheduleDelay(SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        } else if (RingBufferSpanProcessor.TYPE.equals(processorType)) {
+            processor = RingBufferSpanProcessor.builder(exporter)
+                    .setMaxQueueSize(MAX_QUEUE_SIZE)
+                    .setMaxExportBatchSize(MAX_EXPORT_BATCH_SIZE)
+                    .setScheduleDelay(SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        } else {
+            processor = OffHeapSpanProcessor.builder(exporter)
+                    .setMaxExportBatchSize(MAX_EXPORT_BATCH_SIZE)
+                    .setScheduleDelay(SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build();
+        }
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        tracer = tracerProvider.get("jaeger-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void createAndEndSpan() {
+        Span span = tracer.spanBuilder("get /sum")
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute("http.method", "GET")
+                .setAttribute("http.url", "/test/sum")
+                .setAttribute("http.status_code", 200L)
+                .setAttribute("src.module", "ballerina/jaeger_test:0.1.0")
+                .setAttribute("src.position", "01_http_svc_test.bal:22:5")
+                .setAttribute("listener.name", "http")
+                .startSpan();
+        span.addEvent("response sent");
+        span.end();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark of sampling root spans from 32 threads with the {@link PerOperationSampler}, compared with the
+ * probabilistic sampler of the SDK which keeps no state per operation.
+ * <p>
+ * With a single operation, all the threads spend the lower bound credits of the same operation. With more operations
+ * than {@link PerOperationSampler#DEFAULT_MAX_OPERATIONS}, the operations beyond the cap share the fallback sampler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerOperationSamplerBenchmark {
+    private static final double SAMPLING_PROBABILITY = 0.001;
+    private static final double LOWER_BOUND_TRACES_PER_SECOND = 10;
+    private static final int TRACE_ID_COUNT = 1024;
+
+    @Param({"1", "100", "4000"})
+    public int operationCount;
+
+    private String[] operations;
+    private String[] traceIds;
+    private Sampler perOperationSampler;
+    private Sampler probabilisticSampler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        operations = new String[operationCount];
+        for (int i = 0; i < operationCount; i++) {
+            operations[i] = "get /resource" + i;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        traceIds = new String[TRACE_ID_COUNT];
+        for (int i = 0; i < TRACE_ID_COUNT; i++) {
+            traceIds[i] = TraceId.fromLongs(random.nextLong(), random.nextLong());
+        }
+        perOperationSampler = new PerOperationSampler(SAMPLING_PROBABILITY, LOWER_BOUND_TRACES_PER_SECOND, Map.of(),
+                PerOperationSampler.DEFAULT_MAX_OPERATIONS);
+        probabilisticSampler = Sampler.traceIdRatioBased(SAMPLING_PROBABILITY);
+    }
+
+    /**
+     * Position of a benchmark thread in the operations and the trace IDs it samples.
+     */
+    @State(Scope.Thread)
+    public static class SpanCursor {
+        private final SplittableRandom random = new SplittableRandom();
+
+        int nextOperation(int operationCount) {
+            return operationCount == 1 ? 0 : random.nextInt(operationCount);
+        }
+
+        int nextTraceId() {
+            return random.nextInt(TRACE_ID_COUNT);
+        }
+    }
+
+    @Benchmark
+    @Threads(32)
+    public SamplingResult perOperationSampler(SpanCursor cursor) {
+        return sample(perOperationSampler, cursor);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public SamplingResult probabilisticSampler(SpanCursor cursor) {
+        return sample(probabilisticSampler, cursor);
+    }
+
+    private SamplingResult sample(Sampler sampler, SpanCursor cursor) {
+        return sampler.shouldSample(Context.root(), traceIds[cursor.nextTraceId()],
+                operations[cursor.nextOperation(operationCount)], SpanKind.SERVER, Attributes.empty(), List.of());
+    }
+}
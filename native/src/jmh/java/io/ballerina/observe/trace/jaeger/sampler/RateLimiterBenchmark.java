@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.sampler;
+
+import io.opentelemetry.sdk.common.Clock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of spending rate limiter credits from 32 threads with the shared {@link RateLimiter} and the
+ * {@link StripedRateLimiter}.
+ * <p>
+ * The {@code acquired} counter reports the rate of the credits actually spent, summed over the threads, to compare
+ * with the configured rate: the striped limiter allows between 15/16 of the configured rate and the configured rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    private static final String SHARED_LIMITER = "shared";
+    private static final String STRIPED_LIMITER = "striped";
+
+    @Param({SHARED_LIMITER, STRIPED_LIMITER})
+    public String limiterType;
+
+    @Param({"100", "100000"})
+    public int creditsPerSecond;
+
+    private RateLimiter sharedLimiter;
+    private StripedRateLimiter stripedLimiter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The balance matches the one of the rate limiting sampler
+        double maxBalance = Math.max(creditsPerSecond, 1.0);
+        if (SHARED_LIMITER.equals(limiterType)) {
+            sharedLimiter = new RateLimiter(creditsPerSecond, maxBalance, Clock.getDefault());
+        } else {
+            stripedLimiter = new StripedRateLimiter(creditsPerSecond, maxBalance, Clock.getDefault());
+        }
+    }
+
+    /**
+     * Credits spent by a benchmark thread, reported by JMH as a rate next to the throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Credits {
+        public long acquired;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            acquired = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean tryAcquire(Credits credits) {
+        boolean isAcquired = sharedLimiter != null ? sharedLimiter.checkCredit(1.0) : stripedLimiter.tryAcquire();
+        if (isAcquired) {
+            credits.acquired++;
+        }
+        return isAcquired;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller tuning the batch size and the flush interval of a span processor from the observed exports.
+ * <p>
+ * The batch size follows additive increase and multiplicative decrease: it grows by a step after each full batch
+ * exported within the target latency, by two steps while spans are backing up in the queue, and is halved when an
+ * export fails or takes longer than the target. It is further capped so that the estimated size of a batch stays
+ * under the default 4 MiB message limit of gRPC servers.
+ * The flush interval follows the export latency, so that the exporter is busy for at most a quarter of the time when
+ * the traffic is low, and it doubles after a failed export. The configured batch size and flush interval are the
+ * upper bounds of both values.
+ * <p>
+ * The controller is updated by the threads completing the exports, one export at a time, while the chosen values can
+ * be read from any thread.
+ */
+final class AdaptiveBatchController {
+    static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+
+    private static final long MIN_FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MIN_BATCH_DIVISOR = 32;
+    private static final int BATCH_STEP_DIVISOR = 64;
+    private static final int LATENCY_TO_INTERVAL_RATIO = 4;
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final boolean adaptive;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int batchSizeStep;
+    private final long minFlushIntervalNanos;
+    private final long maxFlushIntervalNanos;
+    private final long targetLatencyNanos;
+
+    private volatile int batchSize;
+    private volatile long flushIntervalNanos;
+    private double averageLatencyNanos;
+    private double averageSpanBytes;
+
+    /**
+     * Creates a controller.
+     *
+     * @param adaptive           whether the values are tuned, or stay at their upper bounds
+     * @param maxBatchSize       the upper bound of the batch size
+     * @param maxFlushInterval   the upper bound of the flush interval
+     * @param targetLatency      the export latency the batch size is tuned for
+     * @param unit               the unit of the flush interval and the target latency
+     */
+    AdaptiveBatchController(boolean adaptive, int maxBatchSize, long maxFlushInterval, long targetLatency,
+                            TimeUnit unit) {
+        this.adaptive = adaptive;
+        this.maxBatchSize = maxBatchSize;
+        this.minBatchSize = Math.max(1, maxBatchSize / MIN_BATCH_DIVISOR);
+        this.batchSizeStep = Math.max(1, maxBatchSize / BATCH_STEP_DIVISOR);
+        this.maxFlushIntervalNanos = unit.toNanos(maxFlushInterval);
+        this.minFlushIntervalNanos = Math.min(maxFlushIntervalNanos, MIN_FLUSH_INTERVAL_NANOS);
+        this.targetLatencyNanos = unit.toNanos(targetLatency);
+        this.batchSize = maxBatchSize;
+        this.flushIntervalNanos = maxFlushIntervalNanos;
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Updates the batch size and the flush interval after an export.
+     *
+     * @param spanCount    the number of spans in the batch
+     * @param batchBytes   the estimated encoded size of the batch
+     * @param latencyNanos the time taken by the export
+     * @param success      whether the export succeeded
+     * @param queueDepth   the number of spans left in the queue
+     */
+    synchronized void onExport(int spanCount, long batchBytes, long latencyNanos, boolean success, int queueDepth) {
+        if (!adaptive || spanCount == 0) {
+            return;
+        }
+        averageLatencyNanos = smooth(averageLatencyNanos, latencyNanos);
+        averageSpanBytes = smooth(averageSpanBytes, (double) batchBytes / spanCount);
+
+        int newBatchSize = batchSize;
+        long newFlushInterval;
+        if (!success || latencyNanos > targetLatencyNanos) {
+            newBatchSize = newBatchSize / 2;
+        } else if (spanCount >= newBatchSize) {
+            newBatchSize = newBatchSize + (queueDepth >= newBatchSize ? 2 * batchSizeStep : batchSizeStep);
+        }
+        int byteLimitedBatchSize = (int) Math.min(Integer.MAX_VALUE, (long) (MAX_BATCH_BYTES / averageSpanBytes));
+        batchSize = clamp(Math.min(newBatchSize, byteLimitedBatchSize), minBatchSize, maxBatchSize);
+
+        if (success) {
+            newFlushInterval = (long) (averageLatencyNanos * LATENCY_TO_INTERVAL_RATIO);
+        } else {
+            newFlushInterval = flushIntervalNanos * 2;
+        }
+        flushIntervalNanos = Math.max(minFlushIntervalNanos, Math.min(maxFlushIntervalNanos, newFlushInterval));
+    }
+
+    private static double smooth(double average, double sample) {
+        return average == 0 ? sample : average + SMOOTHING_FACTOR * (sample - average);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    long getFlushIntervalNanos() {
+        return flushIntervalNanos;
+    }
+
+    int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Snapshot of an ended span held in a span processor queue together with the memory it reserved in a
+ * {@link SpanMemoryBudget}.
+ */
+final class BufferedSpan implements ReadableSpan {
+    private final SpanData spanData;
+    private final int size;
+
+    BufferedSpan(SpanData spanData, int size) {
+        this.spanData = spanData;
+        this.size = size;
+    }
+
+    /**
+     * Returns the memory reserved by a queued span.
+     *
+     * @param span the queued span
+     * @return the estimated size reserved by the span, or zero if it did not reserve any memory
+     */
+    static int sizeOf(ReadableSpan span) {
+        return span instanceof BufferedSpan ? ((BufferedSpan) span).size : 0;
+    }
+
+    @Override
+    public SpanContext getSpanContext() {
+        return spanData.getSpanContext();
+    }
+
+    @Override
+    public SpanContext getParentSpanContext() {
+        return spanData.getParentSpanContext();
+    }
+
+    @Override
+    public String getName() {
+        return spanData.getName();
+    }
+
+    @Override
+    public SpanData toSpanData() {
+        return spanData;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return spanData.getInstrumentationLibraryInfo();
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+        return spanData.getInstrumentationScopeInfo();
+    }
+
+    @Override
+    public boolean hasEnded() {
+        return true;
+    }
+
+    @Override
+    public long getLatencyNanos() {
+        return spanData.getEndEpochNanos() - spanData.getStartEpochNanos();
+    }
+
+    @Override
+    public SpanKind getKind() {
+        return spanData.getKind();
+    }
+
+    @Override
+    public <T> T getAttribute(AttributeKey<T> key) {
+        return spanData.getAttributes().get(key);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ManagedChannelBuilder;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Connection settings of the gRPC channels to the collector, read from the Jaeger extension configurations.
+ */
+class ChannelConfig {
+    static final int NO_KEEP_ALIVE = 0;
+
+    private static final PrintStream console = System.out;
+    private static final int DEFAULT_WARM_UP_TIMEOUT = 5000;
+    // Idle timeouts of 30 days or more disable the idle mode of gRPC channels
+    private static final long IDLE_TIMEOUT_DISABLED_DAYS = 30;
+
+    private final boolean warmUp;
+    private final int warmUpTimeout;
+    private final int keepAliveTime;
+
+    ChannelConfig() {
+        this(false, DEFAULT_WARM_UP_TIMEOUT, NO_KEEP_ALIVE);
+    }
+
+    ChannelConfig(boolean warmUp, int warmUpTimeout, int keepAliveTime) {
+        this.warmUp = warmUp;
+        this.warmUpTimeout = positiveOrDefault("channelWarmUpTimeout", warmUpTimeout, DEFAULT_WARM_UP_TIMEOUT);
+        if (keepAliveTime < 0) {
+            ConfigUtils.printInvalidConfiguration("channelKeepAliveTime", String.valueOf(keepAliveTime),
+                    String.valueOf(NO_KEEP_ALIVE));
+            this.keepAliveTime = NO_KEEP_ALIVE;
+        } else {
+            this.keepAliveTime = keepAliveTime;
+        }
+    }
+
+    /**
+     * Makes the channel send keep alive pings while it is idle, and keeps the channel connected between exports
+     * instead of closing its connection after 30 minutes without calls.
+     *
+     * @param channelBuilder the builder of the channel
+     */
+    void configureChannel(ManagedChannelBuilder<?> channelBuilder) {
+        if (keepAliveTime == NO_KEEP_ALIVE) {
+            return;
+        }
+        channelBuilder
+                .keepAliveTime(keepAliveTime, TimeUnit.MILLISECONDS)
+                .keepAliveWithoutCalls(true)
+                .idleTimeout(IDLE_TIMEOUT_DISABLED_DAYS, TimeUnit.DAYS);
+    }
+
+    /**
+     * Connects the transport to the collector ahead of the first export when warm-up is enabled, waiting up to the
+     * warm-up timeout for the connection and reporting how long it took. The transport keeps connecting in the
+     * background when the timeout expires.
+     *
+     * @param transport the transport to the collector
+     */
+    void warmUp(ExportTransport transport) {
+        if (!warmUp) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        if (!transport.requestConnection()) {
+            return;
+        }
+        if (transport.awaitConnection(warmUpTimeout, TimeUnit.MILLISECONDS)) {
+            long connectTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            console.println("ballerina: connected to Jaeger on " + transport.getEndpoint() + " in " + connectTime
+                    + " ms");
+        } else {
+            console.println("error: failed to connect to Jaeger on " + transport.getEndpoint() + " within "
+                    + warmUpTimeout + " ms. connecting in the background");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * Span exporter which fails exports without sending them while the {@link ExportCircuitBreaker} is open, and reports
+ * the result of each export it sends to the breaker. Encoded requests are guarded the same way when the delegate is an
+ * {@link OtlpRequestSender}.
+ */
+class CircuitBreakingSpanExporter implements SpanExporter, OtlpRequestSender {
+    private final SpanExporter delegate;
+    private final OtlpRequestSender encodedDelegate;
+    private final ExportCircuitBreaker circuitBreaker;
+
+    CircuitBreakingSpanExporter(SpanExporter delegate, ExportCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.encodedDelegate = OtlpRequestSender.of(delegate);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result;
+        try {
+            result = delegate.export(spans);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        return track(result);
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result;
+        try {
+            result = encodedDelegate.sendEncoded(request);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        return track(result);
+    }
+
+    @Override
+    public boolean canSendEncoded() {
+        return encodedDelegate.canSendEncoded();
+    }
+
+    private CompletableResultCode track(CompletableResultCode result) {
+        result.whenComplete(() -> {
+            if (result.isSuccess()) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    ExportCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
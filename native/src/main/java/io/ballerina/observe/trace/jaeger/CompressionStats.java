@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compression ratios achieved on the export requests sent to a collector.
+ * <p>
+ * Each compressed export request is recorded as one batch. This class does not depend on gRPC, so that the HTTP
+ * exporter can record its ratios without loading gRPC classes.
+ */
+final class CompressionStats {
+    private final LongAdder compressedBatches = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private volatile double lastCompressionRatio = 1;
+
+    /**
+     * Publishes the compression ratios of the requests sent to the given endpoint to the Ballerina metrics registry.
+     *
+     * @param endpoint the endpoint of the collector
+     */
+    void registerMetrics(String endpoint) {
+        JaegerMetrics.register("export_compression_ratio", "Ratio between the uncompressed and the compressed size "
+                + "of all the export requests", "endpoint", endpoint, this, CompressionStats::getCompressionRatio);
+        JaegerMetrics.register("export_last_compression_ratio", "Ratio between the uncompressed and the compressed "
+                + "size of the last export request", "endpoint", endpoint, this,
+                CompressionStats::getLastCompressionRatio);
+        JaegerMetrics.register("export_compressed_batches", "Export requests compressed", "endpoint", endpoint,
+                this, CompressionStats::getCompressedBatches);
+    }
+
+    /**
+     * Records a compressed export request.
+     *
+     * @param uncompressed the size of the request before compression
+     * @param compressed   the size of the request after compression
+     */
+    void record(long uncompressed, long compressed) {
+        compressedBatches.increment();
+        uncompressedBytes.add(uncompressed);
+        compressedBytes.add(compressed);
+        if (compressed > 0) {
+            lastCompressionRatio = (double) uncompressed / compressed;
+        }
+    }
+
+    long getCompressedBatches() {
+        return compressedBatches.sum();
+    }
+
+    long getUncompressedBytes() {
+        return uncompressedBytes.sum();
+    }
+
+    long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Returns the ratio between the uncompressed and the compressed size of the last export request.
+     *
+     * @return the compression ratio of the last batch
+     */
+    double getLastCompressionRatio() {
+        return lastCompressionRatio;
+    }
+
+    /**
+     * Returns the ratio between the uncompressed and the compressed size of all the export requests.
+     *
+     * @return the overall compression ratio
+     */
+    double getCompressionRatio() {
+        long compressed = compressedBytes.sum();
+        return compressed == 0 ? 1 : (double) uncompressedBytes.sum() / compressed;
+    }
+}
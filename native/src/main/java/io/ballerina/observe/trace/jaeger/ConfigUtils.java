@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.io.PrintStream;
+
+/**
+ * Helpers for validating the Jaeger extension configurations.
+ */
+final class ConfigUtils {
+    private static final PrintStream console = System.out;
+    private static final String UNIX_SCHEME = "unix://";
+
+    private ConfigUtils() {
+    }
+
+    /**
+     * Returns the configured value if it is positive, or reports the invalid value and returns the default.
+     *
+     * @param name         the name of the configuration
+     * @param value        the configured value
+     * @param defaultValue the value to use if the configured value is invalid
+     * @return the value to use
+     */
+    static int positiveOrDefault(String name, int value, int defaultValue) {
+        if (value > 0) {
+            return value;
+        }
+        printInvalidConfiguration(name, String.valueOf(value), String.valueOf(defaultValue));
+        return defaultValue;
+    }
+
+    /**
+     * Returns whether the given hostname is a {@code unix://} endpoint naming a Unix domain socket.
+     *
+     * @param hostname the configured hostname
+     * @return whether the hostname names a Unix domain socket
+     */
+    static boolean isUnixEndpoint(String hostname) {
+        return hostname.startsWith(UNIX_SCHEME);
+    }
+
+    /**
+     * Returns the path of the socket named by a {@code unix://} endpoint, which is empty when none is given.
+     *
+     * @param hostname the {@code unix://} endpoint
+     * @return the path of the socket
+     */
+    static String getUnixSocketPath(String hostname) {
+        return hostname.substring(UNIX_SCHEME.length());
+    }
+
+    static void printInvalidConfiguration(String name, String value, String defaultValue) {
+        console.println("error: invalid Jaeger configuration " + name + ": " + value + ". using default "
+                + defaultValue);
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base of the gRPC span exporters which encode the spans directly into pooled direct buffers.
+ * <p>
+ * Subclasses encode each request into a direct buffer of the exact request size taken from the pooled Netty
+ * allocator, and the buffer is given to the channel as a {@link Drainable} message of known length. gRPC then drains
+ * it into its transport buffers in one pass and the buffer goes back to the pool once the call completes, so
+ * exporting a batch allocates no per span objects on the heap. Responses are skipped without being parsed.
+ * <p>
+ * A request which fails with a retryable status is sent again from the same buffer following the
+ * {@link ExportRetryPolicy}, and the buffer is released once the request succeeds or runs out of attempts. A request
+ * which fails with another status is recorded as rejected.
+ */
+abstract class DirectGrpcSpanExporter implements SpanExporter, RejectionReportingExporter {
+    private static final Logger logger = Logger.getLogger(DirectGrpcSpanExporter.class.getName());
+
+    private final ManagedChannel channel;
+    private final MethodDescriptor<ByteBuf, Object> method;
+    private final long timeoutNanos;
+    private final ExportRetryPolicy retryPolicy;
+    private final ByteBufAllocator allocator;
+    private final Set<CompletableResultCode> inFlightResults = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableResultCode> rejectedResults = RejectionReportingExporter.newRejectedResults();
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder exportedBytes = new LongAdder();
+    private final LongAdder failedExports = new LongAdder();
+    private final LongAdder retriedExports = new LongAdder();
+
+    DirectGrpcSpanExporter(ManagedChannel channel, MethodDescriptor<ByteBuf, Object> method, long timeout,
+                           TimeUnit unit, ExportRetryPolicy retryPolicy, ByteBufAllocator allocator) {
+        this.channel = channel;
+        this.method = method;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.retryPolicy = retryPolicy;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Returns whether a failed call may succeed when sent again. These are the codes which the OTLP specification
+     * marks as retryable, and which the Jaeger collector returns when it is overloaded or unreachable.
+     *
+     * @param code the status code of the failed call
+     * @return true if the request should be retried
+     */
+    static boolean isRetryable(Status.Code code) {
+        switch (code) {
+            case CANCELLED:
+            case DEADLINE_EXCEEDED:
+            case RESOURCE_EXHAUSTED:
+            case ABORTED:
+            case OUT_OF_RANGE:
+            case UNAVAILABLE:
+            case DATA_LOSS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Creates the descriptor of a unary method which sends pre-encoded requests and skips the responses.
+     *
+     * @param serviceName the full name of the gRPC service
+     * @param methodName  the name of the method
+     * @return the method descriptor
+     */
+    static MethodDescriptor<ByteBuf, Object> unaryMethod(String serviceName, String methodName) {
+        return MethodDescriptor.<ByteBuf, Object>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName, methodName))
+                .setRequestMarshaller(new RequestMarshaller())
+                .setResponseMarshaller(new ResponseMarshaller())
+                .build();
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result = exportSpans(spans);
+        int spanCount = spans.size();
+        result.whenComplete(() -> {
+            if (result.isSuccess()) {
+                exportedSpans.add(spanCount);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Encodes the spans and sends them with one or more calls to {@link #exportEncoded(ByteBuf)}.
+     *
+     * @param spans the spans to export
+     * @return the result of the export
+     */
+    abstract CompletableResultCode exportSpans(Collection<SpanData> spans);
+
+    /**
+     * Allocates a pooled direct buffer of exactly the given size for an encoded request.
+     *
+     * @param size the size of the request
+     * @return the buffer, which the caller must release or pass to {@link #exportEncoded(ByteBuf)}
+     */
+    ByteBuf allocate(int size) {
+        return allocator.directBuffer(size, size);
+    }
+
+    /**
+     * Sends an already encoded request to the collector. The exporter takes the ownership of the buffer and releases
+     * it once the request succeeds or fails for good.
+     *
+     * @param request the buffer holding the encoded request
+     * @return the result of the export
+     */
+    CompletableResultCode exportEncoded(ByteBuf request) {
+        CompletableResultCode result = new CompletableResultCode();
+        inFlightResults.add(result);
+        send(request, result, 1);
+        return result;
+    }
+
+    private void send(ByteBuf request, CompletableResultCode result, int attempt) {
+        if (attempt > 1 && isShutdown.get()) {
+            complete(request, result, false);
+            return;
+        }
+        int requestSize = request.readableBytes();
+        ClientCall<ByteBuf, Object> call = channel.newCall(method,
+                CallOptions.DEFAULT.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS));
+        boolean started = false;
+        try {
+            call.start(new ClientCall.Listener<Object>() {
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    if (status.isOk()) {
+                        exportedBytes.add(requestSize);
+                        complete(request, result, true);
+                    } else if (isRetryable(status.getCode()) && retryPolicy.canRetry(attempt) && !isShutdown.get()) {
+                        retriedExports.increment();
+                        logger.log(Level.FINE, "retrying the span export request after attempt " + attempt + ": "
+                                + status);
+                        retryPolicy.scheduleRetry(attempt, () -> send(request, result, attempt + 1));
+                    } else {
+                        logger.log(Level.FINE, "failed to export spans: " + status);
+                        if (!isRetryable(status.getCode())) {
+                            rejectedResults.add(result);
+                        }
+                        complete(request, result, false);
+                    }
+                }
+            }, new Metadata());
+            started = true;
+            call.request(1);
+            call.sendMessage(request);
+            call.halfClose();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "failed to send the span export request", e);
+            if (started) {
+                // Cancelling closes the call, which completes the request
+                call.cancel("failed to send the span export request", e);
+            } else {
+                complete(request, result, false);
+            }
+        }
+    }
+
+    private void complete(ByteBuf request, CompletableResultCode result, boolean success) {
+        request.release();
+        inFlightResults.remove(result);
+        if (success) {
+            result.succeed();
+        } else {
+            failedExports.increment();
+            result.fail();
+        }
+    }
+
+    @Override
+    public boolean isRejected(CompletableResultCode result) {
+        return rejectedResults.contains(result);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofAll(new ArrayList<>(inFlightResults));
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        // The channel is owned by the span pipeline, which closes it after the processor is shut down
+        return flush();
+    }
+
+    /**
+     * Publishes the exported spans and bytes and the failed and retried exports to the Ballerina metrics registry.
+     *
+     * @param endpoint the endpoint of the collector
+     */
+    void registerMetrics(String endpoint) {
+        JaegerMetrics.register("exported_spans", "Spans accepted by the collector", "endpoint", endpoint,
+                this, DirectGrpcSpanExporter::getExportedSpans);
+        JaegerMetrics.register("exported_bytes", "Bytes of the export requests accepted by the collector",
+                "endpoint", endpoint, this, DirectGrpcSpanExporter::getExportedBytes);
+        JaegerMetrics.register("failed_exports", "Export requests failed after their last attempt", "endpoint",
+                endpoint, this, DirectGrpcSpanExporter::getFailedExports);
+        JaegerMetrics.register("retried_exports", "Export requests attempted again after a retryable failure",
+                "endpoint", endpoint, this, DirectGrpcSpanExporter::getRetriedExports);
+    }
+
+    long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    long getExportedBytes() {
+        return exportedBytes.sum();
+    }
+
+    long getFailedExports() {
+        return failedExports.sum();
+    }
+
+    long getRetriedExports() {
+        return retriedExports.sum();
+    }
+
+    private static final class RequestMarshaller implements MethodDescriptor.Marshaller<ByteBuf> {
+        @Override
+        public InputStream stream(ByteBuf value) {
+            // A duplicate keeps the read position of each stream independent of the buffer owned by the call
+            return new ByteBufInputStream(value.duplicate());
+        }
+
+        @Override
+        public ByteBuf parse(InputStream stream) {
+            throw new UnsupportedOperationException("export requests are only sent by the exporter");
+        }
+    }
+
+    /**
+     * Marshaller of the export response. The partial success details of the response are not used, so the response
+     * is skipped and replaced with a marker object.
+     */
+    private static final class ResponseMarshaller implements MethodDescriptor.Marshaller<Object> {
+        private static final Object RESPONSE = new Object();
+
+        @Override
+        public InputStream stream(Object value) {
+            throw new UnsupportedOperationException("export responses are only received by the exporter");
+        }
+
+        @Override
+        public Object parse(InputStream stream) {
+            try (stream) {
+                while (stream.skip(Long.MAX_VALUE) > 0) {
+                    // Skip the whole response
+                }
+            } catch (IOException e) {
+                logger.log(Level.FINE, "failed to read the export response", e);
+            }
+            return RESPONSE;
+        }
+    }
+
+    private static final class ByteBufInputStream extends InputStream implements Drainable, KnownLength {
+        private final ByteBuf buffer;
+
+        private ByteBufInputStream(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = buffer.readableBytes();
+            buffer.readBytes(target, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return buffer.readableBytes();
+        }
+
+        @Override
+        public int read() {
+            return buffer.isReadable() ? buffer.readUnsignedByte() : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            int readable = buffer.readableBytes();
+            if (readable == 0) {
+                return -1;
+            }
+            int count = Math.min(readable, length);
+            buffer.readBytes(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OTLP gRPC span exporter which encodes each batch with an {@link OtlpSpanEncoder} into a pooled direct buffer.
+ */
+class DirectOtlpGrpcSpanExporter extends DirectGrpcSpanExporter implements OtlpRequestSender {
+    private static final MethodDescriptor<ByteBuf, Object> EXPORT_METHOD =
+            unaryMethod("opentelemetry.proto.collector.trace.v1.TraceService", "Export");
+
+    private final OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+
+    DirectOtlpGrpcSpanExporter(ManagedChannel channel, long timeout, TimeUnit unit, ExportRetryPolicy retryPolicy) {
+        this(channel, timeout, unit, retryPolicy, PooledByteBufAllocator.DEFAULT);
+    }
+
+    DirectOtlpGrpcSpanExporter(ManagedChannel channel, long timeout, TimeUnit unit, ExportRetryPolicy retryPolicy,
+                               ByteBufAllocator allocator) {
+        super(channel, EXPORT_METHOD, timeout, unit, retryPolicy, allocator);
+    }
+
+    @Override
+    CompletableResultCode exportSpans(Collection<SpanData> spans) {
+        return exportEncoded(encode(spans));
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        ByteBuf buffer = allocate(request.remaining());
+        buffer.writeBytes(request.duplicate());
+        return exportEncoded(buffer);
+    }
+
+    /**
+     * Encodes a batch of spans into an OTLP export request held in a pooled direct buffer.
+     *
+     * @param spans the spans to encode
+     * @return the buffer holding the request, which the caller must release
+     */
+    ByteBuf encode(Collection<SpanData> spans) {
+        // The encoder reuses its scratch state, so batches are encoded one at a time
+        synchronized (encoder) {
+            int size = encoder.prepare(spans);
+            ByteBuf buffer = allocate(size);
+            try {
+                encoder.writeTo(buffer.nioBuffer(0, size));
+                buffer.writerIndex(size);
+                return buffer;
+            } catch (RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.lengthDelimitedFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeLengthDelimitedHeader;
+
+/**
+ * Assembler of OTLP {@code ExportTraceServiceRequest} messages from the encoded span records of a {@link SpanArena}.
+ * <p>
+ * A batch takes the oldest records of the arena, groups them by resource and instrumentation scope, and writes the
+ * request by concatenating the encoded fields of each {@link EncodedSpanScopes.Scope} and the record regions into a
+ * direct buffer which is reused across batches. The records stay in the arena until the batch is released. A batch
+ * is only used by the worker of the processor.
+ */
+final class EncodedSpanBatch {
+    // ExportTraceServiceRequest
+    private static final int REQUEST_RESOURCE_SPANS = 1;
+    // ResourceSpans
+    private static final int RESOURCE_SPANS_SCOPE_SPANS = 2;
+    // ScopeSpans
+    private static final int SCOPE_SPANS_SPANS = 2;
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int INITIAL_REQUEST_CAPACITY = 64 * 1024;
+
+    private final SpanArena arena;
+    private final EncodedSpanScopes scopes;
+
+    private long[] records = new long[INITIAL_CAPACITY];
+    private int[] recordTags = new int[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int count = 0;
+    private long end;
+
+    private int[] scopeStarts = new int[1];
+    private int[] scopeSizes = new int[0];
+    private int[] resourceSizes = new int[0];
+    private ByteBuffer request = ByteBuffer.allocateDirect(INITIAL_REQUEST_CAPACITY);
+
+    EncodedSpanBatch(SpanArena arena, EncodedSpanScopes scopes) {
+        this.arena = arena;
+        this.scopes = scopes;
+    }
+
+    /**
+     * Takes the oldest records of the arena into the batch. At least one record is taken when the arena has any, even
+     * if it is larger than the byte limit.
+     *
+     * @param maxSpans the maximum number of records to take
+     * @param maxBytes the maximum total size of the records to take
+     * @return the number of records in the batch
+     */
+    int collect(int maxSpans, long maxBytes) {
+        count = 0;
+        long limit = arena.getWritePosition();
+        long position = arena.getReadPosition();
+        long bytes = 0;
+        while (count < maxSpans) {
+            long record = arena.nextRecord(position, limit);
+            if (record == limit) {
+                position = limit;
+                break;
+            }
+            int size = arena.getRecordSize(record);
+            if (count > 0 && bytes + size > maxBytes) {
+                break;
+            }
+            if (count == records.length) {
+                records = Arrays.copyOf(records, count * 2);
+                recordTags = Arrays.copyOf(recordTags, count * 2);
+                order = Arrays.copyOf(order, count * 2);
+            }
+            records[count] = record;
+            recordTags[count] = arena.getRecordTag(record);
+            count++;
+            bytes += size;
+            position = arena.getRecordEnd(record);
+        }
+        end = position;
+        return count;
+    }
+
+    /**
+     * Writes the request holding the spans of the batch.
+     *
+     * @return the request, between the position and the limit of a buffer which is reused by the next batch
+     */
+    ByteBuffer encode() {
+        int scopeCount = scopes.size();
+        groupByScope(scopeCount);
+        int resourceCount = 0;
+        for (int i = 0; i < scopeCount; i++) {
+            resourceCount = Math.max(resourceCount, scopes.get(i).resourceId + 1);
+        }
+        if (resourceSizes.length < resourceCount) {
+            resourceSizes = new int[resourceCount];
+        }
+        Arrays.fill(resourceSizes, 0, resourceCount, 0);
+        for (int i = 0; i < scopeCount; i++) {
+            if (scopeSizes[i] > 0) {
+                EncodedSpanScopes.Scope scope = scopes.get(i);
+                if (resourceSizes[scope.resourceId] == 0) {
+                    resourceSizes[scope.resourceId] = scope.resourceSpansHeader.length;
+                }
+                resourceSizes[scope.resourceId] += lengthDelimitedFieldSize(RESOURCE_SPANS_SCOPE_SPANS,
+                        scope.scopeSpansHeader.length + scopeSizes[i]);
+            }
+        }
+        int requestSize = 0;
+        for (int i = 0; i < resourceCount; i++) {
+            if (resourceSizes[i] > 0) {
+                requestSize += lengthDelimitedFieldSize(REQUEST_RESOURCE_SPANS, resourceSizes[i]);
+            }
+        }
+
+        if (request.capacity() < requestSize) {
+            request = ByteBuffer.allocateDirect(Math.max(requestSize, request.capacity() * 2));
+        }
+        request.clear();
+        for (int resourceId = 0; resourceId < resourceCount; resourceId++) {
+            if (resourceSizes[resourceId] == 0) {
+                continue;
+            }
+            writeLengthDelimitedHeader(request, REQUEST_RESOURCE_SPANS, resourceSizes[resourceId]);
+            boolean isHeaderWritten = false;
+            for (int i = 0; i < scopeCount; i++) {
+                EncodedSpanScopes.Scope scope = scopes.get(i);
+                if (scope.resourceId != resourceId || scopeSizes[i] == 0) {
+                    continue;
+                }
+                if (!isHeaderWritten) {
+                    request.put(scope.resourceSpansHeader);
+                    isHeaderWritten = true;
+                }
+                writeLengthDelimitedHeader(request, RESOURCE_SPANS_SCOPE_SPANS,
+                        scope.scopeSpansHeader.length + scopeSizes[i]);
+                request.put(scope.scopeSpansHeader);
+                for (int j = scopeStarts[i]; j < scopeStarts[i + 1]; j++) {
+                    long record = records[order[j]];
+                    writeLengthDelimitedHeader(request, SCOPE_SPANS_SPANS, arena.getRecordSize(record));
+                    arena.copyRecord(record, request);
+                }
+            }
+        }
+        return request.flip();
+    }
+
+    private void groupByScope(int scopeCount) {
+        if (scopeSizes.length < scopeCount) {
+            scopeSizes = new int[scopeCount];
+            scopeStarts = new int[scopeCount + 1];
+        }
+        Arrays.fill(scopeSizes, 0, scopeCount, 0);
+        Arrays.fill(scopeStarts, 0, scopeCount + 1, 0);
+        // Counting sort of the records by scope, keeping their order within a scope
+        for (int i = 0; i < count; i++) {
+            scopeStarts[recordTags[i] + 1]++;
+            scopeSizes[recordTags[i]] += lengthDelimitedFieldSize(SCOPE_SPANS_SPANS, arena.getRecordSize(records[i]));
+        }
+        for (int i = 0; i < scopeCount; i++) {
+            scopeStarts[i + 1] += scopeStarts[i];
+        }
+        for (int i = 0; i < count; i++) {
+            order[scopeStarts[recordTags[i]]++] = i;
+        }
+        for (int i = scopeCount; i > 0; i--) {
+            scopeStarts[i] = scopeStarts[i - 1];
+        }
+        scopeStarts[0] = 0;
+    }
+
+    /**
+     * Releases the records of the batch from the arena. Only the first call after a collect has an effect.
+     */
+    void release() {
+        if (count > 0) {
+            arena.release(end, count);
+            count = 0;
+        }
+    }
+
+    int size() {
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.util.Arrays;
+
+/**
+ * Registry of the resources and instrumentation scopes of encoded spans.
+ * <p>
+ * Encoded spans only carry the id of their scope, and the registry keeps the encoded {@code ResourceSpans} and
+ * {@code ScopeSpans} fields which are written ahead of them when a request is assembled. Lookups compare the
+ * resource and scope instances by identity without locking, as spans of the same tracer share them. A tracer provider
+ * created again for a service has new but equal instances, which take over the existing id.
+ */
+final class EncodedSpanScopes {
+    private final OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+    private volatile Scope[] scopes = new Scope[0];
+    // Guarded by this
+    private Resource[] resources = new Resource[0];
+
+    /**
+     * Returns the id of a resource and scope pair, registering it when seen for the first time.
+     *
+     * @param resource the resource of a span
+     * @param scope    the instrumentation scope of the span
+     * @return the id of the pair
+     */
+    int getId(Resource resource, InstrumentationScopeInfo scope) {
+        Scope[] current = scopes;
+        for (Scope entry : current) {
+            if (entry.resource == resource && entry.scope == scope) {
+                return entry.id;
+            }
+        }
+        return register(resource, scope);
+    }
+
+    private synchronized int register(Resource resource, InstrumentationScopeInfo scope) {
+        Scope[] current = scopes;
+        for (int i = 0; i < current.length; i++) {
+            Scope entry = current[i];
+            if (entry.resource == resource && entry.scope == scope) {
+                return entry.id;
+            }
+            if (entry.resource.equals(resource) && entry.scope.equals(scope)) {
+                Scope[] updated = current.clone();
+                updated[i] = new Scope(entry.id, entry.resourceId, resource, scope, entry.resourceSpansHeader,
+                        entry.scopeSpansHeader);
+                scopes = updated;
+                return entry.id;
+            }
+        }
+        int resourceId = resourceId(resource);
+        Scope entry = new Scope(current.length, resourceId, resource, scope,
+                encoder.encodeResourceSpansHeader(resource), encoder.encodeScopeSpansHeader(scope));
+        Scope[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[entry.id] = entry;
+        scopes = updated;
+        return entry.id;
+    }
+
+    private int resourceId(Resource resource) {
+        for (int i = 0; i < resources.length; i++) {
+            if (resources[i].equals(resource)) {
+                return i;
+            }
+        }
+        resources = Arrays.copyOf(resources, resources.length + 1);
+        resources[resources.length - 1] = resource;
+        return resources.length - 1;
+    }
+
+    Scope get(int id) {
+        return scopes[id];
+    }
+
+    int size() {
+        return scopes.length;
+    }
+
+    /**
+     * A registered resource and scope pair with its encoded fields.
+     */
+    static final class Scope {
+        final int id;
+        final int resourceId;
+        final byte[] resourceSpansHeader;
+        final byte[] scopeSpansHeader;
+        private final Resource resource;
+        private final InstrumentationScopeInfo scope;
+
+        private Scope(int id, int resourceId, Resource resource, InstrumentationScopeInfo scope,
+                      byte[] resourceSpansHeader, byte[] scopeSpansHeader) {
+            this.id = id;
+            this.resourceId = resourceId;
+            this.resource = resource;
+            this.scope = scope;
+            this.resourceSpansHeader = resourceSpansHeader;
+            this.scopeSpansHeader = scopeSpansHeader;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Circuit breaker which stops exporting spans to a collector which keeps failing.
+ * <p>
+ * The circuit opens after a number of consecutive exports fail, and while it is open exports fail without being sent.
+ * Once the open duration passes, a single probe export is let through: the circuit closes if it succeeds and opens
+ * again if it fails. Spans ended while the circuit is open are dropped when they are queued, instead of filling the
+ * queue with spans which would only fail to export. Shedding is disabled when failed batches are spooled, so those
+ * spans are kept for the spool.
+ */
+final class ExportCircuitBreaker {
+    private static final Logger logger = Logger.getLogger(ExportCircuitBreaker.class.getName());
+
+    /**
+     * State of the circuit.
+     */
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String target;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private boolean probeInFlight;
+    // Read without the lock when spans are queued
+    private volatile boolean isOpen;
+    private volatile long openedAtNanos;
+    private volatile boolean shedsSpans = true;
+
+    private final LongAdder openedCount = new LongAdder();
+    private final LongAdder halfOpenedCount = new LongAdder();
+    private final LongAdder closedCount = new LongAdder();
+    private final LongAdder rejectedExports = new LongAdder();
+    private final LongAdder shedSpans = new LongAdder();
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param target           the collector endpoints guarded by the breaker, to be shown in the logs
+     * @param failureThreshold the number of consecutive failed exports which opens the circuit
+     * @param openDuration     the time in milliseconds the circuit stays open before a probe export
+     */
+    ExportCircuitBreaker(String target, int failureThreshold, long openDuration) {
+        this.target = target;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDuration);
+    }
+
+    /**
+     * Keeps queueing spans while the circuit is open, for an exporter which spools the batches it fails to send.
+     */
+    void disableShedding() {
+        shedsSpans = false;
+    }
+
+    /**
+     * Returns whether an export may be sent now. An export which is allowed must be reported with
+     * {@link #onSuccess()} or {@link #onFailure()} once it completes.
+     *
+     * @return true if the export may be sent
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                    transitionTo(State.HALF_OPEN);
+                    probeInFlight = true;
+                    return true;
+                }
+                break;
+            case HALF_OPEN:
+                if (!probeInFlight) {
+                    probeInFlight = true;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejectedExports.increment();
+        return false;
+    }
+
+    /**
+     * Returns whether {@link #tryAcquire()} would currently allow an export, without taking the probe slot.
+     *
+     * @return true if an export may be sent
+     */
+    synchronized boolean isAvailable() {
+        switch (state) {
+            case OPEN:
+                return System.nanoTime() - openedAtNanos >= openDurationNanos;
+            case HALF_OPEN:
+                return !probeInFlight;
+            case CLOSED:
+            default:
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns whether a span ended now should be dropped instead of being queued. Spans are queued again once the
+     * open duration passes, so that the probe export has spans to send.
+     *
+     * @return true if the span should be dropped
+     */
+    boolean shouldShed() {
+        return shedsSpans && isOpen && System.nanoTime() - openedAtNanos < openDurationNanos;
+    }
+
+    void recordShedSpan() {
+        shedSpans.increment();
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        switch (newState) {
+            case OPEN:
+                openedAtNanos = System.nanoTime();
+                isOpen = true;
+                openedCount.increment();
+                logger.log(Level.WARNING, "stopped exporting spans to " + target + " for "
+                        + TimeUnit.NANOSECONDS.toMillis(openDurationNanos) + " ms after " + consecutiveFailures
+                        + " consecutive failed exports");
+                break;
+            case HALF_OPEN:
+                isOpen = false;
+                halfOpenedCount.increment();
+                logger.log(Level.FINE, "probing " + target + " with a span export");
+                break;
+            case CLOSED:
+            default:
+                isOpen = false;
+                closedCount.increment();
+                logger.log(Level.INFO, "resumed exporting spans to " + target);
+                break;
+        }
+    }
+
+    /**
+     * Publishes the state and the counters of the circuit breaker, tagged with the endpoints it guards.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("circuit_breaker_state", "State of the export circuit breaker, 0 when closed, 1 when "
+                + "open and 2 when half open", "endpoint", target, this, breaker -> breaker.getState().ordinal());
+        JaegerMetrics.register("circuit_breaker_opened", "Times the export circuit breaker opened", "endpoint", target,
+                this, ExportCircuitBreaker::getOpenedCount);
+        JaegerMetrics.register("circuit_breaker_half_opened", "Times the export circuit breaker let a probe export "
+                + "through", "endpoint", target, this, ExportCircuitBreaker::getHalfOpenedCount);
+        JaegerMetrics.register("circuit_breaker_closed", "Times the export circuit breaker closed after a successful "
+                + "probe export", "endpoint", target, this, ExportCircuitBreaker::getClosedCount);
+        JaegerMetrics.register("circuit_breaker_rejected_exports", "Exports failed without being sent while the "
+                + "circuit was open", "endpoint", target, this, ExportCircuitBreaker::getRejectedExports);
+        JaegerMetrics.register("circuit_breaker_shed_spans", "Spans dropped without being queued while the circuit "
+                + "was open", "endpoint", target, this, ExportCircuitBreaker::getShedSpans);
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    long getOpenedCount() {
+        return openedCount.sum();
+    }
+
+    long getHalfOpenedCount() {
+        return halfOpenedCount.sum();
+    }
+
+    long getClosedCount() {
+        return closedCount.sum();
+    }
+
+    long getRejectedExports() {
+        return rejectedExports.sum();
+    }
+
+    long getShedSpans() {
+        return shedSpans.sum();
+    }
+}
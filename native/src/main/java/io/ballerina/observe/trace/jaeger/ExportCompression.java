@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Compression of the export requests sent over a gRPC channel.
+ * <p>
+ * The codec is registered on the channel and selected for every call by an interceptor, so it applies to any exporter
+ * using the channel. Additional codecs can be plugged in by registering them in {@link #createCodec(String)}.
+ */
+final class ExportCompression {
+    private final MeteredCodec codec;
+
+    private ExportCompression(MeteredCodec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Creates the compression with the given configuration name.
+     *
+     * @param name the name of the compression, one of {@code none}, {@code gzip} or {@code zstd}
+     * @return the compression
+     */
+    static ExportCompression create(String name) {
+        if (ExporterConfig.NO_COMPRESSION.equals(name)) {
+            return new ExportCompression(null);
+        }
+        Codec codec = createCodec(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("unsupported compression: " + name);
+        }
+        return new ExportCompression(new MeteredCodec(codec));
+    }
+
+    private static Codec createCodec(String name) {
+        switch (name) {
+            case ExporterConfig.GZIP_COMPRESSION:
+                return new Codec.Gzip();
+            case ExporterConfig.ZSTD_COMPRESSION:
+                return new ZstdCodec();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Registers the codec on the channel and makes every call on the channel compress its messages with it.
+     *
+     * @param channelBuilder the builder of the channel
+     */
+    void configureChannel(ManagedChannelBuilder<?> channelBuilder) {
+        if (codec == null) {
+            return;
+        }
+        CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(codec);
+        channelBuilder.compressorRegistry(compressorRegistry)
+                .decompressorRegistry(DecompressorRegistry.getDefaultInstance().with(codec, true))
+                .intercept(new CompressionInterceptor(codec.getMessageEncoding()));
+    }
+
+    /**
+     * Publishes the compression ratios of the requests sent to the given endpoint, if they are compressed.
+     *
+     * @param endpoint the endpoint of the collector
+     */
+    void registerMetrics(String endpoint) {
+        if (codec != null) {
+            codec.getStats().registerMetrics(endpoint);
+        }
+    }
+
+    /**
+     * Returns the codec recording the compression ratios, or null if the requests are not compressed.
+     *
+     * @return the metered codec
+     */
+    MeteredCodec getCodec() {
+        return codec;
+    }
+
+    private static class CompressionInterceptor implements ClientInterceptor {
+        private final String compressorName;
+
+        CompressionInterceptor(String compressorName) {
+            this.compressorName = compressorName;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                   CallOptions callOptions, Channel next) {
+            return next.newCall(method, callOptions.withCompression(compressorName));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Export retry and circuit breaker settings read from the Jaeger extension configurations.
+ */
+class ExportRetryConfig {
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final int DEFAULT_INITIAL_BACKOFF = 1000;
+    private static final int DEFAULT_MAX_BACKOFF = 5000;
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_OPEN_DURATION = 30000;
+
+    private final int maxAttempts;
+    private final int initialBackoff;
+    private final int maxBackoff;
+    private final int failureThreshold;
+    private final int openDuration;
+
+    ExportRetryConfig() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_FAILURE_THRESHOLD,
+                DEFAULT_OPEN_DURATION);
+    }
+
+    ExportRetryConfig(int maxAttempts, int initialBackoff, int maxBackoff, int failureThreshold, int openDuration) {
+        this.maxAttempts = positiveOrDefault("exportMaxAttempts", maxAttempts, DEFAULT_MAX_ATTEMPTS);
+        this.initialBackoff = positiveOrDefault("exportRetryInitialBackoff", initialBackoff,
+                DEFAULT_INITIAL_BACKOFF);
+        this.maxBackoff = positiveOrDefault("exportRetryMaxBackoff", maxBackoff, DEFAULT_MAX_BACKOFF);
+        this.failureThreshold = positiveOrDefault("circuitBreakerFailureThreshold", failureThreshold,
+                DEFAULT_FAILURE_THRESHOLD);
+        this.openDuration = positiveOrDefault("circuitBreakerOpenDuration", openDuration, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * Creates the retry policy of an exporter.
+     *
+     * @param exportThreads the kind of threads to wait for the retries on
+     * @return the retry policy
+     */
+    ExportRetryPolicy createRetryPolicy(ExportThreads exportThreads) {
+        return new ExportRetryPolicy(maxAttempts, initialBackoff, maxBackoff, exportThreads);
+    }
+
+    /**
+     * Creates a circuit breaker guarding the exports to the given collector endpoints, and publishes its metrics.
+     *
+     * @param target the endpoints of the collector, to be shown in the logs and the metric tags
+     * @return the circuit breaker
+     */
+    ExportCircuitBreaker createCircuitBreaker(String target) {
+        ExportCircuitBreaker circuitBreaker = new ExportCircuitBreaker(target, failureThreshold, openDuration);
+        circuitBreaker.registerMetrics();
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry policy of the exporters for export requests which failed with a retryable error.
+ * <p>
+ * The delay before each retry is drawn uniformly between zero and an exponentially growing ceiling, capped at the
+ * maximum backoff. The full jitter spreads the retries of the exporters which failed together, so they do not hit a
+ * recovering collector at the same time. Exporters retry the already encoded request, so a retry does not encode the
+ * spans again. Which errors are retryable depends on the protocol and is decided by the exporters. With
+ * {@link ExportThreads#VIRTUAL} threads, each retry waits for its backoff on its own virtual thread instead of being
+ * scheduled on the shared retry thread.
+ */
+final class ExportRetryPolicy {
+    static final ExportRetryPolicy NO_RETRY = new ExportRetryPolicy(1, 0, 0);
+
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+    private static final String RETRY_THREAD_NAME = "jaeger-export-retry";
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final ExportThreads exportThreads;
+
+    /**
+     * Creates a retry policy.
+     *
+     * @param maxAttempts    the maximum number of attempts of a request, including the first one
+     * @param initialBackoff the ceiling of the delay before the first retry in milliseconds
+     * @param maxBackoff     the maximum ceiling of the delay before a retry in milliseconds
+     */
+    ExportRetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff) {
+        this(maxAttempts, initialBackoff, maxBackoff, ExportThreads.PLATFORM);
+    }
+
+    /**
+     * Creates a retry policy which waits for the retries on the given kind of threads.
+     *
+     * @param maxAttempts    the maximum number of attempts of a request, including the first one
+     * @param initialBackoff the ceiling of the delay before the first retry in milliseconds
+     * @param maxBackoff     the maximum ceiling of the delay before a retry in milliseconds
+     * @param exportThreads  the kind of threads to wait for the retries on
+     */
+    ExportRetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff, ExportThreads exportThreads) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(initialBackoff);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(initialBackoff, maxBackoff));
+        this.exportThreads = exportThreads;
+    }
+
+    /**
+     * Returns whether a request may be attempted again.
+     *
+     * @param attempts the number of attempts made so far
+     * @return true if another attempt is allowed
+     */
+    boolean canRetry(int attempts) {
+        return attempts < maxAttempts;
+    }
+
+    /**
+     * Schedules the next attempt of a request after a jittered backoff delay.
+     *
+     * @param attempts the number of attempts made so far
+     * @param retry    the task sending the next attempt
+     */
+    void scheduleRetry(int attempts, Runnable retry) {
+        long backoffNanos = backoffNanos(attempts);
+        if (exportThreads == ExportThreads.VIRTUAL) {
+            exportThreads.newThreadFactory(RETRY_THREAD_NAME).newThread(() -> {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                } catch (InterruptedException e) {
+                    // The request is still retried, so that its result completes
+                    Thread.currentThread().interrupt();
+                }
+                retry.run();
+            }).start();
+            return;
+        }
+        RetryScheduler.SCHEDULER.schedule(retry, backoffNanos, TimeUnit.NANOSECONDS);
+    }
+
+    long backoffNanos(int attempts) {
+        double ceiling = initialBackoffNanos * Math.pow(BACKOFF_MULTIPLIER, attempts - 1);
+        long boundedCeiling = (long) Math.min(ceiling, maxBackoffNanos);
+        return boundedCeiling > 0 ? ThreadLocalRandom.current().nextLong(boundedCeiling + 1) : 0;
+    }
+
+    int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Holder of the scheduler thread, started with the first retry.
+     */
+    private static final class RetryScheduler {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+                ExportThreads.PLATFORM.newThreadFactory(RETRY_THREAD_NAME));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Kinds of threads the span pipeline runs its workers, exports and retries on.
+ */
+enum ExportThreads {
+    /**
+     * Daemon platform threads, with the default executors of the gRPC and HTTP clients.
+     */
+    PLATFORM,
+    /**
+     * Virtual threads, which block cheaply while waiting for export responses and retry backoffs, so many exports can
+     * be in flight without a platform thread each. The Netty event loop of gRPC channels stays on platform threads.
+     */
+    VIRTUAL;
+
+    /**
+     * Returns the kind of threads with the given configuration name.
+     *
+     * @param name the name of the kind, such as {@code virtual}
+     * @return the kind of threads
+     */
+    static ExportThreads fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Creates a factory of threads of this kind with the given name. Platform threads are daemon threads.
+     *
+     * @param name the name of the threads
+     * @return the thread factory
+     */
+    ThreadFactory newThreadFactory(String name) {
+        if (this == VIRTUAL) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon().factory();
+    }
+
+    /**
+     * Creates an executor which runs each task on a new virtual thread, for the callbacks of the gRPC and HTTP
+     * clients.
+     *
+     * @param namePrefix the prefix of the names of the threads, followed by a counter
+     * @return the executor
+     */
+    static ExecutorService newVirtualThreadExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+    }
+}
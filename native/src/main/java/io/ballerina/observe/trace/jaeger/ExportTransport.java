@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection to the collector which the span exporters send their requests over.
+ * <p>
+ * A transport is created once per process and owned by the {@link SpanPipeline}. The classes of a transport are only
+ * loaded when the transport is selected, so an unused protocol adds nothing to the startup of the program.
+ */
+interface ExportTransport {
+
+    /**
+     * Returns the address of the collector, to be shown to the user.
+     *
+     * @return the endpoint of the collector
+     */
+    String getEndpoint();
+
+    /**
+     * Creates the span exporter which sends the spans over this transport.
+     *
+     * @param exportTimeout the maximum time in milliseconds to wait for an export response
+     * @param retryConfig   the settings for retrying export requests which failed with a retryable error
+     * @return the span exporter
+     */
+    SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig);
+
+    /**
+     * Returns whether the span exporters of this transport are {@link OtlpRequestSender}s, which send the spans of an
+     * encoded request the same way as the spans they export.
+     *
+     * @return whether encoded requests can be sent over this transport
+     */
+    default boolean sendsEncodedRequests() {
+        return false;
+    }
+
+    /**
+     * Starts connecting to the collector without waiting for the connection, so the first export does not pay for
+     * resolving the host and setting the connection up.
+     *
+     * @return whether the transport has a connection to set up, which is not the case for HTTP and UDP
+     */
+    default boolean requestConnection() {
+        return false;
+    }
+
+    /**
+     * Waits until the connection requested with {@link #requestConnection()} is ready to send export requests.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return whether the connection is ready
+     */
+    default boolean awaitConnection(long timeout, TimeUnit unit) {
+        return true;
+    }
+
+    /**
+     * Releases the connections of the transport once the span exporters are shut down.
+     */
+    void shutdown();
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.getUnixSocketPath;
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.isUnixEndpoint;
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Span exporter settings read from the Jaeger extension configurations.
+ */
+class ExporterConfig {
+    static final String GRPC_PROTOCOL = "grpc";
+    static final String HTTP_PROTOCOL = "http/protobuf";
+    static final String UDP_PROTOCOL = "udp/thrift_compact";
+    static final String JAEGER_GRPC_PROTOCOL = "grpc/jaeger";
+    static final String NO_COMPRESSION = "none";
+    static final String GZIP_COMPRESSION = "gzip";
+    static final String ZSTD_COMPRESSION = "zstd";
+
+    private static final String LOOPBACK_HOST = "127.0.0.1";
+    private static final PrintStream console = System.out;
+    private static final Set<String> PROTOCOLS = Set.of(GRPC_PROTOCOL, HTTP_PROTOCOL, UDP_PROTOCOL,
+            JAEGER_GRPC_PROTOCOL);
+    private static final Set<String> COMPRESSIONS = Set.of(NO_COMPRESSION, GZIP_COMPRESSION, ZSTD_COMPRESSION);
+
+    private static final int DEFAULT_MAX_IN_FLIGHT_EXPORTS = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_EXPORT_BYTES = 16 * 1024 * 1024;
+    private static final int DEFAULT_MAX_PACKET_SIZE = 65000;
+    private static final int DEFAULT_SPOOL_MAX_BYTES = 128 * 1024 * 1024;
+
+    private final String protocol;
+    private final int maxInFlightExports;
+    private final int maxInFlightExportBytes;
+    private final String compression;
+    private final boolean directMarshaling;
+    private final int maxPacketSize;
+    private final String spoolDirectory;
+    private final int spoolMaxBytes;
+    private final List<String> agentEndpoints;
+    private final ExportThreads exportThreads;
+
+    ExporterConfig() {
+        this(GRPC_PROTOCOL, DEFAULT_MAX_IN_FLIGHT_EXPORTS, DEFAULT_MAX_IN_FLIGHT_EXPORT_BYTES, NO_COMPRESSION, true,
+                DEFAULT_MAX_PACKET_SIZE, "", DEFAULT_SPOOL_MAX_BYTES, List.of(), "platform");
+    }
+
+    ExporterConfig(String protocol, int maxInFlightExports, int maxInFlightExportBytes, String compression,
+                   boolean directMarshaling, int maxPacketSize, String spoolDirectory, int spoolMaxBytes,
+                   List<String> agentEndpoints, String exportThreads) {
+        this.protocol = selectProtocol(protocol);
+        this.maxInFlightExports = positiveOrDefault("maxInFlightExports", maxInFlightExports,
+                DEFAULT_MAX_IN_FLIGHT_EXPORTS);
+        this.maxInFlightExportBytes = positiveOrDefault("maxInFlightExportBytes", maxInFlightExportBytes,
+                DEFAULT_MAX_IN_FLIGHT_EXPORT_BYTES);
+        this.compression = selectCompression(compression);
+        this.directMarshaling = directMarshaling;
+        this.maxPacketSize = positiveOrDefault("maxPacketSize", maxPacketSize, DEFAULT_MAX_PACKET_SIZE);
+        this.spoolDirectory = spoolDirectory;
+        this.spoolMaxBytes = positiveOrDefault("spoolMaxBytes", spoolMaxBytes, DEFAULT_SPOOL_MAX_BYTES);
+        this.agentEndpoints = agentEndpoints;
+        this.exportThreads = selectExportThreads(exportThreads);
+    }
+
+    ExportThreads getExportThreads() {
+        return exportThreads;
+    }
+
+    /**
+     * Returns whether the span exporter keeps several exports in flight, so that its export calls return before the
+     * exports complete.
+     *
+     * @return true if the exports are pipelined
+     */
+    boolean isPipelined() {
+        return maxInFlightExports > 1;
+    }
+
+    /**
+     * Creates the transport to the collector for the selected protocol. When agent endpoints are configured, each
+     * endpoint is resolved to all of its addresses and the spans are balanced over them, otherwise the spans are sent
+     * to the given host.
+     *
+     * @param hostname      the hostname of the collector
+     * @param port          the port of the collector, and the default port of the agent endpoints
+     * @param channelConfig the connection settings of the gRPC channels
+     * @return the transport
+     */
+    ExportTransport createTransport(String hostname, int port, ChannelConfig channelConfig) {
+        if (agentEndpoints.isEmpty()) {
+            return createEndpointTransport(hostname, port, channelConfig);
+        }
+        Set<String> addresses = new LinkedHashSet<>();
+        for (String endpoint : agentEndpoints) {
+            addresses.addAll(resolveEndpoint(endpoint.trim(), port));
+        }
+        if (addresses.isEmpty()) {
+            console.println("error: none of the Jaeger agent endpoints could be resolved. using " + hostname + ":"
+                    + port);
+            return createEndpointTransport(hostname, port, channelConfig);
+        }
+        List<ExportTransport> transports = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            if (isUnixEndpoint(address)) {
+                transports.add(createEndpointTransport(address, port, channelConfig));
+                continue;
+            }
+            int separator = address.lastIndexOf(':');
+            transports.add(createEndpointTransport(address.substring(0, separator),
+                    Integer.parseInt(address.substring(separator + 1)), channelConfig));
+        }
+        return transports.size() == 1 ? transports.get(0) : new LoadBalancedExportTransport(transports);
+    }
+
+    private ExportTransport createEndpointTransport(String hostname, int port, ChannelConfig channelConfig) {
+        if (isUnixEndpoint(hostname)) {
+            String unixHostname = selectUnixEndpoint(hostname);
+            if (!unixHostname.equals(hostname)) {
+                return createEndpointTransport(unixHostname, port, channelConfig);
+            }
+        }
+        if (HTTP_PROTOCOL.equals(protocol)) {
+            return new HttpExportTransport(hostname, port, compression, exportThreads);
+        }
+        if (UDP_PROTOCOL.equals(protocol)) {
+            return new UdpExportTransport(hostname, port, maxPacketSize);
+        }
+        if (JAEGER_GRPC_PROTOCOL.equals(protocol)) {
+            return new JaegerGrpcExportTransport(hostname, port, compression, exportThreads, channelConfig);
+        }
+        return new GrpcExportTransport(hostname, port, compression, directMarshaling, exportThreads,
+                channelConfig);
+    }
+
+    /**
+     * Creates the span exporter which sends the spans over the given transport.
+     *
+     * @param transport      the transport to the collector
+     * @param retryConfig    the settings for retrying failed export requests
+     * @param circuitBreaker the circuit breaker guarding the exports, unless the transport balances the exports over
+     *                       several endpoints, each guarded by its own circuit breaker
+     * @param exportTimeout  the maximum time in milliseconds to wait for an export slot or an export response
+     * @return the span exporter
+     */
+    SpanExporter createSpanExporter(ExportTransport transport, ExportRetryConfig retryConfig,
+                                    ExportCircuitBreaker circuitBreaker, int exportTimeout) {
+        SpanExporter transportExporter = transport.createSpanExporter(exportTimeout, retryConfig);
+        SpanExporter exporter = transportExporter instanceof LoadBalancingSpanExporter
+                ? transportExporter : new CircuitBreakingSpanExporter(transportExporter, circuitBreaker);
+        if (!spoolDirectory.isEmpty()) {
+            exporter = createSpoolingSpanExporter(exporter, transportExporter, circuitBreaker, exportTimeout);
+        }
+        if (maxInFlightExports > 1 && exportThreads == ExportThreads.VIRTUAL) {
+            VirtualThreadSpanExporter virtualThreadExporter = new VirtualThreadSpanExporter(exporter,
+                    maxInFlightExports, exportTimeout, TimeUnit.MILLISECONDS);
+            virtualThreadExporter.registerMetrics();
+            exporter = virtualThreadExporter;
+        } else if (maxInFlightExports > 1) {
+            PipelinedSpanExporter pipelinedExporter = new PipelinedSpanExporter(exporter, maxInFlightExports,
+                    maxInFlightExportBytes, exportTimeout, TimeUnit.MILLISECONDS);
+            pipelinedExporter.registerMetrics();
+            exporter = pipelinedExporter;
+        }
+        return exporter;
+    }
+
+    private SpanExporter createSpoolingSpanExporter(SpanExporter exporter, SpanExporter transportExporter,
+                                                    ExportCircuitBreaker circuitBreaker, int exportTimeout) {
+        OtlpRequestSender transportSender = OtlpRequestSender.of(transportExporter);
+        if (!transportSender.canSendEncoded()) {
+            console.println("error: Jaeger span spool requires the " + GRPC_PROTOCOL + " protocol with direct "
+                    + "marshaling or the " + HTTP_PROTOCOL + " protocol. spooling disabled");
+            return exporter;
+        }
+        SpanSpool spool;
+        try {
+            spool = SpanSpool.open(Paths.get(spoolDirectory), spoolMaxBytes);
+        } catch (IOException | InvalidPathException e) {
+            console.println("error: failed to open the Jaeger span spool in " + spoolDirectory + ": "
+                    + e.getMessage() + ". spooling disabled");
+            return exporter;
+        }
+        // Batches failed while the circuit is open are spooled, so the spans are not shed
+        circuitBreaker.disableShedding();
+        SpoolingSpanExporter spoolingExporter = new SpoolingSpanExporter(exporter,
+                transportSender, spool, exportTimeout, TimeUnit.MILLISECONDS, exportThreads);
+        spoolingExporter.registerMetrics();
+        return spoolingExporter;
+    }
+
+    /**
+     * Returns the given {@code unix://} endpoint if this configuration can export over a Unix domain socket, or the
+     * loopback address to fall back to TCP with otherwise.
+     *
+     * @param endpoint the configured {@code unix://} endpoint
+     * @return the hostname to connect to
+     */
+    private String selectUnixEndpoint(String endpoint) {
+        String reason;
+        if (!GRPC_PROTOCOL.equals(protocol) && !JAEGER_GRPC_PROTOCOL.equals(protocol)) {
+            reason = "requires the " + GRPC_PROTOCOL + " or " + JAEGER_GRPC_PROTOCOL + " protocol";
+        } else if (getUnixSocketPath(endpoint).isEmpty()) {
+            reason = "has no socket path";
+        } else if (!GrpcExportTransport.isUnixSocketAvailable()) {
+            // Only checked for the gRPC protocols, as it loads the shaded Netty epoll classes
+            reason = "is not supported on this platform";
+        } else {
+            return endpoint;
+        }
+        console.println("error: Jaeger agent endpoint " + endpoint + " " + reason + ". using TCP on " + LOOPBACK_HOST);
+        return LOOPBACK_HOST;
+    }
+
+    /**
+     * Resolves an agent endpoint of the form {@code host}, {@code host:port} or {@code [ipv6]:port} to the addresses
+     * of the host, each with the port of the endpoint. A {@code unix://} endpoint is kept as it is.
+     *
+     * @param endpoint    the configured endpoint
+     * @param defaultPort the port to use when the endpoint has none
+     * @return the resolved addresses as {@code host:port}, or none if the endpoint is invalid
+     */
+    private static List<String> resolveEndpoint(String endpoint, int defaultPort) {
+        if (isUnixEndpoint(endpoint)) {
+            return List.of(endpoint);
+        }
+        String host = endpoint;
+        String portText = null;
+        if (endpoint.startsWith("[")) {
+            int hostEnd = endpoint.indexOf(']');
+            host = hostEnd > 0 ? endpoint.substring(1, hostEnd) : "";
+            String rest = hostEnd > 0 ? endpoint.substring(hostEnd + 1) : "";
+            if (!rest.isEmpty()) {
+                portText = rest.startsWith(":") ? rest.substring(1) : "";
+            }
+        } else if (endpoint.indexOf(':') >= 0 && endpoint.indexOf(':') == endpoint.lastIndexOf(':')) {
+            host = endpoint.substring(0, endpoint.indexOf(':'));
+            portText = endpoint.substring(endpoint.indexOf(':') + 1);
+        }
+        int port = defaultPort;
+        if (portText != null) {
+            try {
+                port = Integer.parseInt(portText);
+            } catch (NumberFormatException e) {
+                port = -1;
+            }
+        }
+        if (host.isEmpty() || port <= 0 || port > 65535) {
+            console.println("error: invalid Jaeger configuration agent endpoint: " + endpoint + ". endpoint ignored");
+            return List.of();
+        }
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            console.println("error: failed to resolve Jaeger agent endpoint " + endpoint + ". endpoint ignored");
+            return List.of();
+        }
+        List<String> resolved = new ArrayList<>(addresses.length);
+        for (InetAddress address : addresses) {
+            String hostAddress = address instanceof Inet6Address
+                    ? "[" + address.getHostAddress() + "]" : address.getHostAddress();
+            resolved.add(hostAddress + ":" + port);
+        }
+        return resolved;
+    }
+
+    private static String selectProtocol(String protocol) {
+        if (PROTOCOLS.contains(protocol)) {
+            return protocol;
+        }
+        console.println("error: invalid Jaeger configuration exporter protocol: " + protocol
+                + ". using default " + GRPC_PROTOCOL + " protocol");
+        return GRPC_PROTOCOL;
+    }
+
+    private static ExportThreads selectExportThreads(String exportThreads) {
+        try {
+            return ExportThreads.fromName(exportThreads);
+        } catch (IllegalArgumentException e) {
+            ConfigUtils.printInvalidConfiguration("exportThreads", exportThreads, "platform");
+            return ExportThreads.PLATFORM;
+        }
+    }
+
+    private static String selectCompression(String compression) {
+        if (COMPRESSIONS.contains(compression)) {
+            return compression;
+        }
+        ConfigUtils.printInvalidConfiguration("compression", compression, NO_COMPRESSION);
+        return NO_COMPRESSION;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelProvider;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * OTLP/gRPC transport over a Netty channel to the collector.
+ * <p>
+ * A hostname of the form {@code unix:///path} connects to a collector listening on that Unix domain socket, over
+ * the epoll transport bundled with the shaded Netty. The socket skips the TCP/IP stack, which makes exporting to a
+ * collector running as a sidecar on the same host cheaper.
+ */
+class GrpcExportTransport implements ExportTransport {
+    private static final String UNIX_EVENT_LOOP_THREAD_NAME = "jaeger-grpc-unix-socket";
+    // Held so that the level set on the logger is not lost when it is garbage collected
+    private static final Logger bootstrapLogger =
+            Logger.getLogger("io.grpc.netty.shaded.io.netty.bootstrap.Bootstrap");
+
+    private final String endpoint;
+    private final ExportCompression compression;
+    private final boolean directMarshaling;
+    private final ExportThreads exportThreads;
+    private final ExecutorService callbackExecutor;
+    private final EventLoopGroup eventLoopGroup;
+    private final ManagedChannel channel;
+
+    GrpcExportTransport(String hostname, int port, String compression, boolean directMarshaling,
+                        ExportThreads exportThreads, ChannelConfig channelConfig) {
+        this.compression = ExportCompression.create(compression);
+        this.directMarshaling = directMarshaling;
+        this.exportThreads = exportThreads;
+
+        ManagedChannelBuilder<?> channelBuilder;
+        if (ConfigUtils.isUnixEndpoint(hostname)) {
+            this.endpoint = hostname;
+            // gRPC sets the TCP keep alive option on every channel, which Netty warns about on each connection to a
+            // domain socket
+            bootstrapLogger.setLevel(Level.SEVERE);
+            // A single event loop thread is enough for the one connection to a local socket
+            this.eventLoopGroup = new EpollEventLoopGroup(1,
+                    ExportThreads.PLATFORM.newThreadFactory(UNIX_EVENT_LOOP_THREAD_NAME));
+            channelBuilder = NettyChannelBuilder
+                    .forAddress(new DomainSocketAddress(ConfigUtils.getUnixSocketPath(hostname)))
+                    .eventLoopGroup(eventLoopGroup)
+                    .channelType(EpollDomainSocketChannel.class)
+                    .usePlaintext();
+        } else {
+            this.endpoint = hostname + ":" + port;
+            this.eventLoopGroup = null;
+            channelBuilder = new NettyChannelProvider()
+                    .builderForTarget(endpoint)
+                    .usePlaintext();
+        }
+        this.compression.configureChannel(channelBuilder);
+        this.compression.registerMetrics(endpoint);
+        channelConfig.configureChannel(channelBuilder);
+        if (exportThreads == ExportThreads.VIRTUAL) {
+            // Call callbacks run on virtual threads instead of the cached thread pool shared by gRPC channels
+            this.callbackExecutor = ExportThreads.newVirtualThreadExecutor("jaeger-grpc-callback-");
+            channelBuilder.executor(callbackExecutor);
+        } else {
+            this.callbackExecutor = null;
+        }
+        this.channel = channelBuilder.build();
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig) {
+        if (directMarshaling) {
+            DirectOtlpGrpcSpanExporter exporter = new DirectOtlpGrpcSpanExporter(channel, exportTimeout,
+                    TimeUnit.MILLISECONDS, retryConfig.createRetryPolicy(exportThreads));
+            exporter.registerMetrics(endpoint);
+            return exporter;
+        }
+        return OtlpGrpcSpanExporter.builder()
+                .setChannel(channel)
+                .build();
+    }
+
+    @Override
+    public boolean sendsEncodedRequests() {
+        return directMarshaling;
+    }
+
+    @Override
+    public boolean requestConnection() {
+        channel.getState(true);
+        return true;
+    }
+
+    @Override
+    public boolean awaitConnection(long timeout, TimeUnit unit) {
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        awaitReady(ready, cancelled);
+        try {
+            return ready.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            // Stops the pending state change callback from asking for a connection again once the wait is over
+            cancelled.set(true);
+        }
+    }
+
+    private void awaitReady(CountDownLatch ready, AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            return;
+        }
+        // Asking for a connection again also reconnects a channel which went idle after losing its connection
+        ConnectivityState state = channel.getState(true);
+        if (state == ConnectivityState.READY) {
+            ready.countDown();
+        } else if (state != ConnectivityState.SHUTDOWN) {
+            channel.notifyWhenStateChanged(state, () -> awaitReady(ready, cancelled));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        channel.shutdown();
+        if (callbackExecutor != null) {
+            callbackExecutor.shutdown();
+        }
+        if (eventLoopGroup != null) {
+            // The quiet period of the graceful shutdown lets the channel finish closing its connection first
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Returns whether Unix domain socket endpoints can be used on this platform, which requires the native epoll
+     * library of the shaded Netty, available on Linux only.
+     *
+     * @return whether Unix domain sockets are available
+     */
+    static boolean isUnixSocketAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    ExportCompression getCompression() {
+        return compression;
+    }
+
+    ManagedChannel getChannel() {
+        return channel;
+    }
+
+    ExportThreads getExportThreads() {
+        return exportThreads;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * OTLP/HTTP transport sending binary protobuf requests with the JDK HTTP client.
+ * <p>
+ * The client prefers HTTP/2 and keeps its connections alive across export requests, falling back to HTTP/1.1 keep
+ * alive when the collector does not support HTTP/2. Neither gRPC nor Netty is used by this transport.
+ */
+class HttpExportTransport implements ExportTransport {
+    private static final String TRACES_PATH = "/v1/traces";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String endpoint;
+    private final URI tracesUri;
+    private final String compression;
+    private final CompressionStats compressionStats = new CompressionStats();
+    private final ExportThreads exportThreads;
+    private final HttpClient client;
+
+    HttpExportTransport(String hostname, int port, String compression, ExportThreads exportThreads) {
+        this.endpoint = "http://" + hostname + ":" + port;
+        this.tracesUri = URI.create(endpoint + TRACES_PATH);
+        this.compression = compression;
+        this.exportThreads = exportThreads;
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT);
+        if (exportThreads == ExportThreads.VIRTUAL) {
+            // Responses are handled on virtual threads instead of the cached thread pool of the client
+            clientBuilder.executor(ExportThreads.newVirtualThreadExecutor("jaeger-http-callback-"));
+        }
+        this.client = clientBuilder.build();
+        if (!ExporterConfig.NO_COMPRESSION.equals(compression)) {
+            compressionStats.registerMetrics(endpoint);
+        }
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig) {
+        OtlpHttpSpanExporter exporter = new OtlpHttpSpanExporter(client, tracesUri, compression, compressionStats,
+                Duration.ofMillis(exportTimeout), retryConfig.createRetryPolicy(exportThreads));
+        exporter.registerMetrics(endpoint);
+        return exporter;
+    }
+
+    @Override
+    public boolean sendsEncodedRequests() {
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        client.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport to the native gRPC API of a Jaeger collector, over the same channel setup as the OTLP/gRPC transport.
+ */
+class JaegerGrpcExportTransport extends GrpcExportTransport {
+
+    JaegerGrpcExportTransport(String hostname, int port, String compression, ExportThreads exportThreads,
+                              ChannelConfig channelConfig) {
+        super(hostname, port, compression, true, exportThreads, channelConfig);
+    }
+
+    @Override
+    public SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig) {
+        JaegerGrpcSpanExporter exporter = new JaegerGrpcSpanExporter(getChannel(), exportTimeout,
+                TimeUnit.MILLISECONDS, retryConfig.createRetryPolicy(getExportThreads()));
+        exporter.registerMetrics(getEndpoint());
+        return exporter;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Span exporter posting the spans to the native gRPC API of a Jaeger collector.
+ * <p>
+ * The spans are sent to {@code jaeger.api_v2.CollectorService/PostSpans} as Jaeger model messages encoded by a
+ * {@link JaegerProtoSpanEncoder}, so a collector which only receives the Jaeger protocol does not need an OTLP
+ * translating collector in front of it. A request carries the spans of one resource, so a batch is sent with one
+ * call per resource.
+ */
+class JaegerGrpcSpanExporter extends DirectGrpcSpanExporter {
+    private static final MethodDescriptor<ByteBuf, Object> POST_SPANS_METHOD =
+            unaryMethod("jaeger.api_v2.CollectorService", "PostSpans");
+
+    private final JaegerProtoSpanEncoder encoder = new JaegerProtoSpanEncoder();
+
+    JaegerGrpcSpanExporter(ManagedChannel channel, long timeout, TimeUnit unit, ExportRetryPolicy retryPolicy) {
+        this(channel, timeout, unit, retryPolicy, PooledByteBufAllocator.DEFAULT);
+    }
+
+    JaegerGrpcSpanExporter(ManagedChannel channel, long timeout, TimeUnit unit, ExportRetryPolicy retryPolicy,
+                           ByteBufAllocator allocator) {
+        super(channel, POST_SPANS_METHOD, timeout, unit, retryPolicy, allocator);
+    }
+
+    @Override
+    CompletableResultCode exportSpans(Collection<SpanData> spans) {
+        // Spans of the same tracer provider share the resource instance, so grouping is by identity
+        Map<Resource, List<SpanData>> spansByResource = new IdentityHashMap<>();
+        for (SpanData span : spans) {
+            spansByResource.computeIfAbsent(span.getResource(), resource -> new ArrayList<>()).add(span);
+        }
+        if (spansByResource.size() == 1) {
+            Map.Entry<Resource, List<SpanData>> group = spansByResource.entrySet().iterator().next();
+            return exportEncoded(encode(group.getKey(), group.getValue()));
+        }
+        List<CompletableResultCode> results = new ArrayList<>(spansByResource.size());
+        for (Map.Entry<Resource, List<SpanData>> group : spansByResource.entrySet()) {
+            results.add(exportEncoded(encode(group.getKey(), group.getValue())));
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+
+    /**
+     * Encodes the spans of a resource into a {@code PostSpansRequest} held in a pooled direct buffer.
+     *
+     * @param resource the resource of the spans
+     * @param spans    the spans to encode
+     * @return the buffer holding the request, which the caller must release
+     */
+    ByteBuf encode(Resource resource, List<SpanData> spans) {
+        // The encoder reuses its scratch state and caches the processes, so requests are encoded one at a time
+        synchronized (encoder) {
+            int size = encoder.prepare(resource, spans);
+            ByteBuf buffer = allocate(size);
+            try {
+                encoder.writeTo(buffer.nioBuffer(0, size));
+                buffer.writerIndex(size);
+                return buffer;
+            } catch (RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Publishes the internal counters of the Jaeger extension to the Ballerina metrics registry.
+ * <p>
+ * Every metric is a polled gauge which reads the counter of its source object when the registry is scraped, so
+ * publishing a counter adds no work to the span path. The metrics are reported by the metrics extension enabled in
+ * the Ballerina program, if any.
+ */
+final class JaegerMetrics {
+    private static final Logger logger = Logger.getLogger(JaegerMetrics.class.getName());
+    private static final String PREFIX = "jaeger_";
+
+    private JaegerMetrics() {
+    }
+
+    /**
+     * Registers a gauge which reports a value read from the given source.
+     *
+     * @param name        the name of the metric, without the extension prefix
+     * @param description the description of the metric
+     * @param source      the object the value is read from
+     * @param value       the function reading the value from the source
+     * @param <T>         the type of the source
+     */
+    static <T> void register(String name, String description, T source, ToDoubleFunction<T> value) {
+        register(name, description, null, null, source, value);
+    }
+
+    /**
+     * Registers a gauge with a tag which reports a value read from the given source.
+     *
+     * @param name        the name of the metric, without the extension prefix
+     * @param description the description of the metric
+     * @param tagKey      the key of the tag distinguishing the gauge from the others of the same name
+     * @param tagValue    the value of the tag
+     * @param source      the object the value is read from
+     * @param value       the function reading the value from the source
+     * @param <T>         the type of the source
+     */
+    static <T> void register(String name, String description, String tagKey, String tagValue, T source,
+                             ToDoubleFunction<T> value) {
+        try {
+            PolledGauge.Builder<T> builder = PolledGauge.builder(PREFIX + name, source, value)
+                    .description(description);
+            if (tagKey != null) {
+                builder.tag(tagKey, tagValue);
+            }
+            builder.register();
+        } catch (IllegalArgumentException e) {
+            // Another metric of a different type is already registered with the same name and tags
+            logger.log(Level.WARNING, "failed to register the Jaeger metric " + PREFIX + name, e);
+        }
+    }
+}
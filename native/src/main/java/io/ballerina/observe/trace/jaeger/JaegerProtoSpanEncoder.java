@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.fixed64FieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.hexAsBytesFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.lengthDelimitedFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.utf8Length;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.varintFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeDoubleField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeHexAsBytesField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeLengthDelimitedHeader;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeStringField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeVarintField;
+import static io.opentelemetry.semconv.ResourceAttributes.SERVICE_NAME;
+
+/**
+ * Encoder of spans into a Jaeger {@code api_v2.PostSpansRequest} protobuf message.
+ * <p>
+ * Spans are mapped to the Jaeger model the same way as {@link JaegerThriftSpanEncoder} does, with the parent span
+ * written as a {@code CHILD_OF} reference. A request holds the spans of a single resource. The {@code Process} message
+ * of a resource is encoded once and cached for as long as the resource is in use. Like {@link OtlpSpanEncoder}, the
+ * sizes of the nested messages are computed by {@link #prepare(Resource, List)} and consumed by
+ * {@link #writeTo(ByteBuffer)}. An encoder is not thread safe.
+ */
+final class JaegerProtoSpanEncoder {
+    private static final String UNKNOWN_SERVICE_NAME = "unknown_service";
+
+    // PostSpansRequest
+    private static final int REQUEST_BATCH = 1;
+    // Batch
+    private static final int BATCH_SPANS = 1;
+    private static final int BATCH_PROCESS = 2;
+    // Process
+    private static final int PROCESS_SERVICE_NAME = 1;
+    private static final int PROCESS_TAGS = 2;
+    // Span
+    private static final int SPAN_TRACE_ID = 1;
+    private static final int SPAN_SPAN_ID = 2;
+    private static final int SPAN_OPERATION_NAME = 3;
+    private static final int SPAN_REFERENCES = 4;
+    private static final int SPAN_FLAGS = 5;
+    private static final int SPAN_START_TIME = 6;
+    private static final int SPAN_DURATION = 7;
+    private static final int SPAN_TAGS = 8;
+    private static final int SPAN_LOGS = 9;
+    // SpanRef
+    private static final int REF_TRACE_ID = 1;
+    private static final int REF_SPAN_ID = 2;
+    private static final int REF_REF_TYPE = 3;
+    // Log
+    private static final int LOG_TIMESTAMP = 1;
+    private static final int LOG_FIELDS = 2;
+    // KeyValue
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_V_TYPE = 2;
+    private static final int KEY_VALUE_V_STR = 3;
+    private static final int KEY_VALUE_V_BOOL = 4;
+    private static final int KEY_VALUE_V_INT64 = 5;
+    private static final int KEY_VALUE_V_FLOAT64 = 6;
+    // Timestamp and Duration
+    private static final int TIME_SECONDS = 1;
+    private static final int TIME_NANOS = 2;
+
+    // ValueType
+    private static final int VALUE_TYPE_BOOL = 1;
+    private static final int VALUE_TYPE_INT64 = 2;
+    private static final int VALUE_TYPE_FLOAT64 = 3;
+    // SpanRefType
+    private static final int REF_TYPE_CHILD_OF = 0;
+    private static final int REF_TYPE_FOLLOWS_FROM = 1;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int INITIAL_SIZES_CAPACITY = 1024;
+
+    // Resources are held by their tracer providers. Cached providers live as long as the program, while the process of
+    // a provider built past the tracer cache bound goes away once the runtime drops its tracer
+    private final Map<Resource, byte[]> processes = new WeakHashMap<>();
+
+    private byte[] process;
+    private List<SpanData> spans;
+    private int requestSize = 0;
+
+    // Sizes of the length delimited fields in the order they are written
+    private int[] sizes = new int[INITIAL_SIZES_CAPACITY];
+    private int sizeCount = 0;
+    private int sizeCursor = 0;
+    // Array attributes are written as JSON strings, which are built once while sizing
+    private final List<String> jsonValues = new ArrayList<>();
+    private int jsonCursor = 0;
+
+    private ByteBuffer buffer;
+
+    // Tags are visited with these reusable consumers, to avoid allocating a lambda per attribute set
+    private int tagsFieldNumber;
+    private int tagsSize;
+    private boolean skipServiceName = false;
+    private final BiConsumer<AttributeKey<?>, Object> tagSizer = (key, value) -> {
+        if (!isSkipped(key)) {
+            tagsSize += tagFieldSize(tagsFieldNumber, key.getKey(), value);
+        }
+    };
+    private final BiConsumer<AttributeKey<?>, Object> tagWriter = (key, value) -> {
+        if (!isSkipped(key)) {
+            writeTagField(tagsFieldNumber, key.getKey(), value);
+        }
+    };
+
+    /**
+     * Prepares the encoding of the spans of a resource and returns the size of the encoded request.
+     *
+     * @param resource the resource of the spans
+     * @param spans    the spans to encode
+     * @return the size of the encoded request in bytes
+     */
+    int prepare(Resource resource, List<SpanData> spans) {
+        this.process = processes.computeIfAbsent(resource, this::encodeProcess);
+        this.spans = spans;
+        sizeCount = 0;
+        jsonValues.clear();
+        int batchSlot = reserveSize();
+        int batchSize = 0;
+        for (int i = 0; i < spans.size(); i++) {
+            int slot = reserveSize();
+            batchSize += messageFieldSize(BATCH_SPANS, slot, spanSize(spans.get(i)));
+        }
+        batchSize += lengthDelimitedFieldSize(BATCH_PROCESS, process.length);
+        requestSize = messageFieldSize(REQUEST_BATCH, batchSlot, batchSize);
+        return requestSize;
+    }
+
+    /**
+     * Writes the request prepared by the last call to {@link #prepare(Resource, List)}.
+     *
+     * @param target the buffer to write to, with at least the prepared size remaining
+     */
+    void writeTo(ByteBuffer target) {
+        if (target.remaining() < requestSize) {
+            throw new IllegalArgumentException("buffer has " + target.remaining() + " bytes remaining, "
+                    + requestSize + " required");
+        }
+        buffer = target.order(ByteOrder.BIG_ENDIAN);
+        sizeCursor = 0;
+        jsonCursor = 0;
+        try {
+            writeMessageHeader(REQUEST_BATCH);
+            for (int i = 0; i < spans.size(); i++) {
+                writeMessageHeader(BATCH_SPANS);
+                writeSpan(spans.get(i));
+            }
+            writeLengthDelimitedHeader(buffer, BATCH_PROCESS, process.length);
+            buffer.put(process);
+        } finally {
+            buffer = null;
+            spans = null;
+            process = null;
+            jsonValues.clear();
+        }
+    }
+
+    private byte[] encodeProcess(Resource resource) {
+        Attributes attributes = resource.getAttributes();
+        String serviceName = attributes.get(SERVICE_NAME);
+        if (serviceName == null) {
+            serviceName = UNKNOWN_SERVICE_NAME;
+        }
+        sizeCount = 0;
+        jsonValues.clear();
+        int size = requiredStringFieldSize(PROCESS_SERVICE_NAME, serviceName);
+        skipServiceName = true;
+        try {
+            size += tagsSize(PROCESS_TAGS, attributes);
+            byte[] encoded = new byte[size];
+            buffer = ByteBuffer.wrap(encoded);
+            sizeCursor = 0;
+            jsonCursor = 0;
+            writeRequiredString(PROCESS_SERVICE_NAME, serviceName);
+            writeTags(PROCESS_TAGS, attributes);
+            return encoded;
+        } finally {
+            skipServiceName = false;
+            buffer = null;
+        }
+    }
+
+    private boolean isSkipped(AttributeKey<?> key) {
+        return skipServiceName && SERVICE_NAME.getKey().equals(key.getKey());
+    }
+
+    private int reserveSize() {
+        if (sizeCount == sizes.length) {
+            sizes = Arrays.copyOf(sizes, sizes.length * 2);
+        }
+        return sizeCount++;
+    }
+
+    private int messageFieldSize(int fieldNumber, int slot, int contentSize) {
+        sizes[slot] = contentSize;
+        return lengthDelimitedFieldSize(fieldNumber, contentSize);
+    }
+
+    private int stringFieldSize(int fieldNumber, String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        return requiredStringFieldSize(fieldNumber, value);
+    }
+
+    private int requiredStringFieldSize(int fieldNumber, String value) {
+        int slot = reserveSize();
+        return messageFieldSize(fieldNumber, slot, utf8Length(value));
+    }
+
+    private void writeMessageHeader(int fieldNumber) {
+        writeLengthDelimitedHeader(buffer, fieldNumber, sizes[sizeCursor++]);
+    }
+
+    private void writeString(int fieldNumber, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        writeRequiredString(fieldNumber, value);
+    }
+
+    private void writeRequiredString(int fieldNumber, String value) {
+        writeStringField(buffer, fieldNumber, value, sizes[sizeCursor++]);
+    }
+
+    private int spanSize(SpanData span) {
+        SpanContext spanContext = span.getSpanContext();
+        int size = hexAsBytesFieldSize(SPAN_TRACE_ID, spanContext.getTraceId())
+                + hexAsBytesFieldSize(SPAN_SPAN_ID, spanContext.getSpanId())
+                + stringFieldSize(SPAN_OPERATION_NAME, span.getName());
+        if (span.getParentSpanContext().isValid()) {
+            size += lengthDelimitedFieldSize(SPAN_REFERENCES,
+                    referenceSize(span.getParentSpanContext(), REF_TYPE_CHILD_OF));
+        }
+        List<LinkData> links = span.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            size += lengthDelimitedFieldSize(SPAN_REFERENCES,
+                    referenceSize(links.get(i).getSpanContext(), REF_TYPE_FOLLOWS_FROM));
+        }
+        if (spanContext.isSampled()) {
+            size += varintFieldSize(SPAN_FLAGS, 1);
+        }
+        size += lengthDelimitedFieldSize(SPAN_START_TIME, timeSize(span.getStartEpochNanos()))
+                + lengthDelimitedFieldSize(SPAN_DURATION, timeSize(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                + spanTagsSize(span);
+        List<EventData> events = span.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            int slot = reserveSize();
+            size += messageFieldSize(SPAN_LOGS, slot, logSize(events.get(i)));
+        }
+        return size;
+    }
+
+    private void writeSpan(SpanData span) {
+        SpanContext spanContext = span.getSpanContext();
+        writeHexAsBytesField(buffer, SPAN_TRACE_ID, spanContext.getTraceId());
+        writeHexAsBytesField(buffer, SPAN_SPAN_ID, spanContext.getSpanId());
+        writeString(SPAN_OPERATION_NAME, span.getName());
+        if (span.getParentSpanContext().isValid()) {
+            writeReference(span.getParentSpanContext(), REF_TYPE_CHILD_OF);
+        }
+        List<LinkData> links = span.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            writeReference(links.get(i).getSpanContext(), REF_TYPE_FOLLOWS_FROM);
+        }
+        if (spanContext.isSampled()) {
+            writeVarintField(buffer, SPAN_FLAGS, 1);
+        }
+        writeTime(SPAN_START_TIME, span.getStartEpochNanos());
+        writeTime(SPAN_DURATION, span.getEndEpochNanos() - span.getStartEpochNanos());
+        writeSpanTags(span);
+        List<EventData> events = span.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            writeMessageHeader(SPAN_LOGS);
+            writeLog(events.get(i));
+        }
+    }
+
+    private static int referenceSize(SpanContext spanContext, int refType) {
+        return hexAsBytesFieldSize(REF_TRACE_ID, spanContext.getTraceId())
+                + hexAsBytesFieldSize(REF_SPAN_ID, spanContext.getSpanId())
+                + (refType != REF_TYPE_CHILD_OF ? varintFieldSize(REF_REF_TYPE, refType) : 0);
+    }
+
+    private void writeReference(SpanContext spanContext, int refType) {
+        writeLengthDelimitedHeader(buffer, SPAN_REFERENCES, referenceSize(spanContext, refType));
+        writeHexAsBytesField(buffer, REF_TRACE_ID, spanContext.getTraceId());
+        writeHexAsBytesField(buffer, REF_SPAN_ID, spanContext.getSpanId());
+        if (refType != REF_TYPE_CHILD_OF) {
+            writeVarintField(buffer, REF_REF_TYPE, refType);
+        }
+    }
+
+    // Timestamp and Duration messages omit their zero fields
+    private static int timeSize(long nanos) {
+        long seconds = nanos / NANOS_PER_SECOND;
+        long remainingNanos = nanos % NANOS_PER_SECOND;
+        return (seconds != 0 ? varintFieldSize(TIME_SECONDS, seconds) : 0)
+                + (remainingNanos != 0 ? varintFieldSize(TIME_NANOS, remainingNanos) : 0);
+    }
+
+    private void writeTime(int fieldNumber, long nanos) {
+        writeLengthDelimitedHeader(buffer, fieldNumber, timeSize(nanos));
+        long seconds = nanos / NANOS_PER_SECOND;
+        long remainingNanos = nanos % NANOS_PER_SECOND;
+        if (seconds != 0) {
+            writeVarintField(buffer, TIME_SECONDS, seconds);
+        }
+        if (remainingNanos != 0) {
+            writeVarintField(buffer, TIME_NANOS, remainingNanos);
+        }
+    }
+
+    private int spanTagsSize(SpanData span) {
+        int size = tagsSize(SPAN_TAGS, span.getAttributes());
+        SpanKind kind = span.getKind();
+        if (kind != SpanKind.INTERNAL) {
+            size += tagFieldSize(SPAN_TAGS, "span.kind", kind.name().toLowerCase(Locale.ROOT));
+        }
+        StatusCode statusCode = span.getStatus().getStatusCode();
+        if (statusCode != StatusCode.UNSET) {
+            size += tagFieldSize(SPAN_TAGS, "otel.status_code", statusCode.name());
+        }
+        if (statusCode == StatusCode.ERROR) {
+            size += tagFieldSize(SPAN_TAGS, "error", Boolean.TRUE);
+        }
+        String statusDescription = span.getStatus().getDescription();
+        if (!statusDescription.isEmpty()) {
+            size += tagFieldSize(SPAN_TAGS, "otel.status_description", statusDescription);
+        }
+        InstrumentationScopeInfo scope = span.getInstrumentationScopeInfo();
+        size += tagFieldSize(SPAN_TAGS, "otel.library.name", scope.getName());
+        if (scope.getVersion() != null) {
+            size += tagFieldSize(SPAN_TAGS, "otel.library.version", scope.getVersion());
+        }
+        return size;
+    }
+
+    private void writeSpanTags(SpanData span) {
+        writeTags(SPAN_TAGS, span.getAttributes());
+        SpanKind kind = span.getKind();
+        if (kind != SpanKind.INTERNAL) {
+            writeTagField(SPAN_TAGS, "span.kind", kind.name().toLowerCase(Locale.ROOT));
+        }
+        StatusCode statusCode = span.getStatus().getStatusCode();
+        if (statusCode != StatusCode.UNSET) {
+            writeTagField(SPAN_TAGS, "otel.status_code", statusCode.name());
+        }
+        if (statusCode == StatusCode.ERROR) {
+            writeTagField(SPAN_TAGS, "error", Boolean.TRUE);
+        }
+        String statusDescription = span.getStatus().getDescription();
+        if (!statusDescription.isEmpty()) {
+            writeTagField(SPAN_TAGS, "otel.status_description", statusDescription);
+        }
+        InstrumentationScopeInfo scope = span.getInstrumentationScopeInfo();
+        writeTagField(SPAN_TAGS, "otel.library.name", scope.getName());
+        if (scope.getVersion() != null) {
+            writeTagField(SPAN_TAGS, "otel.library.version", scope.getVersion());
+        }
+    }
+
+    private int logSize(EventData event) {
+        return lengthDelimitedFieldSize(LOG_TIMESTAMP, timeSize(event.getEpochNanos()))
+                + tagFieldSize(LOG_FIELDS, "event", event.getName())
+                + tagsSize(LOG_FIELDS, event.getAttributes());
+    }
+
+    private void writeLog(EventData event) {
+        writeTime(LOG_TIMESTAMP, event.getEpochNanos());
+        writeTagField(LOG_FIELDS, "event", event.getName());
+        writeTags(LOG_FIELDS, event.getAttributes());
+    }
+
+    private int tagsSize(int fieldNumber, Attributes attributes) {
+        if (attributes.isEmpty()) {
+            return 0;
+        }
+        tagsFieldNumber = fieldNumber;
+        tagsSize = 0;
+        attributes.forEach(tagSizer);
+        return tagsSize;
+    }
+
+    private void writeTags(int fieldNumber, Attributes attributes) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        tagsFieldNumber = fieldNumber;
+        attributes.forEach(tagWriter);
+    }
+
+    private int tagFieldSize(int fieldNumber, String key, Object value) {
+        int slot = reserveSize();
+        int size = stringFieldSize(KEY_VALUE_KEY, key);
+        if (value instanceof Boolean) {
+            size += varintFieldSize(KEY_VALUE_V_TYPE, VALUE_TYPE_BOOL) + varintFieldSize(KEY_VALUE_V_BOOL, 1);
+        } else if (value instanceof Long) {
+            size += varintFieldSize(KEY_VALUE_V_TYPE, VALUE_TYPE_INT64)
+                    + varintFieldSize(KEY_VALUE_V_INT64, (Long) value);
+        } else if (value instanceof Double) {
+            size += varintFieldSize(KEY_VALUE_V_TYPE, VALUE_TYPE_FLOAT64) + fixed64FieldSize(KEY_VALUE_V_FLOAT64);
+        } else if (value instanceof List) {
+            String json = JaegerThriftSpanEncoder.toJson((List<?>) value);
+            jsonValues.add(json);
+            size += stringFieldSize(KEY_VALUE_V_STR, json);
+        } else {
+            size += stringFieldSize(KEY_VALUE_V_STR, value.toString());
+        }
+        return messageFieldSize(fieldNumber, slot, size);
+    }
+
+    private void writeTagField(int fieldNumber, String key, Object value) {
+        writeMessageHeader(fieldNumber);
+        writeString(KEY_VALUE_KEY, key);
+        if (value instanceof Boolean) {
+            writeVarintField(buffer, KEY_VALUE_V_TYPE, VALUE_TYPE_BOOL);
+            writeVarintField(buffer, KEY_VALUE_V_BOOL, (Boolean) value ? 1 : 0);
+        } else if (value instanceof Long) {
+            writeVarintField(buffer, KEY_VALUE_V_TYPE, VALUE_TYPE_INT64);
+            writeVarintField(buffer, KEY_VALUE_V_INT64, (Long) value);
+        } else if (value instanceof Double) {
+            writeVarintField(buffer, KEY_VALUE_V_TYPE, VALUE_TYPE_FLOAT64);
+            writeDoubleField(buffer, KEY_VALUE_V_FLOAT64, (Double) value);
+        } else if (value instanceof List) {
+            writeString(KEY_VALUE_V_STR, jsonValues.get(jsonCursor++));
+        } else {
+            writeString(KEY_VALUE_V_STR, value.toString());
+        }
+    }
+}
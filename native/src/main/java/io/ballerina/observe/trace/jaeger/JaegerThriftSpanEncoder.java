@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static io.opentelemetry.semconv.ResourceAttributes.SERVICE_NAME;
+
+/**
+ * Encoder of spans into the Thrift compact structs of the Jaeger agent API.
+ * <p>
+ * Spans are mapped the same way as the OpenTelemetry Jaeger exporters do. Span kind, status and instrumentation
+ * scope become tags, events become logs, and links become {@code FOLLOWS_FROM} references. Array attributes are
+ * written as JSON strings. An encoder is not thread safe.
+ */
+final class JaegerThriftSpanEncoder {
+    private static final String UNKNOWN_SERVICE_NAME = "unknown_service";
+
+    // Tag.vType
+    private static final int TAG_TYPE_STRING = 0;
+    private static final int TAG_TYPE_DOUBLE = 1;
+    private static final int TAG_TYPE_BOOL = 2;
+    private static final int TAG_TYPE_LONG = 3;
+    // SpanRef.refType
+    private static final int REF_TYPE_FOLLOWS_FROM = 1;
+
+    private final ThriftCompactWriter writer = new ThriftCompactWriter();
+    private final BiConsumer<AttributeKey<?>, Object> tagWriter = this::writeTag;
+    private boolean skipServiceName = false;
+
+    /**
+     * Encodes the {@code Process} struct of the spans of a resource.
+     *
+     * @param target   the buffer to write to
+     * @param resource the resource of the spans
+     */
+    void encodeProcess(ByteBuffer target, Resource resource) {
+        writer.reset(target);
+        Attributes attributes = resource.getAttributes();
+        String serviceName = attributes.get(SERVICE_NAME);
+        writer.writeStringField((short) 1, serviceName == null ? UNKNOWN_SERVICE_NAME : serviceName);
+        int tagCount = attributes.size() - (serviceName == null ? 0 : 1);
+        if (tagCount > 0) {
+            writer.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 2);
+            writer.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, tagCount);
+            skipServiceName = true;
+            try {
+                attributes.forEach(tagWriter);
+            } finally {
+                skipServiceName = false;
+            }
+        }
+        writer.writeFieldStop();
+    }
+
+    /**
+     * Encodes the {@code Span} struct of a span.
+     *
+     * @param target the buffer to write to
+     * @param span   the span
+     */
+    void encodeSpan(ByteBuffer target, SpanData span) {
+        writer.reset(target);
+        SpanContext spanContext = span.getSpanContext();
+        String traceId = spanContext.getTraceId();
+        writer.writeI64Field((short) 1, hexToLong(traceId, 16));
+        writer.writeI64Field((short) 2, hexToLong(traceId, 0));
+        writer.writeI64Field((short) 3, hexToLong(spanContext.getSpanId(), 0));
+        writer.writeI64Field((short) 4, span.getParentSpanContext().isValid()
+                ? hexToLong(span.getParentSpanId(), 0) : 0);
+        writer.writeStringField((short) 5, span.getName());
+
+        List<LinkData> links = span.getLinks();
+        if (!links.isEmpty()) {
+            writer.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 6);
+            writer.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, links.size());
+            for (int i = 0; i < links.size(); i++) {
+                writeReference(links.get(i).getSpanContext());
+            }
+        }
+
+        writer.writeI32Field((short) 7, spanContext.isSampled() ? 1 : 0);
+        writer.writeI64Field((short) 8, TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()));
+        writer.writeI64Field((short) 9,
+                TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+
+        writeSpanTags(span);
+
+        List<EventData> events = span.getEvents();
+        if (!events.isEmpty()) {
+            writer.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 11);
+            writer.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                writeLog(events.get(i));
+            }
+        }
+        writer.writeFieldStop();
+    }
+
+    private void writeReference(SpanContext spanContext) {
+        String traceId = spanContext.getTraceId();
+        writer.writeStructBegin();
+        writer.writeI32Field((short) 1, REF_TYPE_FOLLOWS_FROM);
+        writer.writeI64Field((short) 2, hexToLong(traceId, 16));
+        writer.writeI64Field((short) 3, hexToLong(traceId, 0));
+        writer.writeI64Field((short) 4, hexToLong(spanContext.getSpanId(), 0));
+        writer.writeStructEnd();
+    }
+
+    private void writeSpanTags(SpanData span) {
+        SpanKind kind = span.getKind();
+        StatusCode statusCode = span.getStatus().getStatusCode();
+        String statusDescription = span.getStatus().getDescription();
+        InstrumentationScopeInfo scope = span.getInstrumentationScopeInfo();
+
+        int tagCount = span.getAttributes().size();
+        if (kind != SpanKind.INTERNAL) {
+            tagCount++;
+        }
+        if (statusCode != StatusCode.UNSET) {
+            tagCount++;
+        }
+        if (statusCode == StatusCode.ERROR) {
+            tagCount++;
+        }
+        if (!statusDescription.isEmpty()) {
+            tagCount++;
+        }
+        tagCount++;
+        if (scope.getVersion() != null) {
+            tagCount++;
+        }
+
+        writer.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 10);
+        writer.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, tagCount);
+        span.getAttributes().forEach(tagWriter);
+        if (kind != SpanKind.INTERNAL) {
+            writeStringTag("span.kind", kind.name().toLowerCase(Locale.ROOT));
+        }
+        if (statusCode != StatusCode.UNSET) {
+            writeStringTag("otel.status_code", statusCode.name());
+        }
+        if (statusCode == StatusCode.ERROR) {
+            writer.writeStructBegin();
+            writer.writeStringField((short) 1, "error");
+            writer.writeI32Field((short) 2, TAG_TYPE_BOOL);
+            writer.writeBoolField((short) 5, true);
+            writer.writeStructEnd();
+        }
+        if (!statusDescription.isEmpty()) {
+            writeStringTag("otel.status_description", statusDescription);
+        }
+        writeStringTag("otel.library.name", scope.getName());
+        if (scope.getVersion() != null) {
+            writeStringTag("otel.library.version", scope.getVersion());
+        }
+    }
+
+    private void writeLog(EventData event) {
+        writer.writeStructBegin();
+        writer.writeI64Field((short) 1, TimeUnit.NANOSECONDS.toMicros(event.getEpochNanos()));
+        writer.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 2);
+        writer.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, event.getAttributes().size() + 1);
+        writeStringTag("event", event.getName());
+        event.getAttributes().forEach(tagWriter);
+        writer.writeStructEnd();
+    }
+
+    private void writeTag(AttributeKey<?> key, Object value) {
+        if (skipServiceName && SERVICE_NAME.getKey().equals(key.getKey())) {
+            return;
+        }
+        writer.writeStructBegin();
+        writer.writeStringField((short) 1, key.getKey());
+        if (value instanceof Boolean) {
+            writer.writeI32Field((short) 2, TAG_TYPE_BOOL);
+            writer.writeBoolField((short) 5, (Boolean) value);
+        } else if (value instanceof Long) {
+            writer.writeI32Field((short) 2, TAG_TYPE_LONG);
+            writer.writeI64Field((short) 6, (Long) value);
+        } else if (value instanceof Double) {
+            writer.writeI32Field((short) 2, TAG_TYPE_DOUBLE);
+            writer.writeDoubleField((short) 4, (Double) value);
+        } else {
+            writer.writeI32Field((short) 2, TAG_TYPE_STRING);
+            writer.writeStringField((short) 3, value instanceof List ? toJson((List<?>) value) : value.toString());
+        }
+        writer.writeStructEnd();
+    }
+
+    private void writeStringTag(String key, String value) {
+        writer.writeStructBegin();
+        writer.writeStringField((short) 1, key);
+        writer.writeI32Field((short) 2, TAG_TYPE_STRING);
+        writer.writeStringField((short) 3, value);
+        writer.writeStructEnd();
+    }
+
+    /**
+     * Formats the values of an array attribute as a JSON array, the form Jaeger expects for array tags.
+     *
+     * @param values the values of the attribute
+     * @return the JSON array
+     */
+    static String toJson(List<?> values) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof String) {
+                appendJsonString(json, (String) value);
+            } else {
+                json.append(value);
+            }
+        }
+        return json.append(']').toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Parses 16 lowercase hex characters of a trace or span ID into a long.
+     *
+     * @param hex    the hex string of the ID
+     * @param offset the offset of the 16 characters in the string
+     * @return the parsed value
+     */
+    static long hexToLong(String hex, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            value = (value << 4) | Character.digit(hex.charAt(i), 16);
+        }
+        return value;
+    }
+}
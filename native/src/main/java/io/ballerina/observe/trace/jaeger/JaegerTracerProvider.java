@@ -17,24 +17,25 @@
  */
 package io.ballerina.observe.trace.jaeger;
 
+import io.ballerina.observe.trace.jaeger.sampler.PerOperationSampler;
 import io.ballerina.observe.trace.jaeger.sampler.RateLimitingSampler;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.tracer.spi.TracerProvider;
-import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelProvider;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.propagation.ContextPropagators;
-import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
-import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.SpanLimits;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 
 import java.io.PrintStream;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static io.opentelemetry.semconv.ResourceAttributes.SERVICE_NAME;
@@ -44,9 +45,23 @@ import static io.opentelemetry.semconv.ResourceAttributes.SERVICE_NAME;
  */
 public class JaegerTracerProvider implements TracerProvider {
     private static final String TRACER_NAME = "jaeger";
+    private static final int MAX_CACHED_TRACERS = 1024;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_SAMPLER_REFRESH_INTERVAL = 60000;
     private static final PrintStream console = System.out;
 
-    static SdkTracerProviderBuilder tracerProviderBuilder;
+    private static SpanProcessorConfig spanProcessorConfig = new SpanProcessorConfig();
+    private static ExporterConfig exporterConfig = new ExporterConfig();
+    private static ExportRetryConfig exportRetryConfig = new ExportRetryConfig();
+    private static SpanLimitsConfig spanLimitsConfig = new SpanLimitsConfig();
+    private static ChannelConfig channelConfig = new ChannelConfig();
+    private static SamplerConfig samplerConfig = new SamplerConfig();
+    private static TailSamplingConfig tailSamplingConfig = new TailSamplingConfig();
+    private static SpanPipeline spanPipeline;
+    private static Sampler sampler;
+    private static RemoteSamplers remoteSamplers;
+    private static SpanLimits spanLimits;
+    private static TracerCache tracerCache;
 
     @Override
     public String getName() {
@@ -57,31 +72,95 @@ public class JaegerTracerProvider implements TracerProvider {
     public void init() {    // Do Nothing
     }
 
-    public static void initializeConfigurations(BString agentHostname, int agentPort, BString samplerType,
-                                                BDecimal samplerParam, int reporterFlushInterval,
-                                                int reporterBufferSize) {
+    public static void initializeSpanProcessorConfigurations(BString spanProcessorType,
+                                                             BString ringBufferWaitStrategy,
+                                                             int reporterFlushInterval, int reporterExportTimeout,
+                                                             int reporterBufferSize, int reporterMaxExportBatchSize,
+                                                             BString reporterQueueOverflowPolicy,
+                                                             int reporterBlockTimeout, boolean adaptiveBatching,
+                                                             int reporterTargetExportLatency,
+                                                             int reporterMaxBufferedBytes) {
+        spanProcessorConfig = new SpanProcessorConfig(spanProcessorType.getValue(), ringBufferWaitStrategy.getValue(),
+                reporterFlushInterval, reporterExportTimeout, reporterBufferSize, reporterMaxExportBatchSize,
+                reporterQueueOverflowPolicy.getValue(), reporterBlockTimeout, adaptiveBatching,
+                reporterTargetExportLatency, reporterMaxBufferedBytes);
+    }
 
-        String reporterEndpoint = agentHostname + ":" + agentPort;
+    public static void initializeExporterConfigurations(BString exporterProtocol, int maxInFlightExports,
+                                                        int maxInFlightExportBytes, BString compression,
+                                                        boolean directMarshaling, int maxPacketSize,
+                                                        BString spoolDirectory, int spoolMaxBytes,
+                                                        BArray agentEndpoints, BString exportThreads) {
+        exporterConfig = new ExporterConfig(exporterProtocol.getValue(), maxInFlightExports, maxInFlightExportBytes,
+                compression.getValue(), directMarshaling, maxPacketSize, spoolDirectory.getValue(), spoolMaxBytes,
+                List.of(agentEndpoints.getStringArray()), exportThreads.getValue());
+    }
 
-        ManagedChannel jaegerChannel = new NettyChannelProvider()
-                .builderForTarget(reporterEndpoint)
-                .usePlaintext()
-                .build();
+    public static void initializeExportRetryConfigurations(int exportMaxAttempts, int exportRetryInitialBackoff,
+                                                           int exportRetryMaxBackoff,
+                                                           int circuitBreakerFailureThreshold,
+                                                           int circuitBreakerOpenDuration) {
+        exportRetryConfig = new ExportRetryConfig(exportMaxAttempts, exportRetryInitialBackoff, exportRetryMaxBackoff,
+                circuitBreakerFailureThreshold, circuitBreakerOpenDuration);
+    }
 
-        OtlpGrpcSpanExporter exporter = OtlpGrpcSpanExporter.builder()
-                .setChannel(jaegerChannel)
-                .build();
+    public static void initializeSpanLimitsConfigurations(int spanMaxAttributes, int spanMaxEvents, int spanMaxLinks,
+                                                          int spanMaxAttributeValueLength) {
+        spanLimitsConfig = new SpanLimitsConfig(spanMaxAttributes, spanMaxEvents, spanMaxLinks,
+                spanMaxAttributeValueLength);
+    }
+
+    public static void initializeChannelConfigurations(boolean channelWarmUp, int channelWarmUpTimeout,
+                                                       int channelKeepAliveTime) {
+        channelConfig = new ChannelConfig(channelWarmUp, channelWarmUpTimeout, channelKeepAliveTime);
+    }
+
+    public static void initializeSamplerConfigurations(BDecimal samplerLowerBound, int samplerMaxOperations,
+                                                       boolean samplerParentBased) {
+        samplerConfig = new SamplerConfig(samplerLowerBound.value().doubleValue(), samplerMaxOperations,
+                samplerParentBased);
+    }
 
-        tracerProviderBuilder = SdkTracerProvider.builder()
-                .addSpanProcessor(BatchSpanProcessor
-                        .builder(exporter)
-                        .setMaxExportBatchSize(reporterBufferSize)
-                        .setExporterTimeout(reporterFlushInterval, TimeUnit.MILLISECONDS)
-                        .build());
+    public static void initializeTailSamplingConfigurations(boolean tailSampling, int tailSamplingDecisionWait,
+                                                            int tailSamplingLatencyThreshold,
+                                                            BArray tailSamplingAttributes,
+                                                            BDecimal tailSamplingProbability,
+                                                            int tailSamplingMaxBufferedBytes) {
+        tailSamplingConfig = new TailSamplingConfig(tailSampling, tailSamplingDecisionWait,
+                tailSamplingLatencyThreshold, List.of(tailSamplingAttributes.getStringArray()),
+                tailSamplingProbability.value().doubleValue(), tailSamplingMaxBufferedBytes);
+    }
 
-        tracerProviderBuilder.setSampler(selectSampler(samplerType, samplerParam));
+    public static void initializeConfigurations(BString agentHostname, int agentPort, BString samplerType,
+                                                BDecimal samplerParam, BString samplerEndpoint,
+                                                int samplerRefreshInterval) {
+
+        ExportTransport transport = exporterConfig.createTransport(agentHostname.getValue(), agentPort,
+                channelConfig);
+        ExportCircuitBreaker circuitBreaker = exportRetryConfig.createCircuitBreaker(transport.getEndpoint());
+        SpanExporter exporter = spanLimitsConfig.createCountingSpanExporter(exporterConfig.createSpanExporter(
+                transport, exportRetryConfig, circuitBreaker, spanProcessorConfig.getExportTimeout()));
+        SpanProcessor spanProcessor = tailSamplingConfig.wrapSpanProcessor(spanProcessorConfig.createSpanProcessor(
+                exporter, transport.sendsEncodedRequests(), exporterConfig.getExportThreads(),
+                exporterConfig.isPipelined()),
+                exporterConfig.getExportThreads());
+        spanPipeline = new SpanPipeline(transport, spanProcessor, circuitBreaker);
+        if (RemoteSamplers.TYPE.equals(samplerType.getValue())) {
+            // Until the strategies of a service are fetched, its traces are sampled with the given probability
+            remoteSamplers = new RemoteSamplers(samplerEndpoint.getValue(),
+                    ConfigUtils.positiveOrDefault("samplerRefreshInterval", samplerRefreshInterval,
+                            DEFAULT_SAMPLER_REFRESH_INTERVAL),
+                    Sampler.traceIdRatioBased(samplerParam.value().doubleValue()), samplerConfig.getMaxOperations());
+        } else {
+            sampler = selectSampler(samplerType, samplerParam);
+        }
+        spanLimits = spanLimitsConfig.createSpanLimits();
+        tracerCache = new TracerCache(JaegerTracerProvider::buildTracerProvider, TRACER_NAME, MAX_CACHED_TRACERS);
+        tracerCache.registerMetrics();
+        Runtime.getRuntime().addShutdownHook(new Thread(JaegerTracerProvider::shutdown, "jaeger-tracer-shutdown"));
+        channelConfig.warmUp(transport);
 
-        console.println("ballerina: started publishing traces to Jaeger on " + reporterEndpoint);
+        console.println("ballerina: started publishing traces to Jaeger on " + transport.getEndpoint());
     }
 
     private static Sampler selectSampler(BString samplerType, BDecimal samplerParam) {
@@ -97,15 +176,33 @@ public class JaegerTracerProvider implements TracerProvider {
                 return Sampler.traceIdRatioBased(samplerParam.value().doubleValue());
             case RateLimitingSampler.TYPE:
                 return new RateLimitingSampler(samplerParam.value().intValue());
+            case PerOperationSampler.TYPE:
+                return samplerConfig.createPerOperationSampler(samplerParam.value().doubleValue());
+        }
+    }
+
+    private static SdkTracerProvider buildTracerProvider(String serviceName) {
+        return SdkTracerProvider.builder()
+                .addSpanProcessor(spanPipeline.newProcessorView())
+                .setSampler(samplerConfig.wrapSampler(
+                        remoteSamplers != null ? remoteSamplers.getSampler(serviceName) : sampler))
+                .setSpanLimits(spanLimits)
+                .setResource(Resource.create(Attributes.of(SERVICE_NAME, serviceName)))
+                .build();
+    }
+
+    private static void shutdown() {
+        tracerCache.close();
+        spanPipeline.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (remoteSamplers != null) {
+            remoteSamplers.shutdown();
         }
     }
 
     @Override
     public Tracer getTracer(String serviceName) {
 
-        return tracerProviderBuilder.setResource(
-                Resource.create(Attributes.of(SERVICE_NAME, serviceName)))
-                .build().get("jaeger");
+        return tracerCache.getTracer(serviceName);
     }
 
     @Override
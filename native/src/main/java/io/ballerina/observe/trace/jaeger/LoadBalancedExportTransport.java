@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport to several collector endpoints of the same protocol, with one transport per endpoint.
+ * <p>
+ * The spans are spread over the endpoints by a {@link LoadBalancingSpanExporter}, which keeps the spans of a trace on
+ * the same endpoint and moves them to another endpoint when their endpoint fails.
+ */
+class LoadBalancedExportTransport implements ExportTransport {
+    private final List<ExportTransport> transports;
+    private final List<String> endpoints;
+
+    LoadBalancedExportTransport(List<ExportTransport> transports) {
+        this.transports = transports;
+        this.endpoints = new ArrayList<>(transports.size());
+        for (ExportTransport transport : transports) {
+            endpoints.add(transport.getEndpoint());
+        }
+    }
+
+    @Override
+    public String getEndpoint() {
+        return String.join(", ", endpoints);
+    }
+
+    @Override
+    public SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig) {
+        List<SpanExporter> exporters = new ArrayList<>(transports.size());
+        List<ExportCircuitBreaker> circuitBreakers = new ArrayList<>(transports.size());
+        boolean sendsEncodedRequests = true;
+        for (ExportTransport transport : transports) {
+            SpanExporter exporter = transport.createSpanExporter(exportTimeout, retryConfig);
+            sendsEncodedRequests &= OtlpRequestSender.of(exporter).canSendEncoded();
+            exporters.add(exporter);
+            circuitBreakers.add(retryConfig.createCircuitBreaker(transport.getEndpoint()));
+        }
+        LoadBalancingSpanExporter exporter = sendsEncodedRequests
+                ? new LoadBalancingOtlpSpanExporter(endpoints, exporters, circuitBreakers)
+                : new LoadBalancingSpanExporter(endpoints, exporters, circuitBreakers);
+        exporter.registerMetrics();
+        return exporter;
+    }
+
+    @Override
+    public boolean sendsEncodedRequests() {
+        // Encoded requests are sent to the endpoints in turn, which would split traces over the collectors
+        return false;
+    }
+
+    @Override
+    public boolean requestConnection() {
+        boolean requested = false;
+        for (ExportTransport transport : transports) {
+            requested |= transport.requestConnection();
+        }
+        return requested;
+    }
+
+    @Override
+    public boolean awaitConnection(long timeout, TimeUnit unit) {
+        // The endpoints connect at the same time, so they share the timeout
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean connected = true;
+        for (ExportTransport transport : transports) {
+            connected &= transport.awaitConnection(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        return connected;
+    }
+
+    @Override
+    public void shutdown() {
+        for (ExportTransport transport : transports) {
+            transport.shutdown();
+        }
+    }
+}
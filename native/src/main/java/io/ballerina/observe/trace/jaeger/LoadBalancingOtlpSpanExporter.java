@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load balancing exporter over OTLP endpoints, which can also send already encoded requests.
+ * <p>
+ * An encoded request is not split by trace, so it is sent to the available endpoints in turn. Encoded requests are
+ * only sent when spooled batches are replayed, and spans which have already waited in the spool are past the
+ * decision window of tail sampling in any case.
+ */
+class LoadBalancingOtlpSpanExporter extends LoadBalancingSpanExporter implements OtlpRequestSender {
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+
+    LoadBalancingOtlpSpanExporter(List<String> endpoints, List<SpanExporter> exporters,
+                                  List<ExportCircuitBreaker> circuitBreakers) {
+        super(endpoints, exporters, circuitBreakers);
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        List<SpanExporter> exporters = getExporters();
+        List<ExportCircuitBreaker> circuitBreakers = getCircuitBreakers();
+        int first = Math.floorMod(nextEndpoint.getAndIncrement(), exporters.size());
+        for (int i = 0; i < exporters.size(); i++) {
+            int endpoint = (first + i) % exporters.size();
+            ExportCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+            if (!circuitBreaker.tryAcquire()) {
+                continue;
+            }
+            CompletableResultCode result = ((OtlpRequestSender) exporters.get(endpoint)).sendEncoded(request);
+            result.whenComplete(() -> recordResult(endpoint, result));
+            return result;
+        }
+        return CompletableResultCode.ofFailure();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.observe.trace.jaeger.JaegerThriftSpanEncoder.hexToLong;
+
+/**
+ * Span exporter which spreads the spans over several collector endpoints, keeping the spans of a trace together.
+ * <p>
+ * Each span is routed with rendezvous hashing of its trace ID: every endpoint scores the trace, and the span goes to
+ * the available endpoint with the highest score. The scores only depend on the trace ID and the address of the
+ * endpoint, so every process configured with the same endpoints sends the spans of a trace to the same collector,
+ * which keeps tail sampling in the collectors working. A batch is split into one export per endpoint.
+ * <p>
+ * The health of each endpoint is tracked by its own {@link ExportCircuitBreaker}. When an export to an endpoint
+ * fails, its spans are routed again without that endpoint, which moves them to the next endpoint in the order of
+ * their traces, and the traces of the other endpoints stay where they are. An export which the collector rejected
+ * with an error that is not retryable, as told by a {@link RejectionReportingExporter}, is not routed again, as every
+ * collector would reject it, and counts as a sign of health of the endpoint.
+ */
+class LoadBalancingSpanExporter implements SpanExporter {
+    private final List<String> endpoints;
+    private final List<SpanExporter> exporters;
+    private final List<ExportCircuitBreaker> circuitBreakers;
+    private final long[] endpointSeeds;
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+    private final LongAdder failovers = new LongAdder();
+
+    /**
+     * Creates the exporter.
+     *
+     * @param endpoints       the addresses of the endpoints, which seed the scores of the endpoints
+     * @param exporters       the exporters of the endpoints, in the same order
+     * @param circuitBreakers the circuit breakers tracking the health of the endpoints, in the same order
+     */
+    LoadBalancingSpanExporter(List<String> endpoints, List<SpanExporter> exporters,
+                              List<ExportCircuitBreaker> circuitBreakers) {
+        this.endpoints = endpoints;
+        this.exporters = exporters;
+        this.circuitBreakers = circuitBreakers;
+        this.endpointSeeds = new long[endpoints.size()];
+        for (int i = 0; i < endpointSeeds.length; i++) {
+            endpointSeeds[i] = mix(endpoints.get(i).hashCode());
+        }
+    }
+
+    /**
+     * Publishes the number of exports moved to another endpoint.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("load_balancing_failovers", "Exports moved to another collector endpoint after "
+                + "failing or finding their endpoint unavailable", this, LoadBalancingSpanExporter::getFailovers);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        return route(spans, new BitSet(endpointSeeds.length));
+    }
+
+    private CompletableResultCode route(Collection<SpanData> spans, BitSet excluded) {
+        // Availability is read once per batch, so the spans of a trace are not split by a change of health
+        BitSet available = new BitSet(endpointSeeds.length);
+        for (int i = 0; i < endpointSeeds.length; i++) {
+            if (!excluded.get(i) && circuitBreakers.get(i).isAvailable()) {
+                available.set(i);
+            }
+        }
+        if (available.isEmpty()) {
+            return CompletableResultCode.ofFailure();
+        }
+
+        List<List<SpanData>> groups = new ArrayList<>(endpointSeeds.length);
+        for (int i = 0; i < endpointSeeds.length; i++) {
+            groups.add(null);
+        }
+        for (SpanData span : spans) {
+            int endpoint = selectEndpoint(hexToLong(span.getSpanContext().getTraceId(), 16), available);
+            List<SpanData> group = groups.get(endpoint);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.set(endpoint, group);
+            }
+            group.add(span);
+        }
+
+        List<CompletableResultCode> results = new ArrayList<>(available.cardinality());
+        for (int i = 0; i < endpointSeeds.length; i++) {
+            if (groups.get(i) != null) {
+                results.add(exportTo(i, groups.get(i), excluded));
+            }
+        }
+        return results.size() == 1 ? results.get(0) : CompletableResultCode.ofAll(results);
+    }
+
+    private CompletableResultCode exportTo(int endpoint, List<SpanData> spans, BitSet excluded) {
+        ExportCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (!circuitBreaker.tryAcquire()) {
+            return failover(endpoint, spans, excluded);
+        }
+        CompletableResultCode exported;
+        try {
+            exported = exporters.get(endpoint).export(spans);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            return failover(endpoint, spans, excluded);
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        exported.whenComplete(() -> {
+            if (!recordResult(endpoint, exported)) {
+                if (exported.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+                return;
+            }
+            CompletableResultCode retried = failover(endpoint, spans, excluded);
+            retried.whenComplete(() -> {
+                if (retried.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Reports the result of an export to the circuit breaker of its endpoint.
+     *
+     * @param endpoint the index of the endpoint
+     * @param result   the completed result of the export
+     * @return true if the export failed and may succeed on another endpoint
+     */
+    boolean recordResult(int endpoint, CompletableResultCode result) {
+        ExportCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        SpanExporter exporter = exporters.get(endpoint);
+        if (result.isSuccess() || (exporter instanceof RejectionReportingExporter
+                && ((RejectionReportingExporter) exporter).isRejected(result))) {
+            // A rejecting collector is still answering
+            circuitBreaker.onSuccess();
+            return false;
+        }
+        circuitBreaker.onFailure();
+        return true;
+    }
+
+    private CompletableResultCode failover(int endpoint, List<SpanData> spans, BitSet excluded) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        failovers.increment();
+        BitSet remaining = (BitSet) excluded.clone();
+        remaining.set(endpoint);
+        return route(spans, remaining);
+    }
+
+    /**
+     * Returns the available endpoint with the highest score for a trace.
+     *
+     * @param traceKey  the low 64 bits of the trace ID
+     * @param available the endpoints to choose from, which must not be empty
+     * @return the index of the endpoint
+     */
+    int selectEndpoint(long traceKey, BitSet available) {
+        int selected = -1;
+        long bestScore = 0;
+        for (int i = available.nextSetBit(0); i >= 0; i = available.nextSetBit(i + 1)) {
+            long score = mix(traceKey ^ endpointSeeds[i]);
+            if (selected < 0 || Long.compareUnsigned(score, bestScore) > 0) {
+                selected = i;
+                bestScore = score;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Finalizer of the 64-bit MurmurHash3, spreading the bits of the input over the whole output.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        List<CompletableResultCode> results = new ArrayList<>(exporters.size());
+        for (SpanExporter exporter : exporters) {
+            results.add(exporter.flush());
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        List<CompletableResultCode> results = new ArrayList<>(exporters.size());
+        for (SpanExporter exporter : exporters) {
+            results.add(exporter.shutdown());
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+
+    List<String> getEndpoints() {
+        return endpoints;
+    }
+
+    List<SpanExporter> getExporters() {
+        return exporters;
+    }
+
+    List<ExportCircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    long getFailovers() {
+        return failovers.sum();
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span processor which keeps ended spans encoded in direct memory instead of as objects on the Java heap.
+ * <p>
+ * Ending a span encodes it as an OTLP {@code Span} message straight into a {@link SpanArena} of direct memory chunks,
+ * so the span objects become garbage right away instead of surviving in a queue until they are exported. A single
+ * worker thread assembles export requests by concatenating the encoded spans with an {@link EncodedSpanBatch} and
+ * sends them with an exporter which is an {@link OtlpRequestSender}. Spans which end while the arena is full are
+ * dropped. The worker waits for each export to complete before sending the next request, unless the exporter
+ * pipelines the exports and bounds the requests in flight itself.
+ */
+public final class OffHeapSpanProcessor implements SpanProcessor {
+    public static final String TYPE = "offheap";
+
+    private static final Logger logger = Logger.getLogger(OffHeapSpanProcessor.class.getName());
+    static final String WORKER_THREAD_NAME = "jaeger-off-heap-span-processor";
+    private static final int MAX_CHUNK_SIZE = 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 4096;
+
+    private final SpanExporter exporter;
+    private final OtlpRequestSender sender;
+    private final SpanArena arena;
+    private final EncodedSpanScopes scopes = new EncodedSpanScopes();
+    private final EncodedSpanBatch batch;
+    private final int maxExportBatchSize;
+    private final long scheduleDelayNanos;
+    private final long exportTimeoutNanos;
+    private final boolean pipelinedExports;
+    private final ThreadLocal<SpanWriter> spanWriters = ThreadLocal.withInitial(SpanWriter::new);
+    private final Thread worker;
+
+    private final AtomicReference<CompletableResultCode> flushRequest = new AtomicReference<>();
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+    private volatile boolean running = true;
+    private volatile boolean workerParked = false;
+
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder oversizedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+
+    private OffHeapSpanProcessor(Builder builder) {
+        this.exporter = builder.exporter;
+        this.sender = OtlpRequestSender.of(builder.exporter);
+        // A small arena gets smaller chunks rather than being rounded up to a whole large chunk
+        this.arena = new SpanArena(builder.maxBufferedBytes,
+                (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, builder.maxBufferedBytes)));
+        this.batch = new EncodedSpanBatch(arena, scopes);
+        this.maxExportBatchSize = builder.maxExportBatchSize;
+        this.scheduleDelayNanos = builder.scheduleDelayNanos;
+        this.exportTimeoutNanos = builder.exportTimeoutNanos;
+        this.pipelinedExports = builder.pipelinedExports;
+        this.worker = builder.threadFactory.newThread(this::run);
+    }
+
+    /**
+     * Creates a builder of the processor.
+     *
+     * @param exporter the exporter of the spans, which must also be an {@link OtlpRequestSender}
+     * @return the builder
+     */
+    public static Builder builder(SpanExporter exporter) {
+        return new Builder(exporter);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled() || !running) {
+            return;
+        }
+        SpanData spanData = span.toSpanData();
+        int scopeId = scopes.getId(spanData.getResource(), spanData.getInstrumentationScopeInfo());
+        SpanWriter writer = spanWriters.get();
+        int size = writer.encoder.prepareSpan(spanData);
+        if (size > arena.getMaxRecordSize()) {
+            oversizedSpans.increment();
+            return;
+        }
+        if (!arena.append(scopeId, size, writer)) {
+            droppedSpans.increment();
+            return;
+        }
+        if (workerParked && arena.getRecords() >= maxExportBatchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        CompletableResultCode pending = flushRequest.compareAndExchange(null, result);
+        LockSupport.unpark(worker);
+        return pending == null ? result : pending;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (isShutdown.compareAndSet(false, true)) {
+            running = false;
+            LockSupport.unpark(worker);
+        }
+        return shutdownResult;
+    }
+
+    /**
+     * Returns the number of spans dropped because the arena was full.
+     *
+     * @return the number of dropped spans
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped because their encoded size was larger than a chunk of the arena.
+     *
+     * @return the number of dropped spans
+     */
+    public long getOversizedSpans() {
+        return oversizedSpans.sum();
+    }
+
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    /**
+     * Returns the number of encoded spans waiting in the arena, including the spans of the batch being exported.
+     *
+     * @return the number of buffered spans
+     */
+    public int getOccupancy() {
+        return arena.getRecords();
+    }
+
+    /**
+     * Returns the bytes of direct memory held by the encoded spans.
+     *
+     * @return the buffered bytes
+     */
+    public long getBufferedBytes() {
+        return arena.getUsedBytes();
+    }
+
+    public long getPeakBufferedBytes() {
+        return arena.getPeakUsedBytes();
+    }
+
+    /**
+     * Returns the direct memory allocated for the arena, which grows in chunks up to its capacity and is kept.
+     *
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return arena.getAllocatedBytes();
+    }
+
+    private void run() {
+        long nextExportTime = System.nanoTime() + scheduleDelayNanos;
+        while (running) {
+            CompletableResultCode flush = flushRequest.get();
+            if (flush != null) {
+                exportAll();
+                if (pipelinedExports) {
+                    exporter.flush().join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+                }
+                flushRequest.set(null);
+                flush.succeed();
+                nextExportTime = System.nanoTime() + scheduleDelayNanos;
+                continue;
+            }
+            int records = arena.getRecords();
+            long now = System.nanoTime();
+            if (records >= maxExportBatchSize || (now - nextExportTime >= 0 && records > 0)) {
+                export();
+                nextExportTime = System.nanoTime() + scheduleDelayNanos;
+            } else {
+                if (now - nextExportTime >= 0) {
+                    nextExportTime = now + scheduleDelayNanos;
+                }
+                workerParked = true;
+                if (running && flushRequest.get() == null && arena.getRecords() < maxExportBatchSize) {
+                    LockSupport.parkNanos(this, nextExportTime - now);
+                }
+                workerParked = false;
+            }
+        }
+        exportAll();
+        CompletableResultCode flush = flushRequest.getAndSet(null);
+        if (flush != null) {
+            flush.succeed();
+        }
+        exporter.shutdown().whenComplete(shutdownResult::succeed);
+    }
+
+    private void exportAll() {
+        while (export()) {
+            // Export until the arena is empty
+        }
+    }
+
+    private boolean export() {
+        int spanCount = batch.collect(maxExportBatchSize, AdaptiveBatchController.MAX_BATCH_BYTES);
+        if (spanCount == 0) {
+            return false;
+        }
+        try {
+            ByteBuffer request = batch.encode();
+            CompletableResultCode result = sender.sendEncoded(request);
+            // The request is copied by the sender, so the spans can make room for new ones while it is in flight
+            batch.release();
+            result.whenComplete(() -> {
+                if (result.isSuccess()) {
+                    exportedSpans.add(spanCount);
+                } else {
+                    logger.log(Level.FINE, "failed to export " + spanCount + " spans");
+                }
+            });
+            if (!pipelinedExports) {
+                result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "exporter threw an exception while exporting spans", e);
+        } finally {
+            batch.release();
+        }
+        return true;
+    }
+
+    /**
+     * Per-thread encoder of the ended spans, writing the span prepared last into the region given by the arena.
+     */
+    private static final class SpanWriter implements Consumer<ByteBuffer> {
+        private final OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+
+        @Override
+        public void accept(ByteBuffer region) {
+            encoder.writeSpanTo(region);
+        }
+    }
+
+    /**
+     * Builder for {@link OffHeapSpanProcessor}.
+     */
+    public static final class Builder {
+        private static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+        private static final long DEFAULT_SCHEDULE_DELAY_MILLIS = 5000;
+        private static final long DEFAULT_EXPORT_TIMEOUT_MILLIS = 30000;
+        private static final long DEFAULT_MAX_BUFFERED_BYTES = 32L * 1024 * 1024;
+
+        private final SpanExporter exporter;
+        private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+        private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
+        private long exportTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+        private long maxBufferedBytes = DEFAULT_MAX_BUFFERED_BYTES;
+        private boolean pipelinedExports = false;
+
+        private ThreadFactory threadFactory = ExportThreads.PLATFORM.newThreadFactory(WORKER_THREAD_NAME);
+
+        private Builder(SpanExporter exporter) {
+            if (!OtlpRequestSender.of(exporter).canSendEncoded()) {
+                throw new IllegalArgumentException("exporter must send encoded OTLP requests: "
+                        + exporter.getClass().getName());
+            }
+            this.exporter = exporter;
+        }
+
+        public Builder setMaxExportBatchSize(int maxExportBatchSize) {
+            if (maxExportBatchSize < 1) {
+                throw new IllegalArgumentException("maxExportBatchSize must be positive: " + maxExportBatchSize);
+            }
+            this.maxExportBatchSize = maxExportBatchSize;
+            return this;
+        }
+
+        public Builder setScheduleDelay(long delay, TimeUnit unit) {
+            this.scheduleDelayNanos = unit.toNanos(delay);
+            return this;
+        }
+
+        public Builder setExporterTimeout(long timeout, TimeUnit unit) {
+            this.exportTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the capacity of the arena holding the encoded spans, which is allocated in direct memory as needed.
+         *
+         * @param maxBufferedBytes the maximum buffered bytes
+         * @return this builder
+         */
+        public Builder setMaxBufferedBytes(long maxBufferedBytes) {
+            if (maxBufferedBytes < 1) {
+                throw new IllegalArgumentException("maxBufferedBytes must be positive: " + maxBufferedBytes);
+            }
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        /**
+         * Declares that the exporter returns before its exports complete and bounds the requests in flight itself,
+         * so the worker sends the next request without waiting for the previous export to complete.
+         *
+         * @param pipelinedExports whether the exporter pipelines the exports
+         * @return this builder
+         */
+        public Builder setPipelinedExports(boolean pipelinedExports) {
+            this.pipelinedExports = pipelinedExports;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the worker thread, such as a factory of virtual threads. The worker is a daemon
+         * platform thread by default.
+         *
+         * @param threadFactory the factory of the worker thread
+         * @return this builder
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public OffHeapSpanProcessor build() {
+            OffHeapSpanProcessor processor = new OffHeapSpanProcessor(this);
+            processor.worker.start();
+            return processor;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.airlift.compress.zstd.ZstdOutputStream;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OTLP/HTTP span exporter posting binary protobuf export requests.
+ * <p>
+ * The spans are encoded by an {@link OtlpSpanEncoder} into a request body of the exact size, which is optionally
+ * compressed and sent asynchronously. The export completes when the collector responds. Requests which fail to
+ * connect, time out or are throttled by the collector are posted again following the {@link ExportRetryPolicy}, and
+ * requests which fail with another HTTP status are recorded as rejected.
+ */
+class OtlpHttpSpanExporter implements SpanExporter, OtlpRequestSender, RejectionReportingExporter {
+    private static final Logger logger = Logger.getLogger(OtlpHttpSpanExporter.class.getName());
+
+    private static final String CONTENT_TYPE = "application/x-protobuf";
+
+    private final HttpClient client;
+    private final URI tracesUri;
+    private final String compression;
+    private final CompressionStats compressionStats;
+    private final Duration timeout;
+    private final ExportRetryPolicy retryPolicy;
+    private final OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+    private final Set<CompletableResultCode> inFlightResults = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableResultCode> rejectedResults = RejectionReportingExporter.newRejectedResults();
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder exportedBytes = new LongAdder();
+    private final LongAdder failedExports = new LongAdder();
+    private final LongAdder retriedExports = new LongAdder();
+
+    OtlpHttpSpanExporter(HttpClient client, URI tracesUri, String compression, CompressionStats compressionStats,
+                         Duration timeout, ExportRetryPolicy retryPolicy) {
+        this.client = client;
+        this.tracesUri = tracesUri;
+        this.compression = compression;
+        this.compressionStats = compressionStats;
+        this.timeout = timeout;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Returns whether a request rejected with the given HTTP status may succeed when posted again. These are the
+     * statuses which the OTLP specification marks as retryable.
+     *
+     * @param statusCode the HTTP status of the response
+     * @return true if the request should be retried
+     */
+    static boolean isRetryable(int statusCode) {
+        switch (statusCode) {
+            case 429:
+            case 502:
+            case 503:
+            case 504:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        return send(encode(spans), spans.size());
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        byte[] body = new byte[request.remaining()];
+        request.duplicate().get(body);
+        // Replayed spans are counted by the spool
+        return send(body, 0);
+    }
+
+    private CompletableResultCode send(byte[] encodedRequest, int spanCount) {
+        byte[] body;
+        try {
+            body = compress(encodedRequest);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "failed to compress the span export request", e);
+            return CompletableResultCode.ofFailure();
+        }
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(tracesUri)
+                .timeout(timeout)
+                .header("Content-Type", CONTENT_TYPE);
+        if (!ExporterConfig.NO_COMPRESSION.equals(compression)) {
+            requestBuilder.header("Content-Encoding", compression);
+        }
+        HttpRequest request = requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build();
+
+        CompletableResultCode result = new CompletableResultCode();
+        inFlightResults.add(result);
+        post(request, body.length, spanCount, result, 1);
+        return result;
+    }
+
+    private void post(HttpRequest request, int bodySize, int spanCount, CompletableResultCode result, int attempt) {
+        if (attempt > 1 && isShutdown.get()) {
+            complete(result, false);
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error == null && response.statusCode() / 100 == 2) {
+                exportedSpans.add(spanCount);
+                exportedBytes.add(bodySize);
+                complete(result, true);
+                return;
+            }
+            // Connection failures and timeouts are retried like an unavailable collector
+            boolean retryable = error != null || isRetryable(response.statusCode());
+            String cause = error != null ? String.valueOf(error) : "HTTP status " + response.statusCode();
+            if (retryable && retryPolicy.canRetry(attempt) && !isShutdown.get()) {
+                retriedExports.increment();
+                logger.log(Level.FINE, "retrying the span export request after attempt " + attempt + ": " + cause);
+                retryPolicy.scheduleRetry(attempt, () -> post(request, bodySize, spanCount, result, attempt + 1));
+            } else {
+                logger.log(Level.FINE, "failed to export spans: " + cause);
+                if (!retryable) {
+                    rejectedResults.add(result);
+                }
+                complete(result, false);
+            }
+        });
+    }
+
+    private void complete(CompletableResultCode result, boolean success) {
+        inFlightResults.remove(result);
+        if (success) {
+            result.succeed();
+        } else {
+            failedExports.increment();
+            result.fail();
+        }
+    }
+
+    private byte[] encode(Collection<SpanData> spans) {
+        // The encoder reuses its scratch state, so batches are encoded one at a time
+        synchronized (encoder) {
+            byte[] body = new byte[encoder.prepare(spans)];
+            encoder.writeTo(ByteBuffer.wrap(body));
+            return body;
+        }
+    }
+
+    private byte[] compress(byte[] body) throws IOException {
+        if (ExporterConfig.NO_COMPRESSION.equals(compression)) {
+            return body;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (OutputStream out = ExporterConfig.ZSTD_COMPRESSION.equals(compression)
+                ? new ZstdOutputStream(compressed) : new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        compressionStats.record(body.length, compressed.size());
+        return compressed.toByteArray();
+    }
+
+    @Override
+    public boolean isRejected(CompletableResultCode result) {
+        return rejectedResults.contains(result);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofAll(new ArrayList<>(inFlightResults));
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        // The client is owned by the transport, which closes it after the processor is shut down
+        return flush();
+    }
+
+    /**
+     * Publishes the exported spans and bytes and the failed and retried exports to the Ballerina metrics registry.
+     *
+     * @param endpoint the endpoint of the collector
+     */
+    void registerMetrics(String endpoint) {
+        JaegerMetrics.register("exported_spans", "Spans accepted by the collector", "endpoint", endpoint,
+                this, OtlpHttpSpanExporter::getExportedSpans);
+        JaegerMetrics.register("exported_bytes", "Bytes of the export requests accepted by the collector",
+                "endpoint", endpoint, this, OtlpHttpSpanExporter::getExportedBytes);
+        JaegerMetrics.register("failed_exports", "Export requests failed after their last attempt", "endpoint",
+                endpoint, this, OtlpHttpSpanExporter::getFailedExports);
+        JaegerMetrics.register("retried_exports", "Export requests attempted again after a retryable failure",
+                "endpoint", endpoint, this, OtlpHttpSpanExporter::getRetriedExports);
+    }
+
+    long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    long getExportedBytes() {
+        return exportedBytes.sum();
+    }
+
+    long getFailedExports() {
+        return failedExports.sum();
+    }
+
+    long getRetriedExports() {
+        return retriedExports.sum();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Exporter which can send an OTLP {@code ExportTraceServiceRequest} that was encoded earlier, such as one replayed
+ * from the {@link SpanSpool}.
+ * <p>
+ * An exporter decorating another one implements this interface whatever the exporter it decorates, and can only send
+ * encoded requests when that exporter can, as reported by {@link #canSendEncoded()}.
+ */
+interface OtlpRequestSender {
+
+    /**
+     * Sender of an exporter which cannot send encoded requests.
+     */
+    OtlpRequestSender UNSUPPORTED = new OtlpRequestSender() {
+        @Override
+        public CompletableResultCode sendEncoded(ByteBuffer request) {
+            throw new UnsupportedOperationException("exporter does not send encoded OTLP requests");
+        }
+
+        @Override
+        public boolean canSendEncoded() {
+            return false;
+        }
+    };
+
+    /**
+     * Returns the sender of encoded requests through the given exporter.
+     *
+     * @param exporter the exporter
+     * @return the exporter, or {@link #UNSUPPORTED} if it cannot send encoded requests
+     */
+    static OtlpRequestSender of(SpanExporter exporter) {
+        if (exporter instanceof OtlpRequestSender && ((OtlpRequestSender) exporter).canSendEncoded()) {
+            return (OtlpRequestSender) exporter;
+        }
+        return UNSUPPORTED;
+    }
+
+    /**
+     * Sends an encoded export request to the collector. The content of the buffer is copied before this returns.
+     *
+     * @param request the encoded request, between the position and the limit of the buffer
+     * @return the result of the export
+     */
+    CompletableResultCode sendEncoded(ByteBuffer request);
+
+    /**
+     * Returns whether this exporter can send encoded requests.
+     *
+     * @return whether {@link #sendEncoded(ByteBuffer)} can be called
+     */
+    default boolean canSendEncoded() {
+        return true;
+    }
+}
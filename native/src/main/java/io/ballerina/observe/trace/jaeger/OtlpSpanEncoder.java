@@ -0,0 +1,631 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.fixed64FieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.hexAsBytesFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.lengthDelimitedFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.utf8Length;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.varintFieldSize;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeDoubleField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeFixed64Field;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeHexAsBytesField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeLengthDelimitedHeader;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeStringField;
+import static io.ballerina.observe.trace.jaeger.ProtoWriter.writeVarintField;
+
+/**
+ * Encoder of spans into an OTLP {@code ExportTraceServiceRequest} protobuf message.
+ * <p>
+ * The spans are encoded straight from the {@link SpanData} into the target buffer, without building the intermediate
+ * marshaler objects of the OpenTelemetry exporter. {@link #prepare(Collection)} groups the spans by resource and
+ * instrumentation scope and computes the sizes of all the nested messages and strings into a scratch array which is
+ * reused across batches, then {@link #writeTo(ByteBuffer)} writes the request using these sizes. Single spans can be
+ * encoded the same way with {@link #prepareSpan(SpanData)} and {@link #writeSpanTo(ByteBuffer)}, to be assembled
+ * into requests later. An encoder is not thread safe.
+ */
+final class OtlpSpanEncoder {
+    // ExportTraceServiceRequest
+    private static final int REQUEST_RESOURCE_SPANS = 1;
+    // ResourceSpans
+    private static final int RESOURCE_SPANS_RESOURCE = 1;
+    private static final int RESOURCE_SPANS_SCOPE_SPANS = 2;
+    private static final int RESOURCE_SPANS_SCHEMA_URL = 3;
+    // Resource
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    // ScopeSpans
+    private static final int SCOPE_SPANS_SCOPE = 1;
+    private static final int SCOPE_SPANS_SPANS = 2;
+    private static final int SCOPE_SPANS_SCHEMA_URL = 3;
+    // InstrumentationScope
+    private static final int SCOPE_NAME = 1;
+    private static final int SCOPE_VERSION = 2;
+    private static final int SCOPE_ATTRIBUTES = 3;
+    // Span
+    private static final int SPAN_TRACE_ID = 1;
+    private static final int SPAN_SPAN_ID = 2;
+    private static final int SPAN_TRACE_STATE = 3;
+    private static final int SPAN_PARENT_SPAN_ID = 4;
+    private static final int SPAN_NAME = 5;
+    private static final int SPAN_KIND = 6;
+    private static final int SPAN_START_TIME = 7;
+    private static final int SPAN_END_TIME = 8;
+    private static final int SPAN_ATTRIBUTES = 9;
+    private static final int SPAN_DROPPED_ATTRIBUTES_COUNT = 10;
+    private static final int SPAN_EVENTS = 11;
+    private static final int SPAN_DROPPED_EVENTS_COUNT = 12;
+    private static final int SPAN_LINKS = 13;
+    private static final int SPAN_DROPPED_LINKS_COUNT = 14;
+    private static final int SPAN_STATUS = 15;
+    // Span.Event
+    private static final int EVENT_TIME = 1;
+    private static final int EVENT_NAME = 2;
+    private static final int EVENT_ATTRIBUTES = 3;
+    private static final int EVENT_DROPPED_ATTRIBUTES_COUNT = 4;
+    // Span.Link
+    private static final int LINK_TRACE_ID = 1;
+    private static final int LINK_SPAN_ID = 2;
+    private static final int LINK_TRACE_STATE = 3;
+    private static final int LINK_ATTRIBUTES = 4;
+    private static final int LINK_DROPPED_ATTRIBUTES_COUNT = 5;
+    // Status
+    private static final int STATUS_MESSAGE = 2;
+    private static final int STATUS_CODE = 3;
+    // KeyValue
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    // AnyValue
+    private static final int ANY_VALUE_STRING = 1;
+    private static final int ANY_VALUE_BOOL = 2;
+    private static final int ANY_VALUE_INT = 3;
+    private static final int ANY_VALUE_DOUBLE = 4;
+    private static final int ANY_VALUE_ARRAY = 5;
+    // ArrayValue
+    private static final int ARRAY_VALUE_VALUES = 1;
+
+    private static final int INITIAL_SIZES_CAPACITY = 1024;
+
+    private final List<ResourceGroup> resourceGroups = new ArrayList<>();
+    private int requestSize = 0;
+    private SpanData preparedSpan;
+
+    // Sizes of the length delimited fields in the order they are written
+    private int[] sizes = new int[INITIAL_SIZES_CAPACITY];
+    private int sizeCount = 0;
+    private int sizeCursor = 0;
+
+    private ByteBuffer buffer;
+
+    // Attributes are visited with these reusable consumers, to avoid allocating a lambda per attribute set
+    private int attributesFieldNumber;
+    private int attributesSize;
+    private final BiConsumer<AttributeKey<?>, Object> attributeSizer =
+            (key, value) -> attributesSize += keyValueFieldSize(attributesFieldNumber, key, value);
+    private final BiConsumer<AttributeKey<?>, Object> attributeWriter =
+            (key, value) -> writeKeyValueField(attributesFieldNumber, key, value);
+
+    /**
+     * Prepares the encoding of a batch of spans and returns the size of the encoded request.
+     *
+     * @param spans the spans to encode
+     * @return the size of the encoded request in bytes
+     */
+    int prepare(Collection<SpanData> spans) {
+        groupSpans(spans);
+        sizeCount = 0;
+        int size = 0;
+        for (ResourceGroup group : resourceGroups) {
+            int slot = reserveSize();
+            size += messageFieldSize(REQUEST_RESOURCE_SPANS, slot, resourceSpansSize(group));
+        }
+        requestSize = size;
+        return size;
+    }
+
+    /**
+     * Writes the request prepared by the last call to {@link #prepare(Collection)}.
+     *
+     * @param target the buffer to write to, with at least the prepared size remaining
+     */
+    void writeTo(ByteBuffer target) {
+        if (target.remaining() < requestSize) {
+            throw new IllegalArgumentException("buffer has " + target.remaining() + " bytes remaining, "
+                    + requestSize + " required");
+        }
+        buffer = target.order(ByteOrder.BIG_ENDIAN);
+        sizeCursor = 0;
+        try {
+            for (ResourceGroup group : resourceGroups) {
+                writeMessageHeader(REQUEST_RESOURCE_SPANS);
+                writeResourceSpans(group);
+            }
+        } finally {
+            buffer = null;
+            resourceGroups.clear();
+        }
+    }
+
+    /**
+     * Prepares the encoding of a single span as the content of an OTLP {@code Span} message and returns its size.
+     *
+     * @param span the span to encode
+     * @return the size of the encoded span in bytes
+     */
+    int prepareSpan(SpanData span) {
+        sizeCount = 0;
+        preparedSpan = span;
+        return spanSize(span);
+    }
+
+    /**
+     * Writes the span prepared by the last call to {@link #prepareSpan(SpanData)}, without a field header.
+     *
+     * @param target the buffer to write to, with at least the prepared size remaining
+     */
+    void writeSpanTo(ByteBuffer target) {
+        buffer = target.order(ByteOrder.BIG_ENDIAN);
+        sizeCursor = 0;
+        try {
+            writeSpan(preparedSpan);
+        } finally {
+            buffer = null;
+            preparedSpan = null;
+        }
+    }
+
+    /**
+     * Encodes the fields of a {@code ResourceSpans} message other than its scope spans. Protobuf parsers accept fields
+     * in any order, so these can be written ahead of the scope spans of a request assembled from encoded spans.
+     *
+     * @param resource the resource of the spans
+     * @return the encoded fields
+     */
+    byte[] encodeResourceSpansHeader(Resource resource) {
+        sizeCount = 0;
+        int slot = reserveSize();
+        int size = messageFieldSize(RESOURCE_SPANS_RESOURCE, slot,
+                attributesSize(RESOURCE_ATTRIBUTES, resource.getAttributes()))
+                + stringFieldSize(RESOURCE_SPANS_SCHEMA_URL, resource.getSchemaUrl());
+        byte[] header = new byte[size];
+        buffer = ByteBuffer.wrap(header);
+        sizeCursor = 0;
+        try {
+            writeMessageHeader(RESOURCE_SPANS_RESOURCE);
+            writeAttributes(RESOURCE_ATTRIBUTES, resource.getAttributes());
+            writeString(RESOURCE_SPANS_SCHEMA_URL, resource.getSchemaUrl());
+        } finally {
+            buffer = null;
+        }
+        return header;
+    }
+
+    /**
+     * Encodes the fields of a {@code ScopeSpans} message other than its spans, to be written ahead of the spans.
+     *
+     * @param scope the instrumentation scope of the spans
+     * @return the encoded fields
+     */
+    byte[] encodeScopeSpansHeader(InstrumentationScopeInfo scope) {
+        sizeCount = 0;
+        int slot = reserveSize();
+        int scopeSize = stringFieldSize(SCOPE_NAME, scope.getName())
+                + stringFieldSize(SCOPE_VERSION, scope.getVersion())
+                + attributesSize(SCOPE_ATTRIBUTES, scope.getAttributes());
+        int size = messageFieldSize(SCOPE_SPANS_SCOPE, slot, scopeSize)
+                + stringFieldSize(SCOPE_SPANS_SCHEMA_URL, scope.getSchemaUrl());
+        byte[] header = new byte[size];
+        buffer = ByteBuffer.wrap(header);
+        sizeCursor = 0;
+        try {
+            writeMessageHeader(SCOPE_SPANS_SCOPE);
+            writeString(SCOPE_NAME, scope.getName());
+            writeString(SCOPE_VERSION, scope.getVersion());
+            writeAttributes(SCOPE_ATTRIBUTES, scope.getAttributes());
+            writeString(SCOPE_SPANS_SCHEMA_URL, scope.getSchemaUrl());
+        } finally {
+            buffer = null;
+        }
+        return header;
+    }
+
+    private void groupSpans(Collection<SpanData> spans) {
+        resourceGroups.clear();
+        // Spans of the same tracer provider share the resource and scope instances, so grouping is by identity
+        Map<Resource, ResourceGroup> groupsByResource = new IdentityHashMap<>();
+        for (SpanData span : spans) {
+            ResourceGroup group = groupsByResource.get(span.getResource());
+            if (group == null) {
+                group = new ResourceGroup(span.getResource());
+                groupsByResource.put(span.getResource(), group);
+                resourceGroups.add(group);
+            }
+            group.add(span);
+        }
+    }
+
+    private int reserveSize() {
+        if (sizeCount == sizes.length) {
+            sizes = Arrays.copyOf(sizes, sizes.length * 2);
+        }
+        return sizeCount++;
+    }
+
+    private int messageFieldSize(int fieldNumber, int slot, int contentSize) {
+        sizes[slot] = contentSize;
+        return lengthDelimitedFieldSize(fieldNumber, contentSize);
+    }
+
+    private int stringFieldSize(int fieldNumber, String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        return requiredStringFieldSize(fieldNumber, value);
+    }
+
+    private int requiredStringFieldSize(int fieldNumber, String value) {
+        int slot = reserveSize();
+        return messageFieldSize(fieldNumber, slot, utf8Length(value));
+    }
+
+    private static int countFieldSize(int fieldNumber, int count) {
+        return count > 0 ? varintFieldSize(fieldNumber, count) : 0;
+    }
+
+    private void writeMessageHeader(int fieldNumber) {
+        writeLengthDelimitedHeader(buffer, fieldNumber, sizes[sizeCursor++]);
+    }
+
+    private void writeString(int fieldNumber, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        writeRequiredString(fieldNumber, value);
+    }
+
+    private void writeRequiredString(int fieldNumber, String value) {
+        writeStringField(buffer, fieldNumber, value, sizes[sizeCursor++]);
+    }
+
+    private void writeCount(int fieldNumber, int count) {
+        if (count > 0) {
+            writeVarintField(buffer, fieldNumber, count);
+        }
+    }
+
+    private int resourceSpansSize(ResourceGroup group) {
+        int slot = reserveSize();
+        int size = messageFieldSize(RESOURCE_SPANS_RESOURCE, slot,
+                attributesSize(RESOURCE_ATTRIBUTES, group.resource.getAttributes()));
+        for (ScopeGroup scopeGroup : group.scopeGroups) {
+            slot = reserveSize();
+            size += messageFieldSize(RESOURCE_SPANS_SCOPE_SPANS, slot, scopeSpansSize(scopeGroup));
+        }
+        return size + stringFieldSize(RESOURCE_SPANS_SCHEMA_URL, group.resource.getSchemaUrl());
+    }
+
+    private void writeResourceSpans(ResourceGroup group) {
+        writeMessageHeader(RESOURCE_SPANS_RESOURCE);
+        writeAttributes(RESOURCE_ATTRIBUTES, group.resource.getAttributes());
+        for (ScopeGroup scopeGroup : group.scopeGroups) {
+            writeMessageHeader(RESOURCE_SPANS_SCOPE_SPANS);
+            writeScopeSpans(scopeGroup);
+        }
+        writeString(RESOURCE_SPANS_SCHEMA_URL, group.resource.getSchemaUrl());
+    }
+
+    private int scopeSpansSize(ScopeGroup group) {
+        InstrumentationScopeInfo scope = group.scope;
+        int slot = reserveSize();
+        int scopeSize = stringFieldSize(SCOPE_NAME, scope.getName())
+                + stringFieldSize(SCOPE_VERSION, scope.getVersion())
+                + attributesSize(SCOPE_ATTRIBUTES, scope.getAttributes());
+        int size = messageFieldSize(SCOPE_SPANS_SCOPE, slot, scopeSize);
+        List<SpanData> spans = group.spans;
+        for (int i = 0; i < spans.size(); i++) {
+            slot = reserveSize();
+            size += messageFieldSize(SCOPE_SPANS_SPANS, slot, spanSize(spans.get(i)));
+        }
+        return size + stringFieldSize(SCOPE_SPANS_SCHEMA_URL, scope.getSchemaUrl());
+    }
+
+    private void writeScopeSpans(ScopeGroup group) {
+        InstrumentationScopeInfo scope = group.scope;
+        writeMessageHeader(SCOPE_SPANS_SCOPE);
+        writeString(SCOPE_NAME, scope.getName());
+        writeString(SCOPE_VERSION, scope.getVersion());
+        writeAttributes(SCOPE_ATTRIBUTES, scope.getAttributes());
+        List<SpanData> spans = group.spans;
+        for (int i = 0; i < spans.size(); i++) {
+            writeMessageHeader(SCOPE_SPANS_SPANS);
+            writeSpan(spans.get(i));
+        }
+        writeString(SCOPE_SPANS_SCHEMA_URL, scope.getSchemaUrl());
+    }
+
+    private int spanSize(SpanData span) {
+        SpanContext spanContext = span.getSpanContext();
+        int size = hexAsBytesFieldSize(SPAN_TRACE_ID, spanContext.getTraceId())
+                + hexAsBytesFieldSize(SPAN_SPAN_ID, spanContext.getSpanId())
+                + stringFieldSize(SPAN_TRACE_STATE, encodeTraceState(spanContext.getTraceState()));
+        if (span.getParentSpanContext().isValid()) {
+            size += hexAsBytesFieldSize(SPAN_PARENT_SPAN_ID, span.getParentSpanId());
+        }
+        size += stringFieldSize(SPAN_NAME, span.getName())
+                + varintFieldSize(SPAN_KIND, spanKind(span))
+                + fixed64FieldSize(SPAN_START_TIME)
+                + fixed64FieldSize(SPAN_END_TIME)
+                + attributesSize(SPAN_ATTRIBUTES, span.getAttributes())
+                + countFieldSize(SPAN_DROPPED_ATTRIBUTES_COUNT,
+                span.getTotalAttributeCount() - span.getAttributes().size());
+
+        List<EventData> events = span.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            int slot = reserveSize();
+            size += messageFieldSize(SPAN_EVENTS, slot, eventSize(events.get(i)));
+        }
+        size += countFieldSize(SPAN_DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - events.size());
+
+        List<LinkData> links = span.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            int slot = reserveSize();
+            size += messageFieldSize(SPAN_LINKS, slot, linkSize(links.get(i)));
+        }
+        size += countFieldSize(SPAN_DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - links.size());
+
+        StatusData status = span.getStatus();
+        int slot = reserveSize();
+        int statusSize = stringFieldSize(STATUS_MESSAGE, status.getDescription())
+                + countFieldSize(STATUS_CODE, statusCode(status));
+        return size + messageFieldSize(SPAN_STATUS, slot, statusSize);
+    }
+
+    private void writeSpan(SpanData span) {
+        SpanContext spanContext = span.getSpanContext();
+        writeHexAsBytesField(buffer, SPAN_TRACE_ID, spanContext.getTraceId());
+        writeHexAsBytesField(buffer, SPAN_SPAN_ID, spanContext.getSpanId());
+        writeString(SPAN_TRACE_STATE, encodeTraceState(spanContext.getTraceState()));
+        if (span.getParentSpanContext().isValid()) {
+            writeHexAsBytesField(buffer, SPAN_PARENT_SPAN_ID, span.getParentSpanId());
+        }
+        writeString(SPAN_NAME, span.getName());
+        writeVarintField(buffer, SPAN_KIND, spanKind(span));
+        writeFixed64Field(buffer, SPAN_START_TIME, span.getStartEpochNanos());
+        writeFixed64Field(buffer, SPAN_END_TIME, span.getEndEpochNanos());
+        writeAttributes(SPAN_ATTRIBUTES, span.getAttributes());
+        writeCount(SPAN_DROPPED_ATTRIBUTES_COUNT, span.getTotalAttributeCount() - span.getAttributes().size());
+
+        List<EventData> events = span.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            writeMessageHeader(SPAN_EVENTS);
+            writeEvent(events.get(i));
+        }
+        writeCount(SPAN_DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - events.size());
+
+        List<LinkData> links = span.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            writeMessageHeader(SPAN_LINKS);
+            writeLink(links.get(i));
+        }
+        writeCount(SPAN_DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - links.size());
+
+        StatusData status = span.getStatus();
+        writeMessageHeader(SPAN_STATUS);
+        writeString(STATUS_MESSAGE, status.getDescription());
+        writeCount(STATUS_CODE, statusCode(status));
+    }
+
+    private int eventSize(EventData event) {
+        return fixed64FieldSize(EVENT_TIME)
+                + stringFieldSize(EVENT_NAME, event.getName())
+                + attributesSize(EVENT_ATTRIBUTES, event.getAttributes())
+                + countFieldSize(EVENT_DROPPED_ATTRIBUTES_COUNT, event.getDroppedAttributesCount());
+    }
+
+    private void writeEvent(EventData event) {
+        writeFixed64Field(buffer, EVENT_TIME, event.getEpochNanos());
+        writeString(EVENT_NAME, event.getName());
+        writeAttributes(EVENT_ATTRIBUTES, event.getAttributes());
+        writeCount(EVENT_DROPPED_ATTRIBUTES_COUNT, event.getDroppedAttributesCount());
+    }
+
+    private int linkSize(LinkData link) {
+        SpanContext spanContext = link.getSpanContext();
+        return hexAsBytesFieldSize(LINK_TRACE_ID, spanContext.getTraceId())
+                + hexAsBytesFieldSize(LINK_SPAN_ID, spanContext.getSpanId())
+                + stringFieldSize(LINK_TRACE_STATE, encodeTraceState(spanContext.getTraceState()))
+                + attributesSize(LINK_ATTRIBUTES, link.getAttributes())
+                + countFieldSize(LINK_DROPPED_ATTRIBUTES_COUNT,
+                link.getTotalAttributeCount() - link.getAttributes().size());
+    }
+
+    private void writeLink(LinkData link) {
+        SpanContext spanContext = link.getSpanContext();
+        writeHexAsBytesField(buffer, LINK_TRACE_ID, spanContext.getTraceId());
+        writeHexAsBytesField(buffer, LINK_SPAN_ID, spanContext.getSpanId());
+        writeString(LINK_TRACE_STATE, encodeTraceState(spanContext.getTraceState()));
+        writeAttributes(LINK_ATTRIBUTES, link.getAttributes());
+        writeCount(LINK_DROPPED_ATTRIBUTES_COUNT, link.getTotalAttributeCount() - link.getAttributes().size());
+    }
+
+    private int attributesSize(int fieldNumber, Attributes attributes) {
+        if (attributes.isEmpty()) {
+            return 0;
+        }
+        attributesFieldNumber = fieldNumber;
+        attributesSize = 0;
+        attributes.forEach(attributeSizer);
+        return attributesSize;
+    }
+
+    private void writeAttributes(int fieldNumber, Attributes attributes) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        attributesFieldNumber = fieldNumber;
+        attributes.forEach(attributeWriter);
+    }
+
+    private int keyValueFieldSize(int fieldNumber, AttributeKey<?> key, Object value) {
+        int slot = reserveSize();
+        int size = stringFieldSize(KEY_VALUE_KEY, key.getKey());
+        int valueSlot = reserveSize();
+        size += messageFieldSize(KEY_VALUE_VALUE, valueSlot, anyValueSize(value));
+        return messageFieldSize(fieldNumber, slot, size);
+    }
+
+    private void writeKeyValueField(int fieldNumber, AttributeKey<?> key, Object value) {
+        writeMessageHeader(fieldNumber);
+        writeString(KEY_VALUE_KEY, key.getKey());
+        writeMessageHeader(KEY_VALUE_VALUE);
+        writeAnyValue(value);
+    }
+
+    private int anyValueSize(Object value) {
+        if (value instanceof String) {
+            return requiredStringFieldSize(ANY_VALUE_STRING, (String) value);
+        } else if (value instanceof Boolean) {
+            return varintFieldSize(ANY_VALUE_BOOL, 1);
+        } else if (value instanceof Long) {
+            return varintFieldSize(ANY_VALUE_INT, (Long) value);
+        } else if (value instanceof Double) {
+            return fixed64FieldSize(ANY_VALUE_DOUBLE);
+        } else if (value instanceof List) {
+            int slot = reserveSize();
+            int size = 0;
+            List<?> values = (List<?>) value;
+            for (int i = 0; i < values.size(); i++) {
+                int valueSlot = reserveSize();
+                size += messageFieldSize(ARRAY_VALUE_VALUES, valueSlot, anyValueSize(values.get(i)));
+            }
+            return messageFieldSize(ANY_VALUE_ARRAY, slot, size);
+        }
+        return 0;
+    }
+
+    private void writeAnyValue(Object value) {
+        if (value instanceof String) {
+            writeRequiredString(ANY_VALUE_STRING, (String) value);
+        } else if (value instanceof Boolean) {
+            writeVarintField(buffer, ANY_VALUE_BOOL, (Boolean) value ? 1 : 0);
+        } else if (value instanceof Long) {
+            writeVarintField(buffer, ANY_VALUE_INT, (Long) value);
+        } else if (value instanceof Double) {
+            writeDoubleField(buffer, ANY_VALUE_DOUBLE, (Double) value);
+        } else if (value instanceof List) {
+            writeMessageHeader(ANY_VALUE_ARRAY);
+            List<?> values = (List<?>) value;
+            for (int i = 0; i < values.size(); i++) {
+                writeMessageHeader(ARRAY_VALUE_VALUES);
+                writeAnyValue(values.get(i));
+            }
+        }
+    }
+
+    private static int spanKind(SpanData span) {
+        switch (span.getKind()) {
+            case INTERNAL:
+                return 1;
+            case SERVER:
+                return 2;
+            case CLIENT:
+                return 3;
+            case PRODUCER:
+                return 4;
+            case CONSUMER:
+                return 5;
+            default:
+                return 0;
+        }
+    }
+
+    private static int statusCode(StatusData status) {
+        switch (status.getStatusCode()) {
+            case OK:
+                return 1;
+            case ERROR:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+
+    private static String encodeTraceState(TraceState traceState) {
+        if (traceState.isEmpty()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        traceState.forEach((key, value) -> {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.toString();
+    }
+
+    private static final class ResourceGroup {
+        private final Resource resource;
+        private final List<ScopeGroup> scopeGroups = new ArrayList<>();
+        private final Map<InstrumentationScopeInfo, ScopeGroup> groupsByScope = new IdentityHashMap<>();
+
+        private ResourceGroup(Resource resource) {
+            this.resource = resource;
+        }
+
+        private void add(SpanData span) {
+            InstrumentationScopeInfo scope = span.getInstrumentationScopeInfo();
+            ScopeGroup group = groupsByScope.get(scope);
+            if (group == null) {
+                group = new ScopeGroup(scope);
+                groupsByScope.put(scope, group);
+                scopeGroups.add(group);
+            }
+            group.spans.add(span);
+        }
+    }
+
+    private static final class ScopeGroup {
+        private final InstrumentationScopeInfo scope;
+        private final List<SpanData> spans = new ArrayList<>();
+
+        private ScopeGroup(InstrumentationScopeInfo scope) {
+            this.scope = scope;
+        }
+    }
+}
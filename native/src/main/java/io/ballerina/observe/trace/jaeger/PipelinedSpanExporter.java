@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Span exporter which keeps several export requests in flight over the same channel.
+ * <p>
+ * A batch handed to this exporter is dispatched to the delegate exporter right away and the export call returns
+ * without waiting for the response, so the span processor can assemble the next batch while earlier ones are still
+ * on the wire. The returned result completes with the outcome of the export request, so the processor must not wait
+ * for it before sending the next batch. Dispatching blocks while the number of in-flight batches or their estimated
+ * encoded size is at the limit. Batches complete in any order and only
+ * release their share of the limits on completion. Export throughput is then bounded by the bandwidth rather than by
+ * the round trip time to the collector. Encoded requests are pipelined the same way when the delegate is an
+ * {@link OtlpRequestSender}, which copies them before returning.
+ */
+class PipelinedSpanExporter implements SpanExporter, OtlpRequestSender {
+    private final SpanExporter delegate;
+    private final OtlpRequestSender encodedDelegate;
+    private final int maxInFlightBatches;
+    private final long maxInFlightBytes;
+    private final long dispatchTimeoutNanos;
+    private final Set<CompletableResultCode> inFlightResults = ConcurrentHashMap.newKeySet();
+
+    private final Object lock = new Object();
+    private int inFlightBatches = 0;
+    private long inFlightBytes = 0;
+    private int peakInFlightBatches = 0;
+
+    private final LongAdder completedBatches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder rejectedBatches = new LongAdder();
+
+    PipelinedSpanExporter(SpanExporter delegate, int maxInFlightBatches, long maxInFlightBytes,
+                          long dispatchTimeout, TimeUnit unit) {
+        this.delegate = delegate;
+        this.encodedDelegate = OtlpRequestSender.of(delegate);
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.dispatchTimeoutNanos = unit.toNanos(dispatchTimeout);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        long batchBytes = SpanSizeEstimator.estimate(spans);
+        if (!tryAcquire(batchBytes)) {
+            return CompletableResultCode.ofFailure();
+        }
+
+        // Span processors reuse their batch lists once the export call returns
+        List<SpanData> batch = new ArrayList<>(spans);
+        CompletableResultCode result;
+        try {
+            result = delegate.export(batch);
+        } catch (RuntimeException e) {
+            release(batchBytes);
+            throw e;
+        }
+        return track(result, batchBytes);
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        long requestBytes = request.remaining();
+        if (!tryAcquire(requestBytes)) {
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result;
+        try {
+            result = encodedDelegate.sendEncoded(request);
+        } catch (RuntimeException e) {
+            release(requestBytes);
+            throw e;
+        }
+        return track(result, requestBytes);
+    }
+
+    @Override
+    public boolean canSendEncoded() {
+        return encodedDelegate.canSendEncoded();
+    }
+
+    private boolean tryAcquire(long batchBytes) {
+        try {
+            if (!acquire(batchBytes)) {
+                rejectedBatches.increment();
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CompletableResultCode track(CompletableResultCode result, long batchBytes) {
+        inFlightResults.add(result);
+        result.whenComplete(() -> {
+            inFlightResults.remove(result);
+            if (result.isSuccess()) {
+                completedBatches.increment();
+            } else {
+                failedBatches.increment();
+            }
+            release(batchBytes);
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        List<CompletableResultCode> results = new ArrayList<>(inFlightResults);
+        results.add(delegate.flush());
+        return CompletableResultCode.ofAll(results);
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        CompletableResultCode result = new CompletableResultCode();
+        flush().whenComplete(() -> delegate.shutdown().whenComplete(result::succeed));
+        return result;
+    }
+
+    /**
+     * Publishes the counters of the pipelined exports.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("pipelined_in_flight_batches", "Batches sent to the collector and not yet answered",
+                this, PipelinedSpanExporter::getInFlightBatches);
+        JaegerMetrics.register("pipelined_in_flight_bytes", "Estimated size of the batches in flight",
+                this, PipelinedSpanExporter::getInFlightBytes);
+        JaegerMetrics.register("pipelined_peak_in_flight_batches", "Largest number of batches which were in flight "
+                + "at once", this, PipelinedSpanExporter::getPeakInFlightBatches);
+        JaegerMetrics.register("pipelined_completed_batches", "Pipelined batches exported to the collector",
+                this, PipelinedSpanExporter::getCompletedBatches);
+        JaegerMetrics.register("pipelined_failed_batches", "Pipelined batches which failed to export",
+                this, PipelinedSpanExporter::getFailedBatches);
+        JaegerMetrics.register("pipelined_rejected_batches",
+                "Batches dropped because no in-flight slot became free within the export timeout", this,
+                PipelinedSpanExporter::getRejectedBatches);
+    }
+
+    int getInFlightBatches() {
+        synchronized (lock) {
+            return inFlightBatches;
+        }
+    }
+
+    long getInFlightBytes() {
+        synchronized (lock) {
+            return inFlightBytes;
+        }
+    }
+
+    int getPeakInFlightBatches() {
+        synchronized (lock) {
+            return peakInFlightBatches;
+        }
+    }
+
+    long getCompletedBatches() {
+        return completedBatches.sum();
+    }
+
+    long getFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    /**
+     * Returns the number of batches dropped because no in-flight slot became free within the dispatch timeout.
+     *
+     * @return the number of rejected batches
+     */
+    long getRejectedBatches() {
+        return rejectedBatches.sum();
+    }
+
+    private boolean acquire(long batchBytes) throws InterruptedException {
+        long deadline = System.nanoTime() + dispatchTimeoutNanos;
+        synchronized (lock) {
+            // A batch larger than the byte budget is still sent once nothing else is in flight
+            while (inFlightBatches >= maxInFlightBatches
+                    || (inFlightBatches > 0 && inFlightBytes + batchBytes > maxInFlightBytes)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            inFlightBatches++;
+            inFlightBytes += batchBytes;
+            peakInFlightBatches = Math.max(peakInFlightBatches, inFlightBatches);
+            return true;
+        }
+    }
+
+    private void release(long batchBytes) {
+        synchronized (lock) {
+            inFlightBatches--;
+            inFlightBytes -= batchBytes;
+            lock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Low level protobuf wire format decoding from a {@link ByteBuffer}, the counterpart of {@link ProtoWriter} for the
+ * few responses which the extension reads.
+ * <p>
+ * Nested messages are read through readers over a slice of the buffer, so no field is copied until it is read.
+ * Truncated or malformed input fails with a {@link java.nio.BufferUnderflowException} or an
+ * {@link IllegalArgumentException}.
+ */
+final class ProtoReader {
+    private final ByteBuffer buffer;
+
+    ProtoReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static int fieldNumber(int tag) {
+        return tag >>> 3;
+    }
+
+    static int wireType(int tag) {
+        return tag & 0x07;
+    }
+
+    boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    int readTag() {
+        return (int) readVarint();
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed protobuf varint");
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    String readString() {
+        ByteBuffer content = readLengthDelimited();
+        return StandardCharsets.UTF_8.decode(content).toString();
+    }
+
+    /**
+     * Reads a length delimited field holding a nested message.
+     *
+     * @return the reader of the nested message
+     */
+    ProtoReader readMessage() {
+        return new ProtoReader(readLengthDelimited());
+    }
+
+    /**
+     * Skips the value of a field which the caller does not read.
+     *
+     * @param tag the tag of the field, as returned by {@link #readTag()}
+     */
+    void skipField(int tag) {
+        switch (wireType(tag)) {
+            case ProtoWriter.WIRE_TYPE_VARINT:
+                readVarint();
+                break;
+            case ProtoWriter.WIRE_TYPE_FIXED64:
+                buffer.position(buffer.position() + Long.BYTES);
+                break;
+            case ProtoWriter.WIRE_TYPE_LENGTH_DELIMITED:
+                readLengthDelimited();
+                break;
+            case ProtoWriter.WIRE_TYPE_FIXED32:
+                buffer.position(buffer.position() + Integer.BYTES);
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported protobuf wire type: " + wireType(tag));
+        }
+    }
+
+    private ByteBuffer readLengthDelimited() {
+        int length = (int) readVarint();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("protobuf field length out of bounds: " + length);
+        }
+        ByteBuffer content = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return content;
+    }
+}
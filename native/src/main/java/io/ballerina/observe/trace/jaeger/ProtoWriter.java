@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Low level protobuf wire format encoding into a {@link ByteBuffer}.
+ * <p>
+ * Length delimited fields are written in two passes. The encoders first compute the size of every nested message and
+ * string in traversal order and store them in a reusable array, then write the fields consuming the sizes in the same
+ * order, so the content is written straight into the target buffer without intermediate objects.
+ */
+final class ProtoWriter {
+    static final int WIRE_TYPE_VARINT = 0;
+    static final int WIRE_TYPE_FIXED64 = 1;
+    static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+    static final int WIRE_TYPE_FIXED32 = 5;
+
+    private ProtoWriter() {
+    }
+
+    static int tag(int fieldNumber, int wireType) {
+        return (fieldNumber << 3) | wireType;
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of a length delimited field with the given content size, including the tag and the length.
+     *
+     * @param fieldNumber the number of the field
+     * @param contentSize the size of the content of the field
+     * @return the size of the field
+     */
+    static int lengthDelimitedFieldSize(int fieldNumber, int contentSize) {
+        return varintSize(tag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED)) + varintSize(contentSize) + contentSize;
+    }
+
+    static int varintFieldSize(int fieldNumber, long value) {
+        return varintSize(tag(fieldNumber, WIRE_TYPE_VARINT)) + varintSize(value);
+    }
+
+    static int fixed64FieldSize(int fieldNumber) {
+        return varintSize(tag(fieldNumber, WIRE_TYPE_FIXED64)) + Long.BYTES;
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of a string, without encoding it. An unpaired surrogate is
+     * counted as the single {@code '?'} it is replaced with, as in {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param value the string
+     * @return the UTF-8 length of the string
+     */
+    static int utf8Length(String value) {
+        int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                size++;
+            } else if (!Character.isSurrogate(c)) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 2;
+                i++;
+            }
+        }
+        return size;
+    }
+
+    static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static void writeTag(ByteBuffer buffer, int fieldNumber, int wireType) {
+        writeVarint(buffer, tag(fieldNumber, wireType));
+    }
+
+    static void writeLengthDelimitedHeader(ByteBuffer buffer, int fieldNumber, int contentSize) {
+        writeTag(buffer, fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(buffer, contentSize);
+    }
+
+    static void writeVarintField(ByteBuffer buffer, int fieldNumber, long value) {
+        writeTag(buffer, fieldNumber, WIRE_TYPE_VARINT);
+        writeVarint(buffer, value);
+    }
+
+    static void writeFixed64Field(ByteBuffer buffer, int fieldNumber, long value) {
+        writeTag(buffer, fieldNumber, WIRE_TYPE_FIXED64);
+        buffer.putLong(Long.reverseBytes(value));
+    }
+
+    static void writeDoubleField(ByteBuffer buffer, int fieldNumber, double value) {
+        writeFixed64Field(buffer, fieldNumber, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Writes a string field whose UTF-8 length was computed with {@link #utf8Length(String)}.
+     *
+     * @param buffer      the target buffer
+     * @param fieldNumber the number of the field
+     * @param value       the string
+     * @param utf8Length  the UTF-8 length of the string
+     */
+    static void writeStringField(ByteBuffer buffer, int fieldNumber, String value, int utf8Length) {
+        writeLengthDelimitedHeader(buffer, fieldNumber, utf8Length);
+        writeUtf8(buffer, value);
+    }
+
+    /**
+     * Writes a bytes field holding the binary form of a lowercase hex string, such as a trace or span ID.
+     *
+     * @param buffer      the target buffer
+     * @param fieldNumber the number of the field
+     * @param hex         the hex string
+     */
+    static void writeHexAsBytesField(ByteBuffer buffer, int fieldNumber, String hex) {
+        writeLengthDelimitedHeader(buffer, fieldNumber, hex.length() / 2);
+        for (int i = 0; i < hex.length(); i += 2) {
+            buffer.put((byte) ((Character.digit(hex.charAt(i), 16) << 4) | Character.digit(hex.charAt(i + 1), 16)));
+        }
+    }
+
+    static int hexAsBytesFieldSize(int fieldNumber, String hex) {
+        return lengthDelimitedFieldSize(fieldNumber, hex.length() / 2);
+    }
+
+    static void writeUtf8(ByteBuffer buffer, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >>> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xE0 | (c >>> 12)));
+                buffer.put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >>> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                // An unpaired surrogate is not valid UTF-8, and is replaced as String.getBytes(UTF_8) does
+                buffer.put((byte) '?');
+            }
+        }
+    }
+}
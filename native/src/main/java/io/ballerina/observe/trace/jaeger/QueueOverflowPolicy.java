@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.Locale;
+
+/**
+ * Policies applied when an ended span arrives at a full span queue.
+ */
+public enum QueueOverflowPolicy {
+    /**
+     * Drops the span which just ended. The spans already in the queue are kept.
+     */
+    DROP_NEWEST,
+    /**
+     * Drops the oldest span in the queue to make room for the span which just ended.
+     */
+    DROP_OLDEST,
+    /**
+     * Blocks the thread which ended the span until there is room in the queue, dropping the span if the queue is
+     * still full when the block timeout elapses.
+     */
+    BLOCK;
+
+    /**
+     * Returns the overflow policy with the given configuration name.
+     *
+     * @param name the name of the policy, such as {@code drop_newest}
+     * @return the overflow policy
+     */
+    public static QueueOverflowPolicy fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ENGLISH));
+    }
+}
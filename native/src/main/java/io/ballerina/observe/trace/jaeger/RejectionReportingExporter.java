@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Exporter which tells apart the exports rejected by the collector with an error which is not retryable, such as an
+ * invalid request, from the exports which failed because the collector was unavailable or overloaded. A rejected
+ * export would be rejected by any other collector as well.
+ */
+interface RejectionReportingExporter {
+
+    /**
+     * Returns whether a failed export was rejected by the collector with an error which is not retryable.
+     *
+     * @param result the completed result of an export of this exporter
+     * @return true if the export was rejected
+     */
+    boolean isRejected(CompletableResultCode result);
+
+    /**
+     * Creates the set recording the rejected exports of an exporter. The results are held weakly, so that the
+     * results nobody asks about do not accumulate.
+     *
+     * @return the set of rejected results
+     */
+    static Set<CompletableResultCode> newRejectedResults() {
+        return Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    }
+}
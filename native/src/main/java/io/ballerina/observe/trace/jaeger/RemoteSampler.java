@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Sampler of a service which delegates to the sampler following the latest sampling strategy fetched for the
+ * service by {@link RemoteSamplers}.
+ * <p>
+ * A new strategy replaces the delegate with a single volatile write, so sampling decisions never wait for a fetch and
+ * each decision uses either the old or the new strategy as a whole.
+ */
+class RemoteSampler implements Sampler {
+    private final String serviceName;
+    private volatile Sampler delegate;
+
+    RemoteSampler(String serviceName, Sampler initialSampler) {
+        this.serviceName = serviceName;
+        this.delegate = initialSampler;
+    }
+
+    String getServiceName() {
+        return serviceName;
+    }
+
+    Sampler getDelegate() {
+        return delegate;
+    }
+
+    void setDelegate(Sampler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        return delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        return "RemoteSampler{service=" + serviceName + ", sampler=" + delegate.getDescription() + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
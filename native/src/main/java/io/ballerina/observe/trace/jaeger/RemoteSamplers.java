@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Source of the samplers of the services, which follow the sampling strategies served by a Jaeger collector on the
+ * {@code jaeger.api_v2.SamplingManager} gRPC API.
+ * <p>
+ * Each service gets a {@link RemoteSampler} on the first use of its tracer. The strategy of the service is fetched
+ * right away and then polled at a fixed delay, so the sampling rates of a service or of single operations can be
+ * changed in the collector without restarting the program. The services share one gRPC channel and one polling
+ * thread.
+ */
+class RemoteSamplers {
+    static final String TYPE = "remote";
+    private static final Logger logger = Logger.getLogger(RemoteSamplers.class.getName());
+    private static final String POLLING_THREAD_NAME = "jaeger-remote-sampler";
+    private static final long FETCH_TIMEOUT_MILLIS = 10000;
+
+    private final String endpoint;
+    private final ManagedChannel channel;
+    private final SamplingStrategyClient client;
+    private final ScheduledExecutorService scheduler;
+    private final long pollingInterval;
+    private final Sampler initialSampler;
+    private final ConcurrentMap<String, RemoteSampler> samplers = new ConcurrentHashMap<>();
+    private volatile boolean failing;
+
+    /**
+     * Creates the source of the remote samplers.
+     *
+     * @param endpoint        the {@code host:port} address of the sampling strategies API
+     * @param pollingInterval the delay between two fetches of the strategy of a service in milliseconds
+     * @param initialSampler  the sampler of a service until its strategy is first fetched
+     * @param maxOperations   the maximum number of operations with their own sampler in a per-operation strategy
+     */
+    RemoteSamplers(String endpoint, long pollingInterval, Sampler initialSampler, int maxOperations) {
+        this.endpoint = endpoint;
+        this.channel = new NettyChannelProvider()
+                .builderForTarget(endpoint)
+                .usePlaintext()
+                .build();
+        this.client = new SamplingStrategyClient(channel, FETCH_TIMEOUT_MILLIS, maxOperations);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                ExportThreads.PLATFORM.newThreadFactory(POLLING_THREAD_NAME));
+        this.pollingInterval = pollingInterval;
+        this.initialSampler = initialSampler;
+    }
+
+    /**
+     * Returns the sampler of a service, which starts polling the strategy of the service on the first call.
+     *
+     * @param serviceName the name of the service
+     * @return the sampler of the service
+     */
+    Sampler getSampler(String serviceName) {
+        return samplers.computeIfAbsent(serviceName, name -> {
+            RemoteSampler sampler = new RemoteSampler(name, initialSampler);
+            scheduler.scheduleWithFixedDelay(() -> updateSampler(sampler), 0, pollingInterval,
+                    TimeUnit.MILLISECONDS);
+            return sampler;
+        });
+    }
+
+    private void updateSampler(RemoteSampler sampler) {
+        try {
+            Sampler strategySampler = client.fetchSampler(sampler.getServiceName());
+            if (strategySampler != null) {
+                sampler.setDelegate(strategySampler);
+            }
+            failing = false;
+        } catch (IOException | RuntimeException e) {
+            // Only the first failure is reported, as the collector stays unreachable for many polls at times
+            if (!failing) {
+                failing = true;
+                logger.log(Level.WARNING, "failed to fetch the sampling strategy of " + sampler.getServiceName()
+                        + " from " + endpoint + ", keeping the current sampler: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops polling the strategies and closes the channel to the sampling strategies API.
+     */
+    void shutdown() {
+        scheduler.shutdownNow();
+        channel.shutdownNow();
+    }
+}
@@ -0,0 +1,632 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span processor which batches ended spans through a preallocated lock-free ring buffer.
+ * <p>
+ * This is a drop-in replacement for the SDK {@code BatchSpanProcessor}. Ending a span only claims a slot in the ring
+ * buffer with a compare-and-set, and a single worker thread drains the buffer and exports the batches. How the worker
+ * waits for new spans is decided by the configured {@link WaitStrategy}, and what happens to a span which ends while
+ * the ring buffer is full is decided by the configured {@link QueueOverflowPolicy}. With adaptive batching, the batch
+ * size and the flush interval are tuned at runtime by an {@link AdaptiveBatchController}, within the configured
+ * values. With a memory budget, each ended span is snapshotted and reserves its estimated size in a
+ * {@link SpanMemoryBudget} until it has been exported or dropped, and spans which do not fit are shed.
+ * <p>
+ * The worker waits for each export to complete before sending the next batch, unless the exporter pipelines the
+ * exports and bounds the batches in flight itself. Either way, the exported spans, the memory budget and the adaptive
+ * batching are only updated once the export completes.
+ */
+public final class RingBufferSpanProcessor implements SpanProcessor {
+    public static final String TYPE = "ringbuffer";
+
+    private static final Logger logger = Logger.getLogger(RingBufferSpanProcessor.class.getName());
+    static final String WORKER_THREAD_NAME = "jaeger-ring-buffer-span-processor";
+    private static final int LATENCY_SAMPLING_RATE = 64;
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final SpanExporter exporter;
+    private final SpanRingBuffer<ReadableSpan> ringBuffer;
+    private final WaitStrategy waitStrategy;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long exportTimeoutNanos;
+    private final boolean pipelinedExports;
+    private final AdaptiveBatchController batchController;
+    private final SpanMemoryBudget memoryBudget;
+    private final List<SpanData> batch;
+    // Memory reserved by the spans of the batch, only accessed by the worker
+    private long batchBytes;
+    private final Thread worker;
+
+    private final AtomicReference<CompletableResultCode> flushRequest = new AtomicReference<>();
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+    private volatile boolean running = true;
+    private volatile boolean workerParked = false;
+
+    private final LongAdder droppedNewestSpans = new LongAdder();
+    private final LongAdder droppedOldestSpans = new LongAdder();
+    private final LongAdder blockTimedOutSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder sampledEnqueueCount = new LongAdder();
+    private final LongAdder sampledEnqueueNanos = new LongAdder();
+
+    private RingBufferSpanProcessor(Builder builder) {
+        this.exporter = builder.exporter;
+        this.ringBuffer = new SpanRingBuffer<>(builder.maxQueueSize);
+        this.waitStrategy = builder.waitStrategy;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.blockTimeoutNanos = builder.blockTimeoutNanos;
+        this.exportTimeoutNanos = builder.exportTimeoutNanos;
+        this.pipelinedExports = builder.pipelinedExports;
+        this.batchController = new AdaptiveBatchController(builder.adaptiveBatching, builder.maxExportBatchSize,
+                builder.scheduleDelayNanos, builder.targetExportLatencyNanos, TimeUnit.NANOSECONDS);
+        this.memoryBudget = builder.maxBufferedBytes > 0 ? new SpanMemoryBudget(builder.maxBufferedBytes) : null;
+        this.batch = new ArrayList<>(builder.maxExportBatchSize);
+        this.worker = builder.threadFactory.newThread(this::run);
+    }
+
+    public static Builder builder(SpanExporter exporter) {
+        return new Builder(exporter);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        boolean isLatencySampled = ThreadLocalRandom.current().nextInt(LATENCY_SAMPLING_RATE) == 0;
+        long startTime = isLatencySampled ? System.nanoTime() : 0;
+        ReadableSpan bufferedSpan = span;
+        if (memoryBudget != null) {
+            SpanData spanData = span.toSpanData();
+            int size = SpanSizeEstimator.estimate(spanData);
+            if (!memoryBudget.tryReserve(size)) {
+                return;
+            }
+            bufferedSpan = new BufferedSpan(spanData, size);
+        }
+        if (!ringBuffer.offer(bufferedSpan) && !handleOverflow(bufferedSpan)) {
+            release(bufferedSpan);
+            return;
+        }
+        if (isLatencySampled) {
+            sampledEnqueueNanos.add(System.nanoTime() - startTime);
+            sampledEnqueueCount.increment();
+        }
+        if (workerParked && ringBuffer.size() >= batchController.getBatchSize()) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private boolean handleOverflow(ReadableSpan span) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                do {
+                    ReadableSpan evicted = ringBuffer.poll();
+                    if (evicted != null) {
+                        release(evicted);
+                        droppedOldestSpans.increment();
+                    }
+                } while (!ringBuffer.offer(span));
+                return true;
+            case BLOCK:
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                do {
+                    LockSupport.unpark(worker);
+                    if (!running || deadline - System.nanoTime() <= 0) {
+                        blockTimedOutSpans.increment();
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+                } while (!ringBuffer.offer(span));
+                return true;
+            case DROP_NEWEST:
+            default:
+                droppedNewestSpans.increment();
+                return false;
+        }
+    }
+
+    private void release(ReadableSpan span) {
+        if (memoryBudget != null) {
+            memoryBudget.release(BufferedSpan.sizeOf(span));
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        CompletableResultCode pending = flushRequest.compareAndExchange(null, result);
+        LockSupport.unpark(worker);
+        return pending == null ? result : pending;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (isShutdown.compareAndSet(false, true)) {
+            running = false;
+            LockSupport.unpark(worker);
+        }
+        return shutdownResult;
+    }
+
+    /**
+     * Publishes the enqueue latency, the dropped and exported spans, the occupancy, the current batching and the
+     * buffered bytes of the ring buffer, and the memory budget if any, to the Ballerina metrics registry.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("ring_buffer_enqueue_latency_nanos",
+                "Average time taken to add an ended span to the ring buffer", this,
+                RingBufferSpanProcessor::getAverageEnqueueLatencyNanos);
+        JaegerMetrics.register("ring_buffer_dropped_spans", "Spans dropped because the ring buffer was full",
+                this, RingBufferSpanProcessor::getDroppedSpans);
+        JaegerMetrics.register("ring_buffer_dropped_newest_spans", "Ended spans dropped by the drop_newest policy "
+                + "because the ring buffer was full", this, RingBufferSpanProcessor::getDroppedNewestSpans);
+        JaegerMetrics.register("ring_buffer_dropped_oldest_spans", "Queued spans evicted by the drop_oldest policy "
+                + "to make room for ended spans", this, RingBufferSpanProcessor::getDroppedOldestSpans);
+        JaegerMetrics.register("ring_buffer_block_timed_out_spans", "Ended spans dropped by the block policy after "
+                + "waiting for room in the ring buffer", this, RingBufferSpanProcessor::getBlockTimedOutSpans);
+        JaegerMetrics.register("ring_buffer_exported_spans", "Spans exported by the ring buffer span processor",
+                this, RingBufferSpanProcessor::getExportedSpans);
+        JaegerMetrics.register("ring_buffer_occupancy", "Spans waiting in the ring buffer to be exported",
+                this, RingBufferSpanProcessor::getOccupancy);
+        JaegerMetrics.register("ring_buffer_capacity", "Number of spans the ring buffer can hold",
+                this, RingBufferSpanProcessor::getCapacity);
+        JaegerMetrics.register("ring_buffer_batch_size", "Maximum number of spans currently exported in a batch",
+                this, RingBufferSpanProcessor::getBatchSize);
+        JaegerMetrics.register("ring_buffer_flush_interval_millis",
+                "Current delay between two exports of partial batches", this,
+                RingBufferSpanProcessor::getFlushIntervalMillis);
+        JaegerMetrics.register("ring_buffer_buffered_bytes", "Estimated memory held by the spans waiting in the "
+                + "ring buffer, 0 without reporterMaxBufferedBytes", this, RingBufferSpanProcessor::getBufferedBytes);
+        JaegerMetrics.register("ring_buffer_peak_buffered_bytes", "Highest estimated memory held by the spans "
+                + "waiting in the ring buffer", this, RingBufferSpanProcessor::getPeakBufferedBytes);
+        JaegerMetrics.register("ring_buffer_memory_shed_spans", "Ended spans dropped because the memory budget of "
+                + "the ring buffer was used up", this, RingBufferSpanProcessor::getMemoryBudgetShedSpans);
+        if (memoryBudget != null) {
+            memoryBudget.registerMetrics();
+        }
+    }
+
+    /**
+     * Returns the number of spans dropped because the ring buffer was full, with any overflow policy.
+     *
+     * @return the number of dropped spans
+     */
+    public long getDroppedSpans() {
+        return getDroppedNewestSpans() + getDroppedOldestSpans() + getBlockTimedOutSpans();
+    }
+
+    /**
+     * Returns the number of ended spans dropped by the {@link QueueOverflowPolicy#DROP_NEWEST} policy.
+     *
+     * @return the number of dropped spans
+     */
+    public long getDroppedNewestSpans() {
+        return droppedNewestSpans.sum();
+    }
+
+    /**
+     * Returns the number of queued spans evicted by the {@link QueueOverflowPolicy#DROP_OLDEST} policy.
+     *
+     * @return the number of dropped spans
+     */
+    public long getDroppedOldestSpans() {
+        return droppedOldestSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped by the {@link QueueOverflowPolicy#BLOCK} policy after the block timeout.
+     *
+     * @return the number of dropped spans
+     */
+    public long getBlockTimedOutSpans() {
+        return blockTimedOutSpans.sum();
+    }
+
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans waiting in the ring buffer to be exported.
+     *
+     * @return the current occupancy of the ring buffer
+     */
+    public int getOccupancy() {
+        return ringBuffer.size();
+    }
+
+    public int getCapacity() {
+        return ringBuffer.capacity();
+    }
+
+    /**
+     * Returns the number of spans currently exported in a batch, which changes at runtime with adaptive batching.
+     *
+     * @return the current maximum batch size
+     */
+    public int getBatchSize() {
+        return batchController.getBatchSize();
+    }
+
+    /**
+     * Returns the current delay between two exports of partial batches, which changes at runtime with adaptive
+     * batching.
+     *
+     * @return the current flush interval in milliseconds
+     */
+    public long getFlushIntervalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(batchController.getFlushIntervalNanos());
+    }
+
+    /**
+     * Returns the estimated memory held by the queued spans and the spans being exported.
+     *
+     * @return the buffered bytes, or zero without a memory budget
+     */
+    long getBufferedBytes() {
+        return memoryBudget != null ? memoryBudget.getUsedBytes() : 0;
+    }
+
+    /**
+     * Returns the highest estimated memory held by buffered spans so far.
+     *
+     * @return the peak buffered bytes, or zero without a memory budget
+     */
+    long getPeakBufferedBytes() {
+        return memoryBudget != null ? memoryBudget.getPeakBytes() : 0;
+    }
+
+    /**
+     * Returns the number of ended spans shed because the memory budget was used up.
+     *
+     * @return the number of shed spans
+     */
+    long getMemoryBudgetShedSpans() {
+        return memoryBudget != null ? memoryBudget.getShedSpans() : 0;
+    }
+
+    /**
+     * Returns the average time taken to add an ended span to the ring buffer, measured on a sample of the spans.
+     *
+     * @return the average enqueue latency in nanoseconds
+     */
+    public double getAverageEnqueueLatencyNanos() {
+        long count = sampledEnqueueCount.sum();
+        return count == 0 ? 0 : (double) sampledEnqueueNanos.sum() / count;
+    }
+
+    private void run() {
+        long nextExportTime = System.nanoTime() + batchController.getFlushIntervalNanos();
+        while (running) {
+            CompletableResultCode flush = flushRequest.get();
+            if (flush != null) {
+                exportAll();
+                if (pipelinedExports) {
+                    exporter.flush().join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+                }
+                flushRequest.set(null);
+                flush.succeed();
+                nextExportTime = System.nanoTime() + batchController.getFlushIntervalNanos();
+                continue;
+            }
+            drain();
+            long now = System.nanoTime();
+            if (batch.size() >= batchController.getBatchSize() || (now - nextExportTime >= 0 && !batch.isEmpty())) {
+                export();
+                nextExportTime = System.nanoTime() + batchController.getFlushIntervalNanos();
+            } else if (ringBuffer.isEmpty()) {
+                if (now - nextExportTime >= 0) {
+                    nextExportTime = now + batchController.getFlushIntervalNanos();
+                }
+                awaitSpans(nextExportTime);
+            }
+        }
+        exportAll();
+        CompletableResultCode flush = flushRequest.getAndSet(null);
+        if (flush != null) {
+            flush.succeed();
+        }
+        exporter.shutdown().whenComplete(shutdownResult::succeed);
+    }
+
+    private void drain() {
+        ReadableSpan span;
+        int batchSize = batchController.getBatchSize();
+        while (batch.size() < batchSize && (span = ringBuffer.poll()) != null) {
+            batch.add(span.toSpanData());
+            batchBytes += BufferedSpan.sizeOf(span);
+        }
+    }
+
+    private void exportAll() {
+        do {
+            drain();
+            export();
+        } while (!ringBuffer.isEmpty());
+    }
+
+    private void export() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int spanCount = batch.size();
+        long reservedBytes = batchBytes;
+        long estimatedBytes = memoryBudget != null ? batchBytes
+                : batchController.isAdaptive() ? SpanSizeEstimator.estimate(batch) : 0;
+        long startTime = System.nanoTime();
+        try {
+            CompletableResultCode result = exporter.export(batch);
+            result.whenComplete(() -> onExportComplete(spanCount, estimatedBytes, reservedBytes,
+                    System.nanoTime() - startTime, result.isSuccess()));
+            if (!pipelinedExports) {
+                result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "exporter threw an exception while exporting spans", e);
+            onExportComplete(spanCount, estimatedBytes, reservedBytes, System.nanoTime() - startTime, false);
+        } finally {
+            batch.clear();
+            batchBytes = 0;
+        }
+    }
+
+    /**
+     * Accounts for a completed export. With pipelined exports, this runs on the thread completing the export while
+     * the worker is already sending the next batches.
+     */
+    private void onExportComplete(int spanCount, long estimatedBytes, long reservedBytes, long latencyNanos,
+                                  boolean success) {
+        if (success) {
+            exportedSpans.add(spanCount);
+        } else {
+            logger.log(Level.FINE, "failed to export " + spanCount + " spans");
+        }
+        batchController.onExport(spanCount, estimatedBytes, latencyNanos, success, ringBuffer.size());
+        if (memoryBudget != null) {
+            memoryBudget.release(reservedBytes);
+        }
+    }
+
+    private void awaitSpans(long deadline) {
+        switch (waitStrategy) {
+            case BLOCKING:
+                workerParked = true;
+                if (running && flushRequest.get() == null && ringBuffer.size() < batchController.getBatchSize()) {
+                    LockSupport.parkNanos(this, deadline - System.nanoTime());
+                }
+                workerParked = false;
+                break;
+            case SLEEPING:
+                LockSupport.parkNanos(this, WaitStrategy.SLEEP_NANOS);
+                break;
+            case YIELDING:
+                Thread.yield();
+                break;
+            case BUSY_SPIN:
+            default:
+                Thread.onSpinWait();
+                break;
+        }
+    }
+
+    /**
+     * Strategies used by the worker thread to wait for spans when the ring buffer is empty.
+     */
+    public enum WaitStrategy {
+        /**
+         * Parks the worker until a full batch is available or the schedule delay elapses. Uses the least CPU.
+         */
+        BLOCKING,
+        /**
+         * Polls the ring buffer after short sleeps.
+         */
+        SLEEPING,
+        /**
+         * Polls the ring buffer after yielding the CPU to other threads.
+         */
+        YIELDING,
+        /**
+         * Polls the ring buffer in a busy loop. Gives the lowest latency at the cost of a dedicated core.
+         */
+        BUSY_SPIN;
+
+        private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        /**
+         * Returns the wait strategy with the given configuration name.
+         *
+         * @param name the name of the strategy, such as {@code blocking} or {@code busy_spin}
+         * @return the wait strategy
+         */
+        public static WaitStrategy fromName(String name) {
+            return valueOf(name.toUpperCase(Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * Builder for {@link RingBufferSpanProcessor}.
+     */
+    public static final class Builder {
+        private static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+        private static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+        private static final long DEFAULT_SCHEDULE_DELAY_MILLIS = 5000;
+        private static final long DEFAULT_EXPORT_TIMEOUT_MILLIS = 30000;
+        private static final long DEFAULT_TARGET_EXPORT_LATENCY_MILLIS = 250;
+
+        private final SpanExporter exporter;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+        private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
+        private long exportTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+        private boolean adaptiveBatching = false;
+        private long maxBufferedBytes = 0;
+        private long targetExportLatencyNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TARGET_EXPORT_LATENCY_MILLIS);
+        private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+        private QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.DROP_NEWEST;
+        private long blockTimeoutNanos = 0;
+        private boolean pipelinedExports = false;
+
+        private ThreadFactory threadFactory = ExportThreads.PLATFORM.newThreadFactory(WORKER_THREAD_NAME);
+
+        private Builder(SpanExporter exporter) {
+            this.exporter = exporter;
+        }
+
+        public Builder setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public Builder setMaxExportBatchSize(int maxExportBatchSize) {
+            if (maxExportBatchSize < 1) {
+                throw new IllegalArgumentException("maxExportBatchSize must be positive: " + maxExportBatchSize);
+            }
+            this.maxExportBatchSize = maxExportBatchSize;
+            return this;
+        }
+
+        public Builder setScheduleDelay(long delay, TimeUnit unit) {
+            this.scheduleDelayNanos = unit.toNanos(delay);
+            return this;
+        }
+
+        public Builder setExporterTimeout(long timeout, TimeUnit unit) {
+            this.exportTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Enables tuning the batch size and the flush interval at runtime, with the configured maximum export batch
+         * size and schedule delay as their upper bounds.
+         *
+         * @param targetLatency the export latency the batch size is tuned for
+         * @param unit          the unit of the target latency
+         * @return this builder
+         */
+        public Builder setAdaptiveBatching(long targetLatency, TimeUnit unit) {
+            this.adaptiveBatching = true;
+            this.targetExportLatencyNanos = unit.toNanos(targetLatency);
+            return this;
+        }
+
+        /**
+         * Sets the hard cap on the estimated memory held by the queued spans and the spans being exported.
+         *
+         * @param maxBufferedBytes the maximum buffered bytes, or zero for no cap
+         * @return this builder
+         */
+        public Builder setMaxBufferedBytes(long maxBufferedBytes) {
+            if (maxBufferedBytes < 0) {
+                throw new IllegalArgumentException("maxBufferedBytes must not be negative: " + maxBufferedBytes);
+            }
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        /**
+         * Declares that the exporter returns before its exports complete and bounds the batches in flight itself,
+         * so the worker sends the next batch without waiting for the previous export to complete.
+         *
+         * @param pipelinedExports whether the exporter pipelines the exports
+         * @return this builder
+         */
+        public Builder setPipelinedExports(boolean pipelinedExports) {
+            this.pipelinedExports = pipelinedExports;
+            return this;
+        }
+
+        public Builder setWaitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the policy applied when a span ends while the ring buffer is full.
+         *
+         * @param overflowPolicy the overflow policy
+         * @param blockTimeout   the maximum time to block, used by the {@link QueueOverflowPolicy#BLOCK} policy
+         * @param unit           the unit of the block timeout
+         * @return this builder
+         */
+        public Builder setOverflowPolicy(QueueOverflowPolicy overflowPolicy, long blockTimeout, TimeUnit unit) {
+            this.overflowPolicy = overflowPolicy;
+            this.blockTimeoutNanos = unit.toNanos(blockTimeout);
+            return this;
+        }
+
+        /**
+         * Sets the factory of the worker thread, such as a factory of virtual threads. The worker is a daemon
+         * platform thread by default.
+         *
+         * @param threadFactory the factory of the worker thread
+         * @return this builder
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public RingBufferSpanProcessor build() {
+            RingBufferSpanProcessor processor = new RingBufferSpanProcessor(this);
+            processor.worker.start();
+            return processor;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.sampler.PerOperationSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import java.util.Map;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Sampling settings read from the Jaeger extension configurations.
+ */
+class SamplerConfig {
+    private static final double DEFAULT_LOWER_BOUND = 0.1;
+
+    private final double lowerBound;
+    private final int maxOperations;
+    private final boolean parentBased;
+
+    SamplerConfig() {
+        this(DEFAULT_LOWER_BOUND, PerOperationSampler.DEFAULT_MAX_OPERATIONS, true);
+    }
+
+    SamplerConfig(double lowerBound, int maxOperations, boolean parentBased) {
+        if (lowerBound < 0 || Double.isNaN(lowerBound)) {
+            ConfigUtils.printInvalidConfiguration("samplerLowerBound", String.valueOf(lowerBound),
+                    String.valueOf(DEFAULT_LOWER_BOUND));
+            this.lowerBound = DEFAULT_LOWER_BOUND;
+        } else {
+            this.lowerBound = lowerBound;
+        }
+        this.maxOperations = positiveOrDefault("samplerMaxOperations", maxOperations,
+                PerOperationSampler.DEFAULT_MAX_OPERATIONS);
+        this.parentBased = parentBased;
+    }
+
+    /**
+     * Wraps the configured sampler so that it only samples root spans when parent-based sampling is enabled. Spans
+     * with a parent, either in the same program or propagated from a remote caller, then follow the decision of the
+     * parent, so each trace is sampled once as a whole instead of once per span.
+     *
+     * @param rootSampler the configured sampler
+     * @return the sampler of the tracer providers
+     */
+    Sampler wrapSampler(Sampler rootSampler) {
+        return parentBased ? Sampler.parentBased(rootSampler) : rootSampler;
+    }
+
+    /**
+     * Creates the sampler of the {@code peroperation} sampler type, which samples each operation with the same
+     * probability and guarantees each operation the configured lower bound.
+     *
+     * @param samplingProbability the sampling probability of each operation
+     * @return the sampler
+     */
+    Sampler createPerOperationSampler(double samplingProbability) {
+        return new PerOperationSampler(samplingProbability, lowerBound, Map.of(), maxOperations);
+    }
+
+    /**
+     * Returns the maximum number of operations with their own sampler, which also applies to the per-operation
+     * strategies fetched by the remote sampler.
+     *
+     * @return the maximum number of operations
+     */
+    int getMaxOperations() {
+        return maxOperations;
+    }
+}
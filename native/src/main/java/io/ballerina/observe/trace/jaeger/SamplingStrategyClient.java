@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.sampler.PerOperationSampler;
+import io.ballerina.observe.trace.jaeger.sampler.RateLimitingSampler;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client of the {@code jaeger.api_v2.SamplingManager} gRPC API, which fetches the sampling strategy of a service and
+ * turns it into a sampler.
+ */
+class SamplingStrategyClient {
+    private static final MethodDescriptor<byte[], byte[]> GET_SAMPLING_STRATEGY_METHOD =
+            MethodDescriptor.<byte[], byte[]>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName("jaeger.api_v2.SamplingManager",
+                            "GetSamplingStrategy"))
+                    .setRequestMarshaller(new BytesMarshaller())
+                    .setResponseMarshaller(new BytesMarshaller())
+                    .build();
+
+    // Fields of SamplingStrategyParameters and SamplingStrategyResponse in jaeger/api_v2/sampling.proto
+    private static final int PARAMETERS_SERVICE_NAME = 1;
+    private static final int RESPONSE_STRATEGY_TYPE = 1;
+    private static final int RESPONSE_PROBABILISTIC_SAMPLING = 2;
+    private static final int RESPONSE_RATE_LIMITING_SAMPLING = 3;
+    private static final int RESPONSE_OPERATION_SAMPLING = 4;
+    private static final int PROBABILISTIC_SAMPLING_RATE = 1;
+    private static final int RATE_LIMITING_MAX_TRACES_PER_SECOND = 1;
+    private static final int OPERATIONS_DEFAULT_SAMPLING_PROBABILITY = 1;
+    private static final int OPERATIONS_DEFAULT_LOWER_BOUND_TRACES_PER_SECOND = 2;
+    private static final int OPERATIONS_PER_OPERATION_STRATEGY = 3;
+    private static final int OPERATION_NAME = 1;
+    private static final int OPERATION_PROBABILISTIC_SAMPLING = 2;
+    private static final int PROBABILISTIC_STRATEGY_TYPE = 0;
+    private static final int RATE_LIMITING_STRATEGY_TYPE = 1;
+
+    private final ManagedChannel channel;
+    private final long timeoutMillis;
+    private final int maxOperations;
+
+    SamplingStrategyClient(ManagedChannel channel, long timeoutMillis, int maxOperations) {
+        this.channel = channel;
+        this.timeoutMillis = timeoutMillis;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Fetches the sampling strategy of a service, waiting up to the timeout of the client for the response.
+     *
+     * @param serviceName the name of the service
+     * @return the sampler following the strategy, or null if the strategy is of an unknown type
+     * @throws IOException if the strategy could not be fetched
+     */
+    Sampler fetchSampler(String serviceName) throws IOException {
+        int serviceNameLength = ProtoWriter.utf8Length(serviceName);
+        ByteBuffer request = ByteBuffer.allocate(
+                ProtoWriter.lengthDelimitedFieldSize(PARAMETERS_SERVICE_NAME, serviceNameLength));
+        ProtoWriter.writeStringField(request, PARAMETERS_SERVICE_NAME, serviceName, serviceNameLength);
+
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+        ClientCall<byte[], byte[]> call = channel.newCall(GET_SAMPLING_STRATEGY_METHOD,
+                CallOptions.DEFAULT.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS));
+        call.start(new ClientCall.Listener<byte[]>() {
+            @Override
+            public void onMessage(byte[] message) {
+                response.complete(message);
+            }
+
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+                if (!status.isOk()) {
+                    response.completeExceptionally(status.asRuntimeException(trailers));
+                } else if (!response.isDone()) {
+                    response.completeExceptionally(new IOException("no sampling strategy in the response"));
+                }
+            }
+        }, new Metadata());
+        call.request(1);
+        call.sendMessage(request.array());
+        call.halfClose();
+        try {
+            // The deadline of the call closes it once the timeout expires
+            return decodeSampler(ByteBuffer.wrap(response.get()), maxOperations);
+        } catch (InterruptedException e) {
+            call.cancel("interrupted while waiting for the sampling strategy", e);
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for the sampling strategy", e);
+        } catch (ExecutionException e) {
+            throw new IOException("failed to fetch the sampling strategy: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Decodes a {@code SamplingStrategyResponse} into the sampler following the strategy. Per-operation strategies
+     * take precedence over the strategy type, as in the Jaeger clients.
+     *
+     * @param response      the encoded response
+     * @param maxOperations the maximum number of operations with their own sampler in a per-operation strategy
+     * @return the sampler, or null if the strategy is of an unknown type
+     */
+    static Sampler decodeSampler(ByteBuffer response, int maxOperations) {
+        ProtoReader reader = new ProtoReader(response);
+        int strategyType = PROBABILISTIC_STRATEGY_TYPE;
+        double samplingRate = 0;
+        int maxTracesPerSecond = 0;
+        PerOperationSampler perOperationSampler = null;
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (ProtoReader.fieldNumber(tag)) {
+                case RESPONSE_STRATEGY_TYPE:
+                    strategyType = (int) reader.readVarint();
+                    break;
+                case RESPONSE_PROBABILISTIC_SAMPLING:
+                    samplingRate = decodeSamplingRate(reader.readMessage());
+                    break;
+                case RESPONSE_RATE_LIMITING_SAMPLING:
+                    maxTracesPerSecond = decodeMaxTracesPerSecond(reader.readMessage());
+                    break;
+                case RESPONSE_OPERATION_SAMPLING:
+                    perOperationSampler = decodeOperationSampling(reader.readMessage(), maxOperations);
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        if (perOperationSampler != null) {
+            return perOperationSampler;
+        }
+        switch (strategyType) {
+            case PROBABILISTIC_STRATEGY_TYPE:
+                return Sampler.traceIdRatioBased(samplingRate);
+            case RATE_LIMITING_STRATEGY_TYPE:
+                return new RateLimitingSampler(maxTracesPerSecond);
+            default:
+                return null;
+        }
+    }
+
+    private static double decodeSamplingRate(ProtoReader reader) {
+        double samplingRate = 0;
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            if (ProtoReader.fieldNumber(tag) == PROBABILISTIC_SAMPLING_RATE) {
+                samplingRate = reader.readDouble();
+            } else {
+                reader.skipField(tag);
+            }
+        }
+        return samplingRate;
+    }
+
+    private static int decodeMaxTracesPerSecond(ProtoReader reader) {
+        int maxTracesPerSecond = 0;
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            if (ProtoReader.fieldNumber(tag) == RATE_LIMITING_MAX_TRACES_PER_SECOND) {
+                maxTracesPerSecond = (int) reader.readVarint();
+            } else {
+                reader.skipField(tag);
+            }
+        }
+        return maxTracesPerSecond;
+    }
+
+    private static PerOperationSampler decodeOperationSampling(ProtoReader reader, int maxOperations) {
+        double defaultSamplingProbability = 0;
+        double defaultLowerBoundTracesPerSecond = 0;
+        Map<String, Double> operationProbabilities = new HashMap<>();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (ProtoReader.fieldNumber(tag)) {
+                case OPERATIONS_DEFAULT_SAMPLING_PROBABILITY:
+                    defaultSamplingProbability = reader.readDouble();
+                    break;
+                case OPERATIONS_DEFAULT_LOWER_BOUND_TRACES_PER_SECOND:
+                    defaultLowerBoundTracesPerSecond = reader.readDouble();
+                    break;
+                case OPERATIONS_PER_OPERATION_STRATEGY:
+                    decodeOperationStrategy(reader.readMessage(), operationProbabilities);
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return new PerOperationSampler(defaultSamplingProbability, defaultLowerBoundTracesPerSecond,
+                operationProbabilities, maxOperations);
+    }
+
+    private static void decodeOperationStrategy(ProtoReader reader, Map<String, Double> operationProbabilities) {
+        String operation = "";
+        double samplingRate = 0;
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (ProtoReader.fieldNumber(tag)) {
+                case OPERATION_NAME:
+                    operation = reader.readString();
+                    break;
+                case OPERATION_PROBABILISTIC_SAMPLING:
+                    samplingRate = decodeSamplingRate(reader.readMessage());
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        operationProbabilities.put(operation, samplingRate);
+    }
+
+    /**
+     * Marshaller passing the encoded request and response bytes through.
+     */
+    private static final class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try (stream) {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Bounded FIFO of encoded span records held in direct memory.
+ * <p>
+ * The arena is made of fixed-size chunks of direct memory, which are allocated the first time they are written to
+ * and kept afterwards, and used as one circular region. Each record holds a tag and the bytes written by a producer,
+ * and never crosses the end of a chunk, so it can be read as a single region. Records are appended by any thread under
+ * a short lock and read by a single consumer without the lock, since the records between the read and the write
+ * positions are only released by that consumer. Positions increase monotonically and are mapped onto the chunks.
+ */
+final class SpanArena {
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int PADDING = -1;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkSize;
+    private final long capacity;
+
+    // Guarded by this
+    private long writePosition = 0;
+    private long readPosition = 0;
+    private long peakUsedBytes = 0;
+    private int allocatedChunks = 0;
+    private volatile int records = 0;
+
+    /**
+     * Creates an arena. No memory is allocated until records are appended.
+     *
+     * @param capacity  the maximum bytes held by the arena, rounded up to a whole number of chunks
+     * @param chunkSize the size of a chunk, which bounds the size of a record
+     */
+    SpanArena(long capacity, int chunkSize) {
+        if (chunkSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be larger than " + RECORD_HEADER_SIZE + ": "
+                    + chunkSize);
+        }
+        int chunkCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (capacity + chunkSize - 1) / chunkSize));
+        this.chunks = new ByteBuffer[chunkCount];
+        this.chunkSize = chunkSize;
+        this.capacity = (long) chunkCount * chunkSize;
+    }
+
+    /**
+     * Appends a record, or rejects it if the arena does not have the room for it.
+     *
+     * @param tag    the tag of the record
+     * @param size   the number of bytes the writer writes
+     * @param writer writes exactly {@code size} bytes to the buffer it is given, from the position of the buffer
+     * @return whether the record was appended
+     */
+    boolean append(int tag, int size, Consumer<ByteBuffer> writer) {
+        int recordSize = RECORD_HEADER_SIZE + size;
+        if (recordSize > chunkSize || size < 0) {
+            return false;
+        }
+        synchronized (this) {
+            long position = writePosition;
+            int offset = offset(position);
+            int chunkRemaining = chunkSize - offset;
+            long start = chunkRemaining < recordSize ? position + chunkRemaining : position;
+            if (start + recordSize - readPosition > capacity) {
+                return false;
+            }
+            if (start != position && chunkRemaining >= RECORD_HEADER_SIZE) {
+                chunk(position).putInt(offset, PADDING);
+            }
+            ByteBuffer chunk = chunk(start);
+            int recordOffset = offset(start);
+            chunk.putInt(recordOffset, size);
+            chunk.putInt(recordOffset + Integer.BYTES, tag);
+            ByteBuffer region = chunk.duplicate();
+            region.limit(recordOffset + recordSize).position(recordOffset + RECORD_HEADER_SIZE);
+            writer.accept(region);
+            if (region.position() != recordOffset + recordSize) {
+                throw new IllegalStateException("record writer wrote " + (region.position() - recordOffset
+                        - RECORD_HEADER_SIZE) + " bytes, " + size + " expected");
+            }
+            writePosition = start + recordSize;
+            peakUsedBytes = Math.max(peakUsedBytes, writePosition - readPosition);
+            records++;
+            return true;
+        }
+    }
+
+    /**
+     * Returns the position after the last appended record. The records before it can be read by the consumer.
+     *
+     * @return the write position
+     */
+    synchronized long getWritePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Returns the position of the oldest record which has not been released.
+     *
+     * @return the read position
+     */
+    synchronized long getReadPosition() {
+        return readPosition;
+    }
+
+    /**
+     * Returns the position of the first record at or after the given position, skipping the unused ends of chunks.
+     *
+     * @param position a position between the read and the write positions
+     * @param end      the write position read by the consumer
+     * @return the position of the record, or {@code end} if there is none
+     */
+    long nextRecord(long position, long end) {
+        while (position < end) {
+            int offset = offset(position);
+            if (chunkSize - offset >= RECORD_HEADER_SIZE && chunks[chunkIndex(position)].getInt(offset) != PADDING) {
+                return position;
+            }
+            position += chunkSize - offset;
+        }
+        return end;
+    }
+
+    int getRecordSize(long record) {
+        return chunks[chunkIndex(record)].getInt(offset(record));
+    }
+
+    int getRecordTag(long record) {
+        return chunks[chunkIndex(record)].getInt(offset(record) + Integer.BYTES);
+    }
+
+    long getRecordEnd(long record) {
+        return record + RECORD_HEADER_SIZE + getRecordSize(record);
+    }
+
+    /**
+     * Copies the bytes of a record to the target buffer.
+     *
+     * @param record the position of the record
+     * @param target the buffer to copy to, at its position
+     */
+    void copyRecord(long record, ByteBuffer target) {
+        int offset = offset(record) + RECORD_HEADER_SIZE;
+        target.put(target.position(), chunks[chunkIndex(record)], offset, getRecordSize(record));
+        target.position(target.position() + getRecordSize(record));
+    }
+
+    /**
+     * Releases the records before the given position, making their room available to producers.
+     *
+     * @param position the new read position
+     * @param count    the number of records released
+     */
+    synchronized void release(long position, int count) {
+        readPosition = position;
+        records -= count;
+    }
+
+    int getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the size of the largest record which fits in a chunk.
+     *
+     * @return the maximum record size in bytes
+     */
+    int getMaxRecordSize() {
+        return chunkSize - RECORD_HEADER_SIZE;
+    }
+
+    long getCapacity() {
+        return capacity;
+    }
+
+    synchronized long getUsedBytes() {
+        return writePosition - readPosition;
+    }
+
+    synchronized long getPeakUsedBytes() {
+        return peakUsedBytes;
+    }
+
+    /**
+     * Returns the direct memory allocated by the arena so far.
+     *
+     * @return the allocated bytes
+     */
+    synchronized long getAllocatedBytes() {
+        return (long) allocatedChunks * chunkSize;
+    }
+
+    private ByteBuffer chunk(long position) {
+        int index = chunkIndex(position);
+        ByteBuffer chunk = chunks[index];
+        if (chunk == null) {
+            chunk = ByteBuffer.allocateDirect(chunkSize);
+            chunks[index] = chunk;
+            allocatedChunks++;
+        }
+        return chunk;
+    }
+
+    private int chunkIndex(long position) {
+        return (int) ((position / chunkSize) % chunks.length);
+    }
+
+    private int offset(long position) {
+        return (int) (position % chunkSize);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.SpanLimits;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Span limit settings read from the Jaeger extension configurations.
+ */
+class SpanLimitsConfig {
+    static final int NO_VALUE_LENGTH_LIMIT = 0;
+
+    private static final int DEFAULT_MAX_ATTRIBUTES = 128;
+    private static final int DEFAULT_MAX_EVENTS = 128;
+    private static final int DEFAULT_MAX_LINKS = 128;
+
+    private final int maxAttributes;
+    private final int maxEvents;
+    private final int maxLinks;
+    private final int maxAttributeValueLength;
+
+    SpanLimitsConfig() {
+        this(DEFAULT_MAX_ATTRIBUTES, DEFAULT_MAX_EVENTS, DEFAULT_MAX_LINKS, NO_VALUE_LENGTH_LIMIT);
+    }
+
+    SpanLimitsConfig(int maxAttributes, int maxEvents, int maxLinks, int maxAttributeValueLength) {
+        this.maxAttributes = positiveOrDefault("spanMaxAttributes", maxAttributes, DEFAULT_MAX_ATTRIBUTES);
+        this.maxEvents = positiveOrDefault("spanMaxEvents", maxEvents, DEFAULT_MAX_EVENTS);
+        this.maxLinks = positiveOrDefault("spanMaxLinks", maxLinks, DEFAULT_MAX_LINKS);
+        if (maxAttributeValueLength < 0) {
+            ConfigUtils.printInvalidConfiguration("spanMaxAttributeValueLength",
+                    String.valueOf(maxAttributeValueLength), String.valueOf(NO_VALUE_LENGTH_LIMIT));
+            this.maxAttributeValueLength = NO_VALUE_LENGTH_LIMIT;
+        } else {
+            this.maxAttributeValueLength = maxAttributeValueLength;
+        }
+    }
+
+    /**
+     * Creates the span limits applied by the tracer providers when attributes, events and links are recorded.
+     *
+     * @return the span limits
+     */
+    SpanLimits createSpanLimits() {
+        return SpanLimits.builder()
+                .setMaxNumberOfAttributes(maxAttributes)
+                .setMaxNumberOfEvents(maxEvents)
+                .setMaxNumberOfLinks(maxLinks)
+                .setMaxAttributeValueLength(maxAttributeValueLength == NO_VALUE_LENGTH_LIMIT
+                        ? Integer.MAX_VALUE : maxAttributeValueLength)
+                .build();
+    }
+
+    /**
+     * Wraps an exporter with one counting the attributes, events and links which the span limits removed from the
+     * exported spans, and publishes the counts.
+     *
+     * @param exporter the exporter of the spans
+     * @return the counting exporter
+     */
+    SpanExporter createCountingSpanExporter(SpanExporter exporter) {
+        SpanLimitsCountingSpanExporter countingExporter = new SpanLimitsCountingSpanExporter(exporter,
+                maxAttributeValueLength);
+        countingExporter.registerMetrics();
+        return countingExporter;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributeType;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Span exporter which counts what the span limits removed from the spans it exports.
+ * <p>
+ * The SDK applies the limits silently when attributes, events and links are recorded. Dropped items are counted from
+ * the recorded totals kept in the span data. Truncated values are not marked by the SDK, so a string value which is
+ * exactly as long as the value length limit is counted as truncated. Encoded requests are forwarded without being
+ * counted, as their spans are no longer available as span data, so nothing is counted with the offheap span processor.
+ */
+class SpanLimitsCountingSpanExporter implements SpanExporter, OtlpRequestSender {
+    private final SpanExporter delegate;
+    private final OtlpRequestSender encodedDelegate;
+    private final int maxAttributeValueLength;
+
+    private final LongAdder droppedAttributes = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder droppedLinks = new LongAdder();
+    private final LongAdder truncatedAttributes = new LongAdder();
+    private final LongAdder limitedSpans = new LongAdder();
+
+    /**
+     * Creates the exporter.
+     *
+     * @param delegate                the exporter of the spans
+     * @param maxAttributeValueLength the value length limit, or {@link SpanLimitsConfig#NO_VALUE_LENGTH_LIMIT}
+     */
+    SpanLimitsCountingSpanExporter(SpanExporter delegate, int maxAttributeValueLength) {
+        this.delegate = delegate;
+        this.encodedDelegate = OtlpRequestSender.of(delegate);
+        this.maxAttributeValueLength = maxAttributeValueLength;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            count(span);
+        }
+        return delegate.export(spans);
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        return encodedDelegate.sendEncoded(request);
+    }
+
+    @Override
+    public boolean canSendEncoded() {
+        return encodedDelegate.canSendEncoded();
+    }
+
+    private void count(SpanData span) {
+        int dropped = span.getTotalAttributeCount() - span.getAttributes().size();
+        int droppedEventCount = span.getTotalRecordedEvents() - span.getEvents().size();
+        int droppedLinkCount = span.getTotalRecordedLinks() - span.getLinks().size();
+        int truncated = maxAttributeValueLength == SpanLimitsConfig.NO_VALUE_LENGTH_LIMIT ? 0 : countTruncated(span);
+        if (dropped > 0) {
+            droppedAttributes.add(dropped);
+        }
+        if (droppedEventCount > 0) {
+            droppedEvents.add(droppedEventCount);
+        }
+        if (droppedLinkCount > 0) {
+            droppedLinks.add(droppedLinkCount);
+        }
+        if (truncated > 0) {
+            truncatedAttributes.add(truncated);
+        }
+        if (dropped > 0 || droppedEventCount > 0 || droppedLinkCount > 0 || truncated > 0) {
+            limitedSpans.increment();
+        }
+    }
+
+    private int countTruncated(SpanData span) {
+        int[] truncated = new int[1];
+        span.getAttributes().forEach((key, value) -> {
+            if (isTruncated(key, value)) {
+                truncated[0]++;
+            }
+        });
+        return truncated[0];
+    }
+
+    private boolean isTruncated(AttributeKey<?> key, Object value) {
+        if (key.getType() == AttributeType.STRING) {
+            return ((String) value).length() == maxAttributeValueLength;
+        }
+        if (key.getType() == AttributeType.STRING_ARRAY) {
+            for (Object element : (List<?>) value) {
+                if (element != null && ((String) element).length() == maxAttributeValueLength) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    /**
+     * Publishes the counts of the attributes, events and links removed by the span limits.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("span_limits_dropped_attributes", "Attributes dropped by the span limits", this,
+                SpanLimitsCountingSpanExporter::getDroppedAttributes);
+        JaegerMetrics.register("span_limits_dropped_events", "Events dropped by the span limits", this,
+                SpanLimitsCountingSpanExporter::getDroppedEvents);
+        JaegerMetrics.register("span_limits_dropped_links", "Links dropped by the span limits", this,
+                SpanLimitsCountingSpanExporter::getDroppedLinks);
+        JaegerMetrics.register("span_limits_truncated_attributes", "String attribute values truncated by the span "
+                + "limits", this, SpanLimitsCountingSpanExporter::getTruncatedAttributes);
+        JaegerMetrics.register("span_limits_limited_spans", "Exported spans changed by the span limits", this,
+                SpanLimitsCountingSpanExporter::getLimitedSpans);
+    }
+
+    long getDroppedAttributes() {
+        return droppedAttributes.sum();
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    long getDroppedLinks() {
+        return droppedLinks.sum();
+    }
+
+    long getTruncatedAttributes() {
+        return truncatedAttributes.sum();
+    }
+
+    long getLimitedSpans() {
+        return limitedSpans.sum();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hard cap on the memory held by the spans buffered in a span processor.
+ * <p>
+ * Each span reserves its estimated encoded size when it ends and releases it once it has been exported or dropped, so
+ * the budget covers both the queued spans and the spans of the batch being exported. A span which does not fit in the
+ * remaining budget is shed.
+ */
+final class SpanMemoryBudget {
+    private final long maxBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong peakBytes = new AtomicLong();
+
+    private final LongAdder shedSpans = new LongAdder();
+    private final LongAdder shedBytes = new LongAdder();
+
+    SpanMemoryBudget(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reserves the memory of a span.
+     *
+     * @param bytes the estimated size of the span
+     * @return false if the span does not fit in the budget and must be shed
+     */
+    boolean tryReserve(long bytes) {
+        long used = usedBytes.get();
+        while (true) {
+            long newUsed = used + bytes;
+            if (newUsed > maxBytes) {
+                shedSpans.increment();
+                shedBytes.add(bytes);
+                return false;
+            }
+            long witness = usedBytes.compareAndExchange(used, newUsed);
+            if (witness == used) {
+                peakBytes.accumulateAndGet(newUsed, Math::max);
+                return true;
+            }
+            used = witness;
+        }
+    }
+
+    void release(long bytes) {
+        if (bytes != 0) {
+            usedBytes.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * Publishes the memory held under the budget and the spans shed because they did not fit in it.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("span_memory_max_bytes", "Memory the buffered spans may hold", this,
+                SpanMemoryBudget::getMaxBytes);
+        JaegerMetrics.register("span_memory_used_bytes", "Estimated memory held by the buffered spans", this,
+                SpanMemoryBudget::getUsedBytes);
+        JaegerMetrics.register("span_memory_peak_bytes", "Highest estimated memory held by the buffered spans", this,
+                SpanMemoryBudget::getPeakBytes);
+        JaegerMetrics.register("span_memory_shed_spans", "Spans dropped because they did not fit in the memory budget",
+                this, SpanMemoryBudget::getShedSpans);
+        JaegerMetrics.register("span_memory_shed_bytes", "Estimated size of the spans dropped because they did not "
+                + "fit in the memory budget", this, SpanMemoryBudget::getShedBytes);
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    long getPeakBytes() {
+        return peakBytes.get();
+    }
+
+    long getShedSpans() {
+        return shedSpans.sum();
+    }
+
+    long getShedBytes() {
+        return shedBytes.sum();
+    }
+}
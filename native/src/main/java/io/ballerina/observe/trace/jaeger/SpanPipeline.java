@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Process-wide span pipeline shared by the tracer providers of every service.
+ * <p>
+ * Spans ended in any service go through a single queue and are exported in mixed batches. The OTLP exporter groups
+ * each batch by resource, so one export request carries one {@code ResourceSpans} entry per service. The pipeline
+ * owns the span processor and the transport to the collector, while tracer providers only get a
+ * {@link SharedSpanProcessor} view.
+ */
+class SpanPipeline {
+    private final ExportTransport transport;
+    private final SpanProcessor processor;
+    private final ExportCircuitBreaker circuitBreaker;
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+    SpanPipeline(ExportTransport transport, SpanProcessor processor, ExportCircuitBreaker circuitBreaker) {
+        this.transport = transport;
+        this.processor = processor;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Creates the span processor to be registered in a tracer provider of a service.
+     *
+     * @return a view of the pipeline which does not shut it down with the tracer provider
+     */
+    SpanProcessor newProcessorView() {
+        return new SharedSpanProcessor(processor, circuitBreaker);
+    }
+
+    /**
+     * Exports the pending spans and releases the processor and the transport. Only the first call has an effect.
+     *
+     * @param timeout  the maximum time to wait for the pending spans to be exported
+     * @param unit     the unit of the timeout
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return;
+        }
+        processor.shutdown().join(timeout, unit);
+        transport.shutdown();
+    }
+}
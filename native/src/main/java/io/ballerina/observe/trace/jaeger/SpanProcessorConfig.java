@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Span processor settings read from the Jaeger extension configurations.
+ */
+class SpanProcessorConfig {
+    static final String BATCH_TYPE = "batch";
+
+    private static final PrintStream console = System.out;
+
+    private static final int DEFAULT_SCHEDULE_DELAY = 1000;
+    private static final int DEFAULT_EXPORT_TIMEOUT = 30000;
+    private static final int DEFAULT_MAX_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+    private static final int DEFAULT_TARGET_EXPORT_LATENCY = 250;
+    private static final int DEFAULT_OFF_HEAP_BUFFER_BYTES = 32 * 1024 * 1024;
+
+    private final String type;
+    private final RingBufferSpanProcessor.WaitStrategy waitStrategy;
+    private final int scheduleDelay;
+    private final int exportTimeout;
+    private final int maxQueueSize;
+    private final int maxExportBatchSize;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final int blockTimeout;
+    private final boolean adaptiveBatching;
+    private final int targetExportLatency;
+    private final int maxBufferedBytes;
+
+    SpanProcessorConfig() {
+        this(BATCH_TYPE, "blocking", DEFAULT_SCHEDULE_DELAY, DEFAULT_EXPORT_TIMEOUT,
+                DEFAULT_MAX_QUEUE_SIZE, DEFAULT_MAX_EXPORT_BATCH_SIZE, "drop_newest", 0, false,
+                DEFAULT_TARGET_EXPORT_LATENCY, 0);
+    }
+
+    SpanProcessorConfig(String type, String waitStrategy, int scheduleDelay, int exportTimeout, int maxQueueSize,
+                        int maxExportBatchSize, String overflowPolicy, int blockTimeout, boolean adaptiveBatching,
+                        int targetExportLatency, int maxBufferedBytes) {
+        this.type = selectType(type);
+        this.waitStrategy = selectWaitStrategy(waitStrategy);
+        this.scheduleDelay = positiveOrDefault("reporterFlushInterval", scheduleDelay, DEFAULT_SCHEDULE_DELAY);
+        this.exportTimeout = positiveOrDefault("reporterExportTimeout", exportTimeout, DEFAULT_EXPORT_TIMEOUT);
+        this.maxQueueSize = positiveOrDefault("reporterBufferSize", maxQueueSize, DEFAULT_MAX_QUEUE_SIZE);
+        this.maxExportBatchSize = Math.min(this.maxQueueSize, positiveOrDefault("reporterMaxExportBatchSize",
+                maxExportBatchSize, DEFAULT_MAX_EXPORT_BATCH_SIZE));
+        this.overflowPolicy = selectOverflowPolicy(this.type, overflowPolicy);
+        this.blockTimeout = Math.max(0, blockTimeout);
+        this.adaptiveBatching = selectAdaptiveBatching(this.type, adaptiveBatching);
+        this.targetExportLatency = positiveOrDefault("reporterTargetExportLatency", targetExportLatency,
+                DEFAULT_TARGET_EXPORT_LATENCY);
+        this.maxBufferedBytes = selectMaxBufferedBytes(this.type, maxBufferedBytes);
+    }
+
+    int getExportTimeout() {
+        return exportTimeout;
+    }
+
+    /**
+     * Creates the span processor which exports the ended spans to the given exporter.
+     *
+     * @param exporter             the exporter of the spans
+     * @param sendsEncodedRequests whether the exporter is an {@link OtlpRequestSender} over a transport which sends
+     *                             encoded requests
+     * @param exportThreads        the kind of thread to run the worker of the processor on
+     * @param pipelinedExports     whether the exporter keeps several exports in flight and returns before they
+     *                             complete
+     * @return the span processor
+     */
+    SpanProcessor createSpanProcessor(SpanExporter exporter, boolean sendsEncodedRequests,
+                                      ExportThreads exportThreads, boolean pipelinedExports) {
+        if (OffHeapSpanProcessor.TYPE.equals(type)) {
+            if (sendsEncodedRequests) {
+                return OffHeapSpanProcessor
+                        .builder(exporter)
+                        .setThreadFactory(exportThreads.newThreadFactory(OffHeapSpanProcessor.WORKER_THREAD_NAME))
+                        .setScheduleDelay(scheduleDelay, TimeUnit.MILLISECONDS)
+                        .setExporterTimeout(exportTimeout, TimeUnit.MILLISECONDS)
+                        .setMaxExportBatchSize(maxExportBatchSize)
+                        .setMaxBufferedBytes(maxBufferedBytes > 0 ? maxBufferedBytes : DEFAULT_OFF_HEAP_BUFFER_BYTES)
+                        .setPipelinedExports(pipelinedExports)
+                        .build();
+            }
+            console.println("error: Jaeger span processor type " + OffHeapSpanProcessor.TYPE + " requires the "
+                    + ExporterConfig.GRPC_PROTOCOL + " protocol with direct marshaling or the "
+                    + ExporterConfig.HTTP_PROTOCOL + " protocol, with a single agent endpoint. using "
+                    + RingBufferSpanProcessor.TYPE + " span processor");
+        }
+        if (RingBufferSpanProcessor.TYPE.equals(type) || OffHeapSpanProcessor.TYPE.equals(type)) {
+            RingBufferSpanProcessor.Builder builder = RingBufferSpanProcessor
+                    .builder(exporter)
+                    .setThreadFactory(exportThreads.newThreadFactory(RingBufferSpanProcessor.WORKER_THREAD_NAME))
+                    .setScheduleDelay(scheduleDelay, TimeUnit.MILLISECONDS)
+                    .setExporterTimeout(exportTimeout, TimeUnit.MILLISECONDS)
+                    .setMaxQueueSize(maxQueueSize)
+                    .setMaxExportBatchSize(maxExportBatchSize)
+                    .setWaitStrategy(waitStrategy)
+                    .setOverflowPolicy(overflowPolicy, blockTimeout, TimeUnit.MILLISECONDS)
+                    .setMaxBufferedBytes(maxBufferedBytes)
+                    .setPipelinedExports(pipelinedExports);
+            if (adaptiveBatching) {
+                builder.setAdaptiveBatching(targetExportLatency, TimeUnit.MILLISECONDS);
+            }
+            RingBufferSpanProcessor processor = builder.build();
+            processor.registerMetrics();
+            return processor;
+        }
+        if (pipelinedExports) {
+            console.println("error: Jaeger configuration maxInFlightExports requires the "
+                    + RingBufferSpanProcessor.TYPE + " or " + OffHeapSpanProcessor.TYPE + " span processor. the "
+                    + BATCH_TYPE + " span processor exports one batch at a time");
+        }
+        return BatchSpanProcessor
+                .builder(exporter)
+                .setScheduleDelay(scheduleDelay, TimeUnit.MILLISECONDS)
+                .setExporterTimeout(exportTimeout, TimeUnit.MILLISECONDS)
+                .setMaxQueueSize(maxQueueSize)
+                .setMaxExportBatchSize(maxExportBatchSize)
+                .build();
+    }
+
+    private static String selectType(String type) {
+        if (BATCH_TYPE.equals(type) || RingBufferSpanProcessor.TYPE.equals(type)
+                || OffHeapSpanProcessor.TYPE.equals(type)) {
+            return type;
+        }
+        console.println("error: invalid Jaeger configuration span processor type: " + type
+                + ". using default " + BATCH_TYPE + " span processor");
+        return BATCH_TYPE;
+    }
+
+    private static RingBufferSpanProcessor.WaitStrategy selectWaitStrategy(String waitStrategy) {
+        try {
+            return RingBufferSpanProcessor.WaitStrategy.fromName(waitStrategy);
+        } catch (IllegalArgumentException e) {
+            console.println("error: invalid Jaeger configuration ring buffer wait strategy: " + waitStrategy
+                    + ". using default blocking wait strategy");
+            return RingBufferSpanProcessor.WaitStrategy.BLOCKING;
+        }
+    }
+
+    private static boolean selectAdaptiveBatching(String type, boolean adaptiveBatching) {
+        if (adaptiveBatching && !RingBufferSpanProcessor.TYPE.equals(type)) {
+            console.println("error: Jaeger configuration adaptiveBatching requires the " + RingBufferSpanProcessor.TYPE
+                    + " span processor. adaptive batching disabled");
+            return false;
+        }
+        return adaptiveBatching;
+    }
+
+    private static int selectMaxBufferedBytes(String type, int maxBufferedBytes) {
+        if (maxBufferedBytes < 0) {
+            ConfigUtils.printInvalidConfiguration("reporterMaxBufferedBytes", String.valueOf(maxBufferedBytes), "0");
+            return 0;
+        }
+        if (maxBufferedBytes > 0 && BATCH_TYPE.equals(type)) {
+            console.println("error: Jaeger configuration reporterMaxBufferedBytes requires the "
+                    + RingBufferSpanProcessor.TYPE + " or " + OffHeapSpanProcessor.TYPE
+                    + " span processor. memory budget disabled");
+            return 0;
+        }
+        return maxBufferedBytes;
+    }
+
+    private static QueueOverflowPolicy selectOverflowPolicy(String type, String overflowPolicy) {
+        QueueOverflowPolicy policy;
+        try {
+            policy = QueueOverflowPolicy.fromName(overflowPolicy);
+        } catch (IllegalArgumentException e) {
+            console.println("error: invalid Jaeger configuration queue overflow policy: " + overflowPolicy
+                    + ". using default drop_newest policy");
+            return QueueOverflowPolicy.DROP_NEWEST;
+        }
+        if (policy != QueueOverflowPolicy.DROP_NEWEST && !RingBufferSpanProcessor.TYPE.equals(type)) {
+            console.println("error: Jaeger configuration queue overflow policy " + overflowPolicy
+                    + " requires the " + RingBufferSpanProcessor.TYPE + " span processor. using drop_newest policy");
+            return QueueOverflowPolicy.DROP_NEWEST;
+        }
+        return policy;
+    }
+}
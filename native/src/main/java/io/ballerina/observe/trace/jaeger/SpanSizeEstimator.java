@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cheap estimation of the OTLP protobuf encoded size of spans.
+ * <p>
+ * The estimate adds the lengths of the strings and the fixed size fields of a span, plus a small overhead per field
+ * for tags and length prefixes. Strings are counted in chars, so the estimate is exact only for ASCII text.
+ */
+final class SpanSizeEstimator {
+    private static final int SPAN_FIXED_SIZE = 16 + 8 + 8 + 8 + 8 + 2 + 4 + 12;
+    private static final int EVENT_FIXED_SIZE = 8 + 4;
+    private static final int LINK_FIXED_SIZE = 16 + 8 + 4;
+    private static final int FIELD_OVERHEAD = 3;
+    private static final int VALUE_SIZE = 9;
+
+    private SpanSizeEstimator() {
+    }
+
+    static long estimate(Collection<SpanData> spans) {
+        long size = 0;
+        for (SpanData span : spans) {
+            size += estimate(span);
+        }
+        return size;
+    }
+
+    static int estimate(SpanData span) {
+        int size = SPAN_FIXED_SIZE + span.getName().length() + span.getStatus().getDescription().length()
+                + estimate(span.getAttributes());
+        List<EventData> events = span.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            EventData event = events.get(i);
+            size += FIELD_OVERHEAD + EVENT_FIXED_SIZE + event.getName().length() + estimate(event.getAttributes());
+        }
+        List<LinkData> links = span.getLinks();
+        for (int i = 0; i < links.size(); i++) {
+            size += FIELD_OVERHEAD + LINK_FIXED_SIZE + estimate(links.get(i).getAttributes());
+        }
+        return size;
+    }
+
+    private static int estimate(Attributes attributes) {
+        // Attributes.asMap() copies the attributes into a new map, while forEach reads them in place
+        int[] size = {0};
+        attributes.forEach((key, value) -> size[0] += 2 * FIELD_OVERHEAD + key.getKey().length()
+                + estimateValue(value));
+        return size[0];
+    }
+
+    private static int estimateValue(Object value) {
+        if (value instanceof String) {
+            return FIELD_OVERHEAD + ((String) value).length();
+        }
+        if (value instanceof List) {
+            int size = FIELD_OVERHEAD;
+            for (Object element : (List<?>) value) {
+                size += FIELD_OVERHEAD + estimateValue(element);
+            }
+            return size;
+        }
+        return VALUE_SIZE;
+    }
+}
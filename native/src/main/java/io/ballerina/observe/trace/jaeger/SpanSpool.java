@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Crash-safe on-disk spool of encoded OTLP export requests which could not be delivered.
+ * <p>
+ * Requests are appended to memory-mapped {@link SpoolSegment} files in the spool directory. The spool is bounded by
+ * a size cap. When a new segment would exceed it, the oldest segment is evicted with the requests it still holds.
+ * Requests are replayed oldest first and marked in place once delivered, so the requests left by a crashed or
+ * stopped process are replayed by the next process using the same directory. A lock file keeps two processes from
+ * sharing a directory. All the methods are thread safe.
+ */
+final class SpanSpool {
+    private static final Logger logger = Logger.getLogger(SpanSpool.class.getName());
+
+    private static final String LOCK_FILE_NAME = "spool.lock";
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("segment-(\\d{16})\\.spool");
+    private static final int MIN_SEGMENT_SIZE = 1024 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+    private long nextSequence;
+    private boolean isClosed = false;
+
+    private long spooledRecords = 0;
+    private long evictedRecords = 0;
+    private long droppedRecords = 0;
+    private long replayedRecords = 0;
+    private long replayedBytes = 0;
+
+    private SpanSpool(Path directory, long maxBytes, FileChannel lockChannel, FileLock lock) {
+        this.directory = directory;
+        this.segmentSize = (int) Math.min(maxBytes, Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE,
+                maxBytes / 8)));
+        this.maxSegments = (int) Math.max(1, maxBytes / segmentSize);
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    /**
+     * Opens the spool in a directory, recovering the requests left by an earlier process.
+     *
+     * @param directory the spool directory, which is created if it does not exist
+     * @param maxBytes  the maximum total size of the segment files
+     * @return the spool
+     * @throws IOException if the directory cannot be used
+     */
+    static SpanSpool open(Path directory, long maxBytes) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // The directory is already used by this process
+            lock = null;
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("spool directory is in use by another spool");
+        }
+        SpanSpool spool = new SpanSpool(directory, maxBytes, lockChannel, lock);
+        spool.recover();
+        return spool;
+    }
+
+    private void recover() throws IOException {
+        Map<Long, Path> segmentFiles = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segmentFiles.put(Long.parseLong(matcher.group(1)), file);
+                }
+            }
+        }
+        nextSequence = 0;
+        for (Map.Entry<Long, Path> segmentFile : segmentFiles.entrySet()) {
+            nextSequence = segmentFile.getKey() + 1;
+            SpoolSegment segment;
+            try {
+                segment = SpoolSegment.open(segmentFile.getValue(), segmentFile.getKey());
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "discarding unreadable spool segment " + segmentFile.getValue(), e);
+                Files.deleteIfExists(segmentFile.getValue());
+                continue;
+            }
+            if (segment.isFullyConsumed()) {
+                segment.delete();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+    }
+
+    /**
+     * Appends an encoded export request. The oldest segment is evicted if the spool is full.
+     *
+     * @param request the encoded request, between the position and the limit of the buffer
+     * @return true if the request was spooled, false if it is too large or could not be written
+     */
+    synchronized boolean append(ByteBuffer request) {
+        if (isClosed) {
+            droppedRecords++;
+            return false;
+        }
+        SpoolSegment active = segments.peekLast();
+        if (active != null && active.append(request)) {
+            spooledRecords++;
+            return true;
+        }
+        if (request.remaining() > segmentSize - SpoolSegment.HEADER_SIZE - SpoolSegment.RECORD_HEADER_SIZE) {
+            droppedRecords++;
+            return false;
+        }
+        if (active != null) {
+            active.seal();
+        }
+        while (segments.size() >= maxSegments) {
+            evictOldest();
+        }
+        Path path = directory.resolve(String.format("segment-%016d.spool", nextSequence));
+        try {
+            active = SpoolSegment.create(path, nextSequence++, segmentSize);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "failed to create the spool segment " + path, e);
+            droppedRecords++;
+            return false;
+        }
+        segments.addLast(active);
+        active.append(request);
+        spooledRecords++;
+        return true;
+    }
+
+    private void evictOldest() {
+        SpoolSegment segment = segments.pollFirst();
+        evictedRecords += segment.getPendingRecords();
+        if (segment.getPendingRecords() > 0) {
+            logger.log(Level.WARNING, "spool is full, evicted " + segment.getPendingRecords()
+                    + " span export requests");
+        }
+        deleteSegment(segment);
+    }
+
+    /**
+     * Returns the oldest request which is not yet replayed.
+     *
+     * @return the request, or null if the spool is empty
+     */
+    synchronized Record peek() {
+        while (!segments.isEmpty()) {
+            SpoolSegment segment = segments.peekFirst();
+            ByteBuffer payload = segment.peek();
+            if (payload != null) {
+                return new Record(segment, segment.getReadPosition(), payload);
+            }
+            if (!segment.isSealed()) {
+                return null;
+            }
+            segments.pollFirst();
+            deleteSegment(segment);
+        }
+        return null;
+    }
+
+    /**
+     * Marks a request returned by {@link #peek()} as replayed. Requests evicted in the meantime are ignored.
+     *
+     * @param record the replayed request
+     */
+    synchronized void consume(Record record) {
+        SpoolSegment segment = record.segment;
+        if (segments.peekFirst() != segment || segment.getReadPosition() != record.position) {
+            return;
+        }
+        segment.consume();
+        replayedRecords++;
+        replayedBytes += record.payload.capacity();
+        if (segment.isSealed() && segment.isFullyConsumed()) {
+            segments.pollFirst();
+            deleteSegment(segment);
+        }
+    }
+
+    private static void deleteSegment(SpoolSegment segment) {
+        try {
+            segment.delete();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "failed to delete the spool segment " + segment.getSequence(), e);
+        }
+    }
+
+    /**
+     * Writes the spooled requests to the disk and releases the spool directory.
+     */
+    synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        for (SpoolSegment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "failed to release the spool lock", e);
+        }
+    }
+
+    synchronized int getPendingRecords() {
+        int pendingRecords = 0;
+        for (SpoolSegment segment : segments) {
+            pendingRecords += segment.getPendingRecords();
+        }
+        return pendingRecords;
+    }
+
+    synchronized long getPendingBytes() {
+        long pendingBytes = 0;
+        for (SpoolSegment segment : segments) {
+            pendingBytes += segment.getPendingBytes();
+        }
+        return pendingBytes;
+    }
+
+    synchronized long getSpooledRecords() {
+        return spooledRecords;
+    }
+
+    synchronized long getEvictedRecords() {
+        return evictedRecords;
+    }
+
+    synchronized long getDroppedRecords() {
+        return droppedRecords;
+    }
+
+    synchronized long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    synchronized long getReplayedBytes() {
+        return replayedBytes;
+    }
+
+    /**
+     * Spooled request returned for replay.
+     */
+    static final class Record {
+        private final SpoolSegment segment;
+        private final int position;
+        private final ByteBuffer payload;
+
+        private Record(SpoolSegment segment, int position, ByteBuffer payload) {
+            this.segment = segment;
+            this.position = position;
+            this.payload = payload;
+        }
+
+        /**
+         * Returns a read-only view of the encoded request. The view stays valid after the request is evicted.
+         *
+         * @return the encoded request
+         */
+        ByteBuffer getPayload() {
+            return payload.duplicate();
+        }
+    }
+}
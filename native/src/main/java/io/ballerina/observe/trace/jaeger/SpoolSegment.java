@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only segment file of the {@link SpanSpool}, mapped into memory.
+ * <p>
+ * A segment starts with a header holding a magic number, followed by records made of the payload length, the CRC32C
+ * of the payload and the payload. The length is written after the payload, so a record becomes visible only once it is
+ * complete, and the zero filled remainder of the file ends the records. Replayed records are marked by negating their
+ * length. When a segment is reopened, records are read up to the first one which is incomplete or fails the checksum,
+ * such as a record torn by a machine crash before the pages reached the disk.
+ */
+final class SpoolSegment {
+    private static final Logger logger = Logger.getLogger(SpoolSegment.class.getName());
+
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int MAGIC = 0x4A53504C;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final long sequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private int writePosition;
+    private int readPosition;
+    private int pendingRecords = 0;
+    private long pendingBytes = 0;
+    private boolean isSealed;
+
+    private SpoolSegment(Path path, long sequence, FileChannel channel, MappedByteBuffer buffer, boolean isSealed) {
+        this.path = path;
+        this.sequence = sequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.isSealed = isSealed;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates a new empty segment which accepts appends.
+     *
+     * @param path     the path of the segment file
+     * @param sequence the sequence number of the segment
+     * @param size     the size of the segment file
+     * @return the segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static SpoolSegment create(Path path, long sequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            SpoolSegment segment = new SpoolSegment(path, sequence, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, size), false);
+            segment.buffer.putInt(0, MAGIC);
+            segment.buffer.putInt(4, VERSION);
+            segment.writePosition = HEADER_SIZE;
+            segment.readPosition = HEADER_SIZE;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a segment left by an earlier run. The segment is sealed and only its pending records are replayed.
+     *
+     * @param path     the path of the segment file
+     * @param sequence the sequence number of the segment
+     * @return the segment
+     * @throws IOException if the file cannot be mapped or is not a spool segment
+     */
+    static SpoolSegment open(Path path, long sequence) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("invalid spool segment size " + size);
+            }
+            SpoolSegment segment = new SpoolSegment(path, sequence, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, size), true);
+            if (segment.buffer.getInt(0) != MAGIC || segment.buffer.getInt(4) != VERSION) {
+                throw new IOException("not a spool segment");
+            }
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void recover() {
+        int position = HEADER_SIZE;
+        readPosition = -1;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            int payloadLength = Math.abs(length);
+            if (length == 0 || length == Integer.MIN_VALUE
+                    || payloadLength > buffer.capacity() - position - RECORD_HEADER_SIZE
+                    || buffer.getInt(position + 4) != checksum(position + RECORD_HEADER_SIZE, payloadLength)) {
+                break;
+            }
+            if (length > 0) {
+                if (readPosition < 0) {
+                    readPosition = position;
+                }
+                pendingRecords++;
+                pendingBytes += payloadLength;
+            }
+            position += RECORD_HEADER_SIZE + payloadLength;
+        }
+        writePosition = position;
+        if (readPosition < 0) {
+            readPosition = position;
+        }
+    }
+
+    /**
+     * Appends a record. Sealed segments and segments without enough space left reject the record.
+     *
+     * @param payload the payload of the record, between the position and the limit of the buffer
+     * @return true if the record was appended
+     */
+    boolean append(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (isSealed || length > buffer.capacity() - writePosition - RECORD_HEADER_SIZE) {
+            return false;
+        }
+        int payloadPosition = writePosition + RECORD_HEADER_SIZE;
+        buffer.put(payloadPosition, payload, payload.position(), length);
+        buffer.putInt(writePosition + 4, checksum(payloadPosition, length));
+        // The length goes last, so a reader never sees a partially written record
+        buffer.putInt(writePosition, length);
+        writePosition = payloadPosition + length;
+        pendingRecords++;
+        pendingBytes += length;
+        return true;
+    }
+
+    /**
+     * Returns the oldest record which is not yet replayed.
+     *
+     * @return a read-only view of the payload of the record, or null if all the records are replayed
+     */
+    ByteBuffer peek() {
+        if (readPosition >= writePosition) {
+            return null;
+        }
+        int length = buffer.getInt(readPosition);
+        int payloadPosition = readPosition + RECORD_HEADER_SIZE;
+        return buffer.slice(payloadPosition, length).asReadOnlyBuffer();
+    }
+
+    int getReadPosition() {
+        return readPosition;
+    }
+
+    /**
+     * Marks the oldest record which is not yet replayed as replayed.
+     */
+    void consume() {
+        int length = buffer.getInt(readPosition);
+        buffer.putInt(readPosition, -length);
+        pendingRecords--;
+        pendingBytes -= length;
+        readPosition += RECORD_HEADER_SIZE + length;
+        // Skip records which were replayed before a restart
+        while (readPosition < writePosition && buffer.getInt(readPosition) < 0) {
+            readPosition += RECORD_HEADER_SIZE - buffer.getInt(readPosition);
+        }
+    }
+
+    /**
+     * Stops accepting appends and writes the mapped pages to the disk.
+     */
+    void seal() {
+        if (!isSealed) {
+            isSealed = true;
+            buffer.force();
+        }
+    }
+
+    boolean isSealed() {
+        return isSealed;
+    }
+
+    boolean isFullyConsumed() {
+        return readPosition >= writePosition;
+    }
+
+    int getPendingRecords() {
+        return pendingRecords;
+    }
+
+    long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    int getSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Writes the mapped pages to the disk and closes the file.
+     */
+    void close() {
+        buffer.force();
+        closeChannel();
+    }
+
+    /**
+     * Closes and deletes the segment file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    void delete() throws IOException {
+        closeChannel();
+        // The mapping stays valid for readers holding a view until it is garbage collected
+        Files.deleteIfExists(path);
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Closing only releases the file descriptor, the mapping is not affected
+            logger.log(Level.FINE, "failed to close the spool segment " + path, e);
+        }
+    }
+
+    private int checksum(int position, int length) {
+        crc.reset();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span exporter which spools the batches that could not be exported to disk and replays them later.
+ * <p>
+ * Batches go to the delegate exporter as usual. Only when an export fails is the batch encoded as an OTLP request and
+ * appended to the {@link SpanSpool}, and the export is then reported as successful. A background replayer sends the
+ * spooled requests oldest first. After a failed replay it waits for the retry interval, or until a live export
+ * succeeds, before trying again, so the spool drains as soon as the collector is reachable. Spooling a failed batch
+ * only wakes the replayer when it is idle on an empty spool, so that failed live exports do not cut the retry interval
+ * short. The replay throughput is logged and published each time the spool is drained. Encoded requests are sent
+ * through the delegate, which must then be an {@link OtlpRequestSender}, and spooled as they are when they fail.
+ */
+class SpoolingSpanExporter implements SpanExporter, OtlpRequestSender {
+    private static final Logger logger = Logger.getLogger(SpoolingSpanExporter.class.getName());
+
+    private static final long REPLAY_RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final SpanExporter delegate;
+    private final OtlpRequestSender encodedDelegate;
+    private final OtlpRequestSender sender;
+    private final SpanSpool spool;
+    private final long exportTimeoutNanos;
+    private final OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private final Thread replayer;
+
+    private final Object replaySignal = new Object();
+    private boolean isReplayRequested = true;
+    // Whether the replayer waits for spooled requests without a retry pending
+    private boolean isReplayerIdle = false;
+    private volatile long lastDrainBytesPerSecond = 0;
+
+    // Progress of the current drain of the spool, only accessed by the replayer
+    private long drainStartNanos = 0;
+    private long drainedRecords = 0;
+    private long drainedBytes = 0;
+
+    /**
+     * Creates the exporter and starts replaying the requests already in the spool.
+     *
+     * @param delegate      the exporter to export the batches with
+     * @param sender        the sender to replay the spooled requests with, usually the exporter under the delegate
+     * @param spool         the spool, which is closed with the exporter
+     * @param exportTimeout the maximum time to wait for a replayed request
+     * @param unit          the unit of the timeout
+     * @param exportThreads the kind of thread to replay the spool on
+     */
+    SpoolingSpanExporter(SpanExporter delegate, OtlpRequestSender sender, SpanSpool spool, long exportTimeout,
+                         TimeUnit unit, ExportThreads exportThreads) {
+        this.delegate = delegate;
+        this.encodedDelegate = OtlpRequestSender.of(delegate);
+        this.sender = sender;
+        this.spool = spool;
+        this.exportTimeoutNanos = unit.toNanos(exportTimeout);
+        this.replayer = exportThreads.newThreadFactory("jaeger-spool-replayer").newThread(this::replay);
+        this.replayer.start();
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        // Span processors reuse their batch lists once the export call returns
+        List<SpanData> batch = new ArrayList<>(spans);
+        CompletableResultCode exportResult = delegate.export(spans);
+        CompletableResultCode result = new CompletableResultCode();
+        exportResult.whenComplete(() -> {
+            if (exportResult.isSuccess()) {
+                if (spool.getPendingRecords() > 0) {
+                    requestReplay();
+                }
+                result.succeed();
+            } else if (spool(batch)) {
+                result.succeed();
+            } else {
+                result.fail();
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        // The caller reuses the request buffer once this returns, so a copy is kept in case it has to be spooled
+        ByteBuffer copy = ByteBuffer.allocate(request.remaining()).put(request.duplicate()).flip();
+        CompletableResultCode sendResult = encodedDelegate.sendEncoded(request);
+        CompletableResultCode result = new CompletableResultCode();
+        sendResult.whenComplete(() -> {
+            if (sendResult.isSuccess()) {
+                if (spool.getPendingRecords() > 0) {
+                    requestReplay();
+                }
+                result.succeed();
+            } else if (spool(copy)) {
+                result.succeed();
+            } else {
+                result.fail();
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public boolean canSendEncoded() {
+        return encodedDelegate.canSendEncoded();
+    }
+
+    private boolean spool(List<SpanData> batch) {
+        ByteBuffer request;
+        synchronized (encoder) {
+            request = ByteBuffer.allocate(encoder.prepare(batch));
+            encoder.writeTo(request);
+        }
+        return spool(request.flip());
+    }
+
+    private boolean spool(ByteBuffer request) {
+        int size = request.remaining();
+        boolean isSpooled = spool.append(request);
+        if (isSpooled) {
+            wakeIdleReplayer();
+        } else {
+            logger.log(Level.FINE, "failed to spool an export request of " + size + " bytes");
+        }
+        return isSpooled;
+    }
+
+    private void requestReplay() {
+        synchronized (replaySignal) {
+            isReplayRequested = true;
+            replaySignal.notifyAll();
+        }
+    }
+
+    private void wakeIdleReplayer() {
+        synchronized (replaySignal) {
+            if (isReplayerIdle) {
+                isReplayRequested = true;
+                replaySignal.notifyAll();
+            }
+        }
+    }
+
+    private void replay() {
+        try {
+            while (!isShutdown.get()) {
+                awaitReplayRequest();
+                while (!isShutdown.get()) {
+                    SpanSpool.Record record = spool.peek();
+                    if (record == null) {
+                        logDrained();
+                        break;
+                    }
+                    if (!replay(record)) {
+                        // Wait for the retry interval, or until a live export shows the collector is back
+                        awaitReplayRequest(REPLAY_RETRY_INTERVAL_NANOS);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean replay(SpanSpool.Record record) {
+        ByteBuffer payload = record.getPayload();
+        int size = payload.remaining();
+        CompletableResultCode result = sender.sendEncoded(payload)
+                .join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+        if (!result.isSuccess()) {
+            return false;
+        }
+        spool.consume(record);
+        if (drainedRecords == 0) {
+            drainStartNanos = System.nanoTime();
+        }
+        drainedRecords++;
+        drainedBytes += size;
+        return true;
+    }
+
+    private void logDrained() {
+        if (drainedRecords == 0) {
+            return;
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drainStartNanos));
+        lastDrainBytesPerSecond = drainedBytes * 1000 / elapsedMillis;
+        logger.log(Level.INFO, "replayed " + drainedRecords + " span export requests (" + drainedBytes
+                + " bytes) from the spool in " + elapsedMillis + " ms, " + lastDrainBytesPerSecond + " bytes/s");
+        drainedRecords = 0;
+        drainedBytes = 0;
+    }
+
+    private void awaitReplayRequest() throws InterruptedException {
+        synchronized (replaySignal) {
+            isReplayerIdle = true;
+            try {
+                // A request spooled after the spool was found empty, but before the replayer became idle, did not wake
+                // it up
+                while (!isReplayRequested && !isShutdown.get() && spool.getPendingRecords() == 0) {
+                    replaySignal.wait();
+                }
+            } finally {
+                isReplayerIdle = false;
+            }
+            isReplayRequested = false;
+        }
+    }
+
+    private void awaitReplayRequest(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        synchronized (replaySignal) {
+            long remaining = timeoutNanos;
+            while (!isReplayRequested && !isShutdown.get() && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(replaySignal, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            isReplayRequested = false;
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        synchronized (replaySignal) {
+            replaySignal.notifyAll();
+        }
+        try {
+            replayer.join(TimeUnit.NANOSECONDS.toMillis(exportTimeoutNanos) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Exports failing while shutting down are still spooled, so the spool is closed after the delegate
+        CompletableResultCode result = delegate.shutdown();
+        result.whenComplete(spool::close);
+        return result;
+    }
+
+    /**
+     * Publishes the depth of the spool and the replay progress and throughput to the Ballerina metrics registry.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("spool_depth_requests", "Export requests waiting in the spool to be replayed",
+                this, SpoolingSpanExporter::getSpoolDepth);
+        JaegerMetrics.register("spool_depth_bytes", "Size of the export requests waiting in the spool",
+                this, SpoolingSpanExporter::getSpoolDepthBytes);
+        JaegerMetrics.register("spool_replayed_requests", "Export requests replayed from the spool",
+                this, SpoolingSpanExporter::getReplayedRequests);
+        JaegerMetrics.register("spool_replayed_bytes", "Size of the export requests replayed from the spool",
+                this, SpoolingSpanExporter::getReplayedBytes);
+        JaegerMetrics.register("spool_replay_bytes_per_second", "Replay throughput of the last drain of the spool",
+                this, SpoolingSpanExporter::getLastDrainBytesPerSecond);
+    }
+
+    int getSpoolDepth() {
+        return spool.getPendingRecords();
+    }
+
+    long getSpoolDepthBytes() {
+        return spool.getPendingBytes();
+    }
+
+    long getReplayedRequests() {
+        return spool.getReplayedRecords();
+    }
+
+    long getReplayedBytes() {
+        return spool.getReplayedBytes();
+    }
+
+    /**
+     * Returns the throughput of the last replay which drained the spool.
+     *
+     * @return the replayed bytes per second, or zero if the spool was never drained
+     */
+    long getLastDrainBytesPerSecond() {
+        return lastDrainBytesPerSecond;
+    }
+
+    SpanSpool getSpool() {
+        return spool;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.observe.trace.jaeger.ConfigUtils.positiveOrDefault;
+
+/**
+ * Tail sampling settings read from the Jaeger extension configurations.
+ */
+class TailSamplingConfig {
+    private static final PrintStream console = System.out;
+    private static final int DEFAULT_DECISION_WAIT = 5000;
+    private static final int DEFAULT_LATENCY_THRESHOLD = 1000;
+    private static final int DEFAULT_MAX_BUFFERED_BYTES = 32 * 1024 * 1024;
+    private static final double DEFAULT_PROBABILITY = 0.01;
+
+    private final boolean enabled;
+    private final int decisionWait;
+    private final int latencyThreshold;
+    private final Map<String, Set<String>> matchedAttributes;
+    private final double probability;
+    private final int maxBufferedBytes;
+
+    TailSamplingConfig() {
+        this(false, DEFAULT_DECISION_WAIT, DEFAULT_LATENCY_THRESHOLD, List.of(), DEFAULT_PROBABILITY,
+                DEFAULT_MAX_BUFFERED_BYTES);
+    }
+
+    TailSamplingConfig(boolean enabled, int decisionWait, int latencyThreshold, List<String> matchedAttributes,
+                       double probability, int maxBufferedBytes) {
+        this.enabled = enabled;
+        this.decisionWait = positiveOrDefault("tailSamplingDecisionWait", decisionWait, DEFAULT_DECISION_WAIT);
+        if (latencyThreshold < 0) {
+            ConfigUtils.printInvalidConfiguration("tailSamplingLatencyThreshold", String.valueOf(latencyThreshold),
+                    String.valueOf(DEFAULT_LATENCY_THRESHOLD));
+            this.latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+        } else {
+            this.latencyThreshold = latencyThreshold;
+        }
+        this.matchedAttributes = parseMatchedAttributes(matchedAttributes);
+        if (probability < 0 || probability > 1 || Double.isNaN(probability)) {
+            ConfigUtils.printInvalidConfiguration("tailSamplingProbability", String.valueOf(probability),
+                    String.valueOf(DEFAULT_PROBABILITY));
+            this.probability = DEFAULT_PROBABILITY;
+        } else {
+            this.probability = probability;
+        }
+        this.maxBufferedBytes = positiveOrDefault("tailSamplingMaxBufferedBytes", maxBufferedBytes,
+                DEFAULT_MAX_BUFFERED_BYTES);
+    }
+
+    /**
+     * Wraps the span processor exporting the spans with a tail sampling processor when tail sampling is enabled, and
+     * publishes its metrics.
+     *
+     * @param processor     the span processor exporting the spans
+     * @param exportThreads the kind of thread to run the worker of the tail sampling processor on
+     * @return the span processor of the pipeline
+     */
+    SpanProcessor wrapSpanProcessor(SpanProcessor processor, ExportThreads exportThreads) {
+        if (!enabled) {
+            return processor;
+        }
+        TailSamplingSpanProcessor tailSamplingProcessor = TailSamplingSpanProcessor
+                .builder(processor)
+                .setThreadFactory(exportThreads.newThreadFactory(TailSamplingSpanProcessor.WORKER_THREAD_NAME))
+                .setDecisionWait(decisionWait, TimeUnit.MILLISECONDS)
+                .setLatencyThreshold(latencyThreshold, TimeUnit.MILLISECONDS)
+                .setMatchedAttributes(matchedAttributes)
+                .setFallbackProbability(probability)
+                .setMaxBufferedBytes(maxBufferedBytes)
+                .build();
+        tailSamplingProcessor.registerMetrics();
+        return tailSamplingProcessor;
+    }
+
+    private static Map<String, Set<String>> parseMatchedAttributes(List<String> matchedAttributes) {
+        Map<String, Set<String>> parsed = new HashMap<>();
+        for (String matchedAttribute : matchedAttributes) {
+            int separator = matchedAttribute.indexOf('=');
+            if (separator <= 0) {
+                console.println("error: invalid Jaeger configuration tail sampling attribute: " + matchedAttribute
+                        + ". expected key=value");
+                continue;
+            }
+            parsed.computeIfAbsent(matchedAttribute.substring(0, separator), key -> new HashSet<>())
+                    .add(matchedAttribute.substring(separator + 1));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span processor which holds the ended spans of each trace for a decision window, and only passes the spans of the
+ * traces selected by its policies on to the span processor which exports them.
+ * <p>
+ * A trace is selected as soon as one of its spans has an error status, lasted at least the latency threshold or has
+ * one of the matched attribute values. Its buffered spans are then passed on right away, and so are its later spans.
+ * The other traces are decided by a probabilistic fallback on the trace ID once the decision window has elapsed since
+ * their first span ended. Decisions are remembered for a while, so spans ending after the decision of their trace
+ * follow it.
+ * <p>
+ * The buffered spans are limited by their estimated encoded size. When a span does not fit, the oldest traces are
+ * decided right away on the spans received so far and counted as evicted, so an error in a trace is never lost to
+ * eviction. Only spans sampled by the head sampler reach this processor.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+    private static final Logger logger = Logger.getLogger(TailSamplingSpanProcessor.class.getName());
+    static final String WORKER_THREAD_NAME = "jaeger-tail-sampling";
+    private static final int MAX_REMEMBERED_DECISIONS = 10000;
+
+    private final SpanProcessor delegate;
+    private final long decisionWaitNanos;
+    private final long latencyThresholdNanos;
+    private final Map<String, Set<String>> matchedAttributes;
+    private final Sampler fallbackSampler;
+    private final long maxBufferedBytes;
+    private final Thread worker;
+
+    private final ConcurrentMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final Queue<TraceBuffer> traceOrder = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<String, Boolean> decisions = new ConcurrentHashMap<>();
+    private final Queue<String> decisionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decisionCount = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong peakBufferedBytes = new AtomicLong();
+
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+    private volatile boolean running = true;
+
+    private final LongAdder sampledTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder evictedTraces = new LongAdder();
+    private final LongAdder evictedSpans = new LongAdder();
+    private final LongAdder lateSpans = new LongAdder();
+
+    private TailSamplingSpanProcessor(Builder builder) {
+        this.delegate = builder.delegate;
+        this.decisionWaitNanos = builder.decisionWaitNanos;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.matchedAttributes = builder.matchedAttributes;
+        this.fallbackSampler = Sampler.traceIdRatioBased(builder.fallbackProbability);
+        this.maxBufferedBytes = builder.maxBufferedBytes;
+        this.worker = builder.threadFactory.newThread(this::run);
+    }
+
+    /**
+     * Creates a builder of the processor.
+     *
+     * @param delegate the span processor exporting the spans of the selected traces
+     * @return the builder
+     */
+    public static Builder builder(SpanProcessor delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        if (!running) {
+            delegate.onEnd(span);
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        Boolean decision = decisions.get(traceId);
+        if (decision != null) {
+            forwardLateSpan(span, decision);
+            return;
+        }
+        SpanData spanData = span.toSpanData();
+        boolean selected = isSelected(spanData);
+        int size = SpanSizeEstimator.estimate(spanData);
+        while (true) {
+            TraceBuffer trace = traces.computeIfAbsent(traceId, this::newTrace);
+            List<ReadableSpan> selectedSpans;
+            synchronized (trace) {
+                if (trace.removed) {
+                    // The trace was decided and removed meanwhile, so its decision is remembered unless it was
+                    // already forgotten, in which case the span starts a new trace
+                    decision = decisions.get(traceId);
+                    if (decision != null) {
+                        forwardLateSpan(span, decision);
+                        return;
+                    }
+                    continue;
+                }
+                if (trace.decided) {
+                    forwardLateSpan(span, trace.sampled);
+                    return;
+                }
+                trace.spans.add(span);
+                if (selected) {
+                    // A trace selected by a policy is passed on right away instead of waiting for the window
+                    selectedSpans = decide(trace, true);
+                } else {
+                    selectedSpans = null;
+                    trace.bytes += size;
+                    peakBufferedBytes.accumulateAndGet(bufferedBytes.addAndGet(size), Math::max);
+                }
+            }
+            if (selectedSpans != null) {
+                forward(selectedSpans);
+                release(trace);
+            } else {
+                evictOverLimit();
+            }
+            return;
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /**
+     * Flushes the span processor exporting the spans. The buffered traces wait for their decision, as deciding them
+     * early would leave their spans ending later out of the decision.
+     *
+     * @return the result of the flush
+     */
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (isShutdown.compareAndSet(false, true)) {
+            running = false;
+            LockSupport.unpark(worker);
+        }
+        return shutdownResult;
+    }
+
+    /**
+     * Publishes the sampling decisions, the evictions and the buffered spans of the processor to the Ballerina metrics
+     * registry.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("tail_sampling_sampled_traces", "Traces kept by tail sampling", this,
+                TailSamplingSpanProcessor::getSampledTraces);
+        JaegerMetrics.register("tail_sampling_dropped_traces", "Traces dropped by tail sampling", this,
+                TailSamplingSpanProcessor::getDroppedTraces);
+        JaegerMetrics.register("tail_sampling_evicted_traces", "Traces judged before the end of their decision window "
+                + "to stay under the memory limit", this, TailSamplingSpanProcessor::getEvictedTraces);
+        JaegerMetrics.register("tail_sampling_evicted_spans", "Spans of the traces judged early to stay under the "
+                + "memory limit", this, TailSamplingSpanProcessor::getEvictedSpans);
+        JaegerMetrics.register("tail_sampling_late_spans", "Spans ended after their trace was judged", this,
+                TailSamplingSpanProcessor::getLateSpans);
+        JaegerMetrics.register("tail_sampling_buffered_traces", "Traces waiting for a tail sampling decision", this,
+                TailSamplingSpanProcessor::getBufferedTraces);
+        JaegerMetrics.register("tail_sampling_buffered_bytes", "Estimated size of the spans waiting for a tail "
+                + "sampling decision", this, TailSamplingSpanProcessor::getBufferedBytes);
+        JaegerMetrics.register("tail_sampling_peak_buffered_bytes", "Highest estimated size of the spans waiting for "
+                + "a tail sampling decision", this, TailSamplingSpanProcessor::getPeakBufferedBytes);
+    }
+
+    /**
+     * Returns the number of traces selected by a policy or by the probabilistic fallback.
+     *
+     * @return the number of sampled traces
+     */
+    public long getSampledTraces() {
+        return sampledTraces.sum();
+    }
+
+    /**
+     * Returns the number of traces which were not selected and whose spans were dropped.
+     *
+     * @return the number of dropped traces
+     */
+    public long getDroppedTraces() {
+        return droppedTraces.sum();
+    }
+
+    /**
+     * Returns the number of traces decided before the end of their decision window to keep the buffered spans under
+     * the memory limit.
+     *
+     * @return the number of evicted traces
+     */
+    public long getEvictedTraces() {
+        return evictedTraces.sum();
+    }
+
+    public long getEvictedSpans() {
+        return evictedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans which ended after the decision of their trace and followed it.
+     *
+     * @return the number of late spans
+     */
+    public long getLateSpans() {
+        return lateSpans.sum();
+    }
+
+    public int getBufferedTraces() {
+        return traces.size();
+    }
+
+    /**
+     * Returns the estimated encoded size of the buffered spans.
+     *
+     * @return the buffered bytes
+     */
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public long getPeakBufferedBytes() {
+        return peakBufferedBytes.get();
+    }
+
+    private TraceBuffer newTrace(String traceId) {
+        TraceBuffer trace = new TraceBuffer(traceId, System.nanoTime() + decisionWaitNanos);
+        traceOrder.add(trace);
+        return trace;
+    }
+
+    private boolean isSelected(SpanData span) {
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        if (latencyThresholdNanos > 0
+                && span.getEndEpochNanos() - span.getStartEpochNanos() >= latencyThresholdNanos) {
+            return true;
+        }
+        if (!matchedAttributes.isEmpty()) {
+            boolean[] matched = new boolean[1];
+            span.getAttributes().forEach((key, value) -> {
+                Set<String> values = matchedAttributes.get(key.getKey());
+                if (values != null && values.contains(String.valueOf(value))) {
+                    matched[0] = true;
+                }
+            });
+            return matched[0];
+        }
+        return false;
+    }
+
+    private boolean isSampledByFallback(String traceId) {
+        return fallbackSampler.shouldSample(Context.root(), traceId, "", SpanKind.INTERNAL, Attributes.empty(),
+                Collections.emptyList()).getDecision() == SamplingDecision.RECORD_AND_SAMPLE;
+    }
+
+    /**
+     * Decides a trace and remembers the decision for the spans of the trace ending later. Must be called while
+     * holding the lock of the trace.
+     *
+     * @param trace    the trace to decide
+     * @param selected whether a policy selected the trace
+     * @return the spans to pass on, or an empty list if the trace was dropped
+     */
+    private List<ReadableSpan> decide(TraceBuffer trace, boolean selected) {
+        trace.decided = true;
+        trace.sampled = selected || isSampledByFallback(trace.traceId);
+        rememberDecision(trace.traceId, trace.sampled);
+        List<ReadableSpan> spans = trace.spans;
+        trace.spans = Collections.emptyList();
+        if (trace.sampled) {
+            sampledTraces.increment();
+            return spans;
+        }
+        droppedTraces.increment();
+        return Collections.emptyList();
+    }
+
+    private void rememberDecision(String traceId, boolean sampled) {
+        if (decisions.put(traceId, sampled) == null) {
+            decisionOrder.add(traceId);
+            if (decisionCount.incrementAndGet() > MAX_REMEMBERED_DECISIONS) {
+                String oldest = decisionOrder.poll();
+                if (oldest != null) {
+                    decisions.remove(oldest);
+                    decisionCount.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void forwardLateSpan(ReadableSpan span, boolean sampled) {
+        lateSpans.increment();
+        if (sampled) {
+            delegate.onEnd(span);
+        }
+    }
+
+    private void forward(List<ReadableSpan> spans) {
+        for (ReadableSpan span : spans) {
+            delegate.onEnd(span);
+        }
+    }
+
+    private void evictOverLimit() {
+        // The oldest traces are decided early until the buffered spans fit again
+        while (bufferedBytes.get() > maxBufferedBytes) {
+            TraceBuffer oldest = traceOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            int spanCount = decideAndForward(oldest);
+            if (spanCount >= 0) {
+                evictedTraces.increment();
+                evictedSpans.add(spanCount);
+            }
+        }
+    }
+
+    /**
+     * Decides a trace polled from the order of the traces and passes its spans on if it is sampled.
+     *
+     * @param trace the trace to decide
+     * @return the number of spans of the trace, or -1 if it was already decided by a policy
+     */
+    private int decideAndForward(TraceBuffer trace) {
+        List<ReadableSpan> spans;
+        int spanCount;
+        synchronized (trace) {
+            if (trace.decided) {
+                trace.removed = true;
+                traces.remove(trace.traceId, trace);
+                return -1;
+            }
+            spanCount = trace.spans.size();
+            spans = decide(trace, false);
+            trace.removed = true;
+            traces.remove(trace.traceId, trace);
+        }
+        forward(spans);
+        release(trace);
+        return spanCount;
+    }
+
+    private void release(TraceBuffer trace) {
+        long bytes;
+        synchronized (trace) {
+            bytes = trace.bytes;
+            trace.bytes = 0;
+        }
+        if (bytes != 0) {
+            bufferedBytes.addAndGet(-bytes);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            TraceBuffer oldest = traceOrder.peek();
+            long now = System.nanoTime();
+            if (oldest == null) {
+                LockSupport.parkNanos(this, decisionWaitNanos);
+            } else if (oldest.deadline - now > 0) {
+                LockSupport.parkNanos(this, oldest.deadline - now);
+            } else {
+                decideOldest();
+            }
+        }
+        // The remaining traces are decided on the spans received so far
+        while (decideOldest()) {
+            // Decide until no trace is buffered
+        }
+        delegate.shutdown().whenComplete(shutdownResult::succeed);
+    }
+
+    private boolean decideOldest() {
+        TraceBuffer trace = traceOrder.poll();
+        if (trace == null) {
+            return false;
+        }
+        try {
+            decideAndForward(trace);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "failed to pass on the spans of a sampled trace", e);
+        }
+        return true;
+    }
+
+    /**
+     * Spans of a trace waiting for the decision, guarded by the lock of the trace.
+     */
+    private static final class TraceBuffer {
+        private final String traceId;
+        private final long deadline;
+        private List<ReadableSpan> spans = new ArrayList<>();
+        private long bytes;
+        private boolean decided;
+        private boolean sampled;
+        private boolean removed;
+
+        private TraceBuffer(String traceId, long deadline) {
+            this.traceId = traceId;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Builder for {@link TailSamplingSpanProcessor}.
+     */
+    public static final class Builder {
+        private static final long DEFAULT_DECISION_WAIT_MILLIS = 5000;
+        private static final long DEFAULT_MAX_BUFFERED_BYTES = 32L * 1024 * 1024;
+
+        private final SpanProcessor delegate;
+        private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+        private long latencyThresholdNanos = 0;
+        private Map<String, Set<String>> matchedAttributes = Collections.emptyMap();
+        private double fallbackProbability = 0;
+        private long maxBufferedBytes = DEFAULT_MAX_BUFFERED_BYTES;
+        private ThreadFactory threadFactory = ExportThreads.PLATFORM.newThreadFactory(WORKER_THREAD_NAME);
+
+        private Builder(SpanProcessor delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Sets how long the spans of a trace are held after its first span ended before the trace is decided.
+         *
+         * @param decisionWait the decision window
+         * @param unit         the unit of the decision window
+         * @return this builder
+         */
+        public Builder setDecisionWait(long decisionWait, TimeUnit unit) {
+            this.decisionWaitNanos = unit.toNanos(decisionWait);
+            return this;
+        }
+
+        /**
+         * Sets the duration of a span from which its trace is selected.
+         *
+         * @param latencyThreshold the latency threshold, or 0 to select no trace by latency
+         * @param unit             the unit of the latency threshold
+         * @return this builder
+         */
+        public Builder setLatencyThreshold(long latencyThreshold, TimeUnit unit) {
+            this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the attribute values which select the trace of a span having one of them. Values of other types than
+         * strings are compared in their string form.
+         *
+         * @param matchedAttributes the matched values by attribute key
+         * @return this builder
+         */
+        public Builder setMatchedAttributes(Map<String, Set<String>> matchedAttributes) {
+            this.matchedAttributes = Map.copyOf(matchedAttributes);
+            return this;
+        }
+
+        public Builder setFallbackProbability(double fallbackProbability) {
+            if (fallbackProbability < 0 || fallbackProbability > 1) {
+                throw new IllegalArgumentException("fallbackProbability must be between 0 and 1: "
+                        + fallbackProbability);
+            }
+            this.fallbackProbability = fallbackProbability;
+            return this;
+        }
+
+        public Builder setMaxBufferedBytes(long maxBufferedBytes) {
+            if (maxBufferedBytes < 1) {
+                throw new IllegalArgumentException("maxBufferedBytes must be positive: " + maxBufferedBytes);
+            }
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the worker thread deciding the traces at the end of their window. The worker is a
+         * daemon platform thread by default.
+         *
+         * @param threadFactory the factory of the worker thread
+         * @return this builder
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public TailSamplingSpanProcessor build() {
+            TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(this);
+            processor.worker.start();
+            return processor;
+        }
+    }
+}
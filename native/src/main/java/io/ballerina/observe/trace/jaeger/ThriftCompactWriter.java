@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writer of the Thrift compact protocol into a {@link ByteBuffer}.
+ * <p>
+ * Only the subset of the protocol needed by the Jaeger agent API is supported. Writing past the limit of the buffer
+ * fails with a {@link java.nio.BufferOverflowException}, which callers use to detect that a message does not fit.
+ */
+final class ThriftCompactWriter {
+    static final byte TYPE_BOOLEAN_TRUE = 1;
+    static final byte TYPE_BOOLEAN_FALSE = 2;
+    static final byte TYPE_I32 = 5;
+    static final byte TYPE_I64 = 6;
+    static final byte TYPE_DOUBLE = 7;
+    static final byte TYPE_BINARY = 8;
+    static final byte TYPE_LIST = 9;
+    static final byte TYPE_STRUCT = 12;
+
+    static final byte MESSAGE_TYPE_ONEWAY = 4;
+
+    private static final byte PROTOCOL_ID = (byte) 0x82;
+    private static final byte VERSION = 1;
+    private static final byte TYPE_STOP = 0;
+    private static final int MAX_STRUCT_DEPTH = 16;
+
+    private ByteBuffer buffer;
+    private final short[] lastFieldIds = new short[MAX_STRUCT_DEPTH];
+    private int depth = 0;
+
+    /**
+     * Starts writing into the given buffer at its current position.
+     *
+     * @param target the buffer to write to
+     */
+    void reset(ByteBuffer target) {
+        buffer = target;
+        depth = 0;
+        lastFieldIds[0] = 0;
+    }
+
+    void writeMessageBegin(String name, byte messageType, int sequenceId) {
+        buffer.put(PROTOCOL_ID);
+        buffer.put((byte) ((VERSION & 0x1F) | (messageType << 5)));
+        writeVarint(sequenceId & 0xFFFFFFFFL);
+        writeString(name);
+    }
+
+    /**
+     * Starts a nested struct, either as the value of a field or as an element of a list.
+     */
+    void writeStructBegin() {
+        lastFieldIds[++depth] = 0;
+    }
+
+    void writeStructEnd() {
+        buffer.put(TYPE_STOP);
+        depth--;
+    }
+
+    /**
+     * Ends the top level struct, such as the arguments of a message, which has no matching begin.
+     */
+    void writeFieldStop() {
+        buffer.put(TYPE_STOP);
+    }
+
+    void writeFieldBegin(byte type, short id) {
+        short delta = (short) (id - lastFieldIds[depth]);
+        if (delta > 0 && delta <= 15) {
+            buffer.put((byte) ((delta << 4) | type));
+        } else {
+            buffer.put(type);
+            writeVarint(zigzag(id));
+        }
+        lastFieldIds[depth] = id;
+    }
+
+    void writeBoolField(short id, boolean value) {
+        writeFieldBegin(value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE, id);
+    }
+
+    void writeI32Field(short id, int value) {
+        writeFieldBegin(TYPE_I32, id);
+        writeVarint(zigzag(value));
+    }
+
+    void writeI64Field(short id, long value) {
+        writeFieldBegin(TYPE_I64, id);
+        writeVarint(zigzag(value));
+    }
+
+    void writeDoubleField(short id, double value) {
+        writeFieldBegin(TYPE_DOUBLE, id);
+        // Doubles are written in little endian byte order, into buffers in the default big endian order
+        buffer.putLong(Long.reverseBytes(Double.doubleToRawLongBits(value)));
+    }
+
+    void writeStringField(short id, String value) {
+        writeFieldBegin(TYPE_BINARY, id);
+        writeString(value);
+    }
+
+    void writeListBegin(byte elementType, int size) {
+        if (size < 15) {
+            buffer.put((byte) ((size << 4) | elementType));
+        } else {
+            buffer.put((byte) (0xF0 | elementType));
+            writeVarint(size);
+        }
+    }
+
+    void writeString(String value) {
+        writeVarint(ProtoWriter.utf8Length(value));
+        ProtoWriter.writeUtf8(buffer, value);
+    }
+
+    /**
+     * Copies already encoded bytes, such as a struct encoded once and reused in several messages.
+     *
+     * @param encoded the encoded bytes, from the position to the limit
+     */
+    void writeEncoded(ByteBuffer encoded) {
+        buffer.put(encoded.duplicate());
+    }
+
+    static int listHeaderSize(int size) {
+        return size < 15 ? 1 : 1 + ProtoWriter.varintSize(size);
+    }
+
+    private void writeVarint(long value) {
+        ProtoWriter.writeVarint(buffer, value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
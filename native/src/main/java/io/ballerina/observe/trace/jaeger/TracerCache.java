@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Concurrent cache of the {@link SdkTracerProvider} and {@link Tracer} built for each service name.
+ * <p>
+ * Entries are never evicted. The runtime keeps the tracer it gets for a service for the lifetime of the program, so
+ * shutting down the provider of an evicted entry would silently stop exporting the spans of that service, and
+ * building a second provider for the service would only duplicate the one still in use. Instead, once the cache holds
+ * its maximum number of services, further services share a single tracer reporting them as
+ * {@link #OVERFLOW_SERVICE_NAME}, so that a program creating service names without limit cannot grow the cache or
+ * the number of providers without limit. All the providers are shut down when the cache is closed.
+ */
+class TracerCache {
+    static final String OVERFLOW_SERVICE_NAME = "jaeger-overflow-services";
+
+    private static final Logger logger = Logger.getLogger(TracerCache.class.getName());
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Function<String, SdkTracerProvider> providerFactory;
+    private final String instrumentationName;
+    private final int maxEntries;
+    private final AtomicBoolean overflowLogged = new AtomicBoolean(false);
+    private volatile Entry overflowEntry;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder uncachedCount = new LongAdder();
+
+    TracerCache(Function<String, SdkTracerProvider> providerFactory, String instrumentationName, int maxEntries) {
+        this.providerFactory = providerFactory;
+        this.instrumentationName = instrumentationName;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Publishes the hit and miss counters and the size of the cache to the Ballerina metrics registry.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("tracer_cache_hits", "Tracer lookups served from the cache",
+                this, TracerCache::getHitCount);
+        JaegerMetrics.register("tracer_cache_misses", "Tracer lookups which built and cached a tracer provider",
+                this, TracerCache::getMissCount);
+        JaegerMetrics.register("tracer_cache_uncached_lookups", "Tracer lookups of services which got the shared "
+                + "tracer because the cache was full", this, TracerCache::getUncachedCount);
+        JaegerMetrics.register("tracer_cache_size", "Number of services with a cached tracer",
+                this, TracerCache::size);
+    }
+
+    /**
+     * Returns the tracer of the given service, building and caching its provider on the first request. Once the
+     * cache is full, a service which is not cached gets the tracer shared by all such services.
+     *
+     * @param serviceName the name of the service
+     * @return the tracer of the service
+     */
+    Tracer getTracer(String serviceName) {
+        Entry entry = entries.get(serviceName);
+        if (entry != null) {
+            hitCount.increment();
+            return entry.tracer;
+        }
+        // The size is checked without a lock, so concurrent misses may go a few entries past the maximum
+        if (entries.size() >= maxEntries) {
+            uncachedCount.increment();
+            if (overflowLogged.compareAndSet(false, true)) {
+                logger.log(Level.WARNING, "the Jaeger tracer cache is full with " + maxEntries
+                        + " services. further services are reported as " + OVERFLOW_SERVICE_NAME);
+            }
+            return getOverflowEntry().tracer;
+        }
+        return entries.computeIfAbsent(serviceName, this::createEntry).tracer;
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    long getUncachedCount() {
+        return uncachedCount.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every cached entry and shuts down the providers, waiting for the pending spans to be handed over.
+     */
+    void close() {
+        List<CompletableResultCode> results = new ArrayList<>();
+        for (Map.Entry<String, Entry> cached : entries.entrySet()) {
+            if (entries.remove(cached.getKey(), cached.getValue())) {
+                results.add(cached.getValue().provider.shutdown());
+            }
+        }
+        synchronized (this) {
+            if (overflowEntry != null) {
+                results.add(overflowEntry.provider.shutdown());
+                overflowEntry = null;
+            }
+        }
+        CompletableResultCode.ofAll(results).join(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private Entry getOverflowEntry() {
+        Entry entry = overflowEntry;
+        if (entry == null) {
+            synchronized (this) {
+                entry = overflowEntry;
+                if (entry == null) {
+                    SdkTracerProvider provider = providerFactory.apply(OVERFLOW_SERVICE_NAME);
+                    entry = new Entry(provider, provider.get(instrumentationName));
+                    overflowEntry = entry;
+                }
+            }
+        }
+        return entry;
+    }
+
+    private Entry createEntry(String serviceName) {
+        missCount.increment();
+        SdkTracerProvider provider = providerFactory.apply(serviceName);
+        return new Entry(provider, provider.get(instrumentationName));
+    }
+
+    private static class Entry {
+        private final SdkTracerProvider provider;
+        private final Tracer tracer;
+
+        Entry(SdkTracerProvider provider, Tracer tracer) {
+            this.provider = provider;
+            this.tracer = tracer;
+        }
+    }
+}
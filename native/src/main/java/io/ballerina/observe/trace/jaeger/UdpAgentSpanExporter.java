@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span exporter sending Thrift compact {@code emitBatch} messages to a Jaeger agent over UDP.
+ * <p>
+ * Spans are grouped by resource and packed into datagrams of up to the configured maximum packet size. Each span is
+ * encoded once into a packing buffer, and the datagram is assembled in a direct send buffer reused for every packet.
+ * Export is fire and forget. Spans which do not fit into a packet on their own and spans of packets which could not
+ * be sent are counted and dropped.
+ */
+class UdpAgentSpanExporter implements SpanExporter {
+    private static final Logger logger = Logger.getLogger(UdpAgentSpanExporter.class.getName());
+
+    private static final String EMIT_BATCH = "emitBatch";
+    // Message header, argument and batch field headers, the largest list header and the stop fields
+    private static final int EMIT_BATCH_OVERHEAD = 2 + 5 + 1 + EMIT_BATCH.length() + 1 + 1 + 1 + 6 + 1 + 1;
+
+    private final DatagramChannel channel;
+    private final int maxPacketSize;
+    private final JaegerThriftSpanEncoder encoder = new JaegerThriftSpanEncoder();
+    private final ThriftCompactWriter packetWriter = new ThriftCompactWriter();
+    private final ByteBuffer processBuffer;
+    private final ByteBuffer spansBuffer;
+    private final ByteBuffer sendBuffer;
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private int sequenceId = 0;
+
+    private final LongAdder sentPackets = new LongAdder();
+    private final LongAdder sentSpans = new LongAdder();
+    private final LongAdder oversizedSpans = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+
+    UdpAgentSpanExporter(DatagramChannel channel, int maxPacketSize) {
+        this.channel = channel;
+        this.maxPacketSize = maxPacketSize;
+        this.processBuffer = ByteBuffer.allocate(maxPacketSize);
+        this.spansBuffer = ByteBuffer.allocate(maxPacketSize);
+        this.sendBuffer = ByteBuffer.allocateDirect(maxPacketSize);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (isShutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        for (Map.Entry<Resource, List<SpanData>> group : groupByResource(spans).entrySet()) {
+            exportGroup(group.getKey(), group.getValue());
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static Map<Resource, List<SpanData>> groupByResource(Collection<SpanData> spans) {
+        // Spans of the same tracer provider share the resource instance, so grouping is by identity
+        Map<Resource, List<SpanData>> groups = new IdentityHashMap<>();
+        for (SpanData span : spans) {
+            groups.computeIfAbsent(span.getResource(), resource -> new ArrayList<>()).add(span);
+        }
+        return groups;
+    }
+
+    private void exportGroup(Resource resource, List<SpanData> spans) {
+        processBuffer.clear();
+        try {
+            encoder.encodeProcess(processBuffer, resource);
+        } catch (BufferOverflowException e) {
+            oversizedSpans.add(spans.size());
+            return;
+        }
+        processBuffer.flip();
+
+        int payloadLimit = maxPacketSize - EMIT_BATCH_OVERHEAD - processBuffer.remaining();
+        if (payloadLimit <= 0) {
+            oversizedSpans.add(spans.size());
+            return;
+        }
+        spansBuffer.clear().limit(payloadLimit);
+        int packedSpans = 0;
+        for (int i = 0; i < spans.size(); i++) {
+            SpanData span = spans.get(i);
+            int spanStart = spansBuffer.position();
+            if (encodeSpan(span)) {
+                packedSpans++;
+                continue;
+            }
+            if (packedSpans == 0) {
+                oversizedSpans.increment();
+                spansBuffer.position(spanStart);
+                continue;
+            }
+            // The packet is full, so send it and start the next one with this span
+            spansBuffer.position(spanStart);
+            sendPacket(packedSpans);
+            packedSpans = 0;
+            spansBuffer.clear().limit(payloadLimit);
+            if (encodeSpan(span)) {
+                packedSpans++;
+            } else {
+                oversizedSpans.increment();
+                spansBuffer.clear().limit(payloadLimit);
+            }
+        }
+        if (packedSpans > 0) {
+            sendPacket(packedSpans);
+        }
+    }
+
+    private boolean encodeSpan(SpanData span) {
+        try {
+            encoder.encodeSpan(spansBuffer, span);
+            return true;
+        } catch (BufferOverflowException e) {
+            return false;
+        }
+    }
+
+    private void sendPacket(int spanCount) {
+        spansBuffer.flip();
+        sendBuffer.clear();
+        packetWriter.reset(sendBuffer);
+        packetWriter.writeMessageBegin(EMIT_BATCH, ThriftCompactWriter.MESSAGE_TYPE_ONEWAY, sequenceId++);
+        packetWriter.writeFieldBegin(ThriftCompactWriter.TYPE_STRUCT, (short) 1);
+        packetWriter.writeStructBegin();
+        packetWriter.writeFieldBegin(ThriftCompactWriter.TYPE_STRUCT, (short) 1);
+        packetWriter.writeEncoded(processBuffer);
+        packetWriter.writeFieldBegin(ThriftCompactWriter.TYPE_LIST, (short) 2);
+        packetWriter.writeListBegin(ThriftCompactWriter.TYPE_STRUCT, spanCount);
+        packetWriter.writeEncoded(spansBuffer);
+        packetWriter.writeStructEnd();
+        packetWriter.writeFieldStop();
+        sendBuffer.flip();
+
+        try {
+            // A non-blocking send either sends the whole datagram or nothing when the socket buffer is full
+            if (channel.write(sendBuffer) > 0) {
+                sentPackets.increment();
+                sentSpans.add(spanCount);
+            } else {
+                droppedSpans.add(spanCount);
+            }
+        } catch (IOException e) {
+            droppedSpans.add(spanCount);
+            logger.log(Level.FINE, "failed to send spans to the Jaeger agent", e);
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        // The channel is owned by the transport, which closes it after the processor is shut down
+        isShutdown.set(true);
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Publishes the sent packets and spans and the oversized and dropped spans to the Ballerina metrics registry.
+     *
+     * @param endpoint the endpoint of the agent
+     */
+    void registerMetrics(String endpoint) {
+        JaegerMetrics.register("udp_sent_packets", "UDP packets sent to the Jaeger agent", "endpoint", endpoint,
+                this, UdpAgentSpanExporter::getSentPackets);
+        JaegerMetrics.register("udp_sent_spans", "Spans sent to the Jaeger agent", "endpoint", endpoint,
+                this, UdpAgentSpanExporter::getSentSpans);
+        JaegerMetrics.register("udp_oversized_spans", "Spans dropped because they do not fit into a UDP packet",
+                "endpoint", endpoint, this, UdpAgentSpanExporter::getOversizedSpans);
+        JaegerMetrics.register("udp_dropped_spans", "Spans dropped because their UDP packet could not be sent",
+                "endpoint", endpoint, this, UdpAgentSpanExporter::getDroppedSpans);
+    }
+
+    long getSentPackets() {
+        return sentPackets.sum();
+    }
+
+    long getSentSpans() {
+        return sentSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped because their encoding does not fit into a packet on its own.
+     *
+     * @return the number of oversized spans
+     */
+    long getOversizedSpans() {
+        return oversizedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped because their packet could not be sent.
+     *
+     * @return the number of dropped spans
+     */
+    long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+}
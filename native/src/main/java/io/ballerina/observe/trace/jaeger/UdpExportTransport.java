@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Connectionless transport to a Jaeger agent, sending Thrift compact batches over UDP.
+ */
+class UdpExportTransport implements ExportTransport {
+    private final String endpoint;
+    private final int maxPacketSize;
+    private final DatagramChannel channel;
+
+    UdpExportTransport(String hostname, int port, int maxPacketSize) {
+        this.endpoint = "udp://" + hostname + ":" + port;
+        this.maxPacketSize = maxPacketSize;
+        try {
+            this.channel = DatagramChannel.open();
+            this.channel.configureBlocking(false);
+            this.channel.connect(new InetSocketAddress(hostname, port));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open the UDP channel to the Jaeger agent " + endpoint, e);
+        }
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public SpanExporter createSpanExporter(int exportTimeout, ExportRetryConfig retryConfig) {
+        UdpAgentSpanExporter exporter = new UdpAgentSpanExporter(channel, maxPacketSize);
+        exporter.registerMetrics(endpoint);
+        return exporter;
+    }
+
+    @Override
+    public void shutdown() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing is left to be sent once the exporter is shut down
+        }
+    }
+}
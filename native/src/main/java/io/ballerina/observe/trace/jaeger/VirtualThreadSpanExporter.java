@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Span exporter which runs each export on its own virtual thread, with a limit on the number of concurrent exports.
+ * <p>
+ * The export call returns once a virtual thread has taken the batch, so the span processor can assemble the next
+ * batch right away. The virtual thread exports the batch with the delegate exporter and blocks until the export
+ * completes or times out, which only parks the virtual thread, and then completes the returned result with the
+ * outcome of the export. Taking a batch blocks while the number of
+ * running exports is at the limit. This is the counterpart of the {@link PipelinedSpanExporter} for the
+ * {@link ExportThreads#VIRTUAL} threads.
+ */
+class VirtualThreadSpanExporter implements SpanExporter, OtlpRequestSender {
+    private static final Logger logger = Logger.getLogger(VirtualThreadSpanExporter.class.getName());
+    private static final String EXPORT_THREAD_NAME = "jaeger-span-export";
+
+    private final SpanExporter delegate;
+    private final OtlpRequestSender encodedDelegate;
+    private final Semaphore exportPermits;
+    private final long exportTimeoutNanos;
+    private final ThreadFactory threadFactory;
+    private final Set<CompletableResultCode> inFlightResults = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger runningExports = new AtomicInteger();
+    private final AtomicInteger peakRunningExports = new AtomicInteger();
+    private final LongAdder completedBatches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder rejectedBatches = new LongAdder();
+
+    /**
+     * Creates the exporter.
+     *
+     * @param delegate             the exporter of the batches
+     * @param maxConcurrentExports the maximum number of exports running at once
+     * @param exportTimeout        the maximum time to wait for a free export slot and for an export to complete
+     * @param unit                 the unit of the timeout
+     */
+    VirtualThreadSpanExporter(SpanExporter delegate, int maxConcurrentExports, long exportTimeout, TimeUnit unit) {
+        this.delegate = delegate;
+        this.encodedDelegate = OtlpRequestSender.of(delegate);
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.exportTimeoutNanos = unit.toNanos(exportTimeout);
+        this.threadFactory = ExportThreads.VIRTUAL.newThreadFactory(EXPORT_THREAD_NAME);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        // Span processors reuse their batch lists once the export call returns
+        List<SpanData> batch = new ArrayList<>(spans);
+        return dispatch(() -> delegate.export(batch));
+    }
+
+    @Override
+    public CompletableResultCode sendEncoded(ByteBuffer request) {
+        // The caller reuses the request buffer once this returns, while the request is sent later by the export thread
+        ByteBuffer copy = ByteBuffer.allocate(request.remaining()).put(request.duplicate()).flip();
+        return dispatch(() -> encodedDelegate.sendEncoded(copy));
+    }
+
+    @Override
+    public boolean canSendEncoded() {
+        return encodedDelegate.canSendEncoded();
+    }
+
+    private CompletableResultCode dispatch(Supplier<CompletableResultCode> export) {
+        try {
+            if (!exportPermits.tryAcquire(exportTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejectedBatches.increment();
+                return CompletableResultCode.ofFailure();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        inFlightResults.add(result);
+        peakRunningExports.accumulateAndGet(runningExports.incrementAndGet(), Math::max);
+        threadFactory.newThread(() -> runExport(export, result)).start();
+        return result;
+    }
+
+    private void runExport(Supplier<CompletableResultCode> export, CompletableResultCode result) {
+        boolean isSuccess = false;
+        try {
+            isSuccess = export.get().join(exportTimeoutNanos, TimeUnit.NANOSECONDS).isSuccess();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "exporter threw an exception while exporting spans", e);
+        } finally {
+            if (isSuccess) {
+                completedBatches.increment();
+            } else {
+                failedBatches.increment();
+            }
+            runningExports.decrementAndGet();
+            exportPermits.release();
+            inFlightResults.remove(result);
+            if (isSuccess) {
+                result.succeed();
+            } else {
+                result.fail();
+            }
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        List<CompletableResultCode> results = new ArrayList<>(inFlightResults);
+        results.add(delegate.flush());
+        return CompletableResultCode.ofAll(results);
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        CompletableResultCode result = new CompletableResultCode();
+        flush().whenComplete(() -> delegate.shutdown().whenComplete(result::succeed));
+        return result;
+    }
+
+    /**
+     * Publishes the counters of the exports running on virtual threads.
+     */
+    void registerMetrics() {
+        JaegerMetrics.register("virtual_thread_running_exports", "Exports running on their own virtual thread",
+                this, VirtualThreadSpanExporter::getRunningExports);
+        JaegerMetrics.register("virtual_thread_peak_running_exports",
+                "Largest number of exports which ran at once on virtual threads", this,
+                VirtualThreadSpanExporter::getPeakRunningExports);
+        JaegerMetrics.register("virtual_thread_completed_batches", "Batches exported on virtual threads",
+                this, VirtualThreadSpanExporter::getCompletedBatches);
+        JaegerMetrics.register("virtual_thread_failed_batches", "Batches which failed to export on virtual threads",
+                this, VirtualThreadSpanExporter::getFailedBatches);
+        JaegerMetrics.register("virtual_thread_rejected_batches",
+                "Batches dropped because no export slot became free within the export timeout", this,
+                VirtualThreadSpanExporter::getRejectedBatches);
+    }
+
+    int getRunningExports() {
+        return runningExports.get();
+    }
+
+    int getPeakRunningExports() {
+        return peakRunningExports.get();
+    }
+
+    long getCompletedBatches() {
+        return completedBatches.sum();
+    }
+
+    long getFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    /**
+     * Returns the number of batches dropped because no export slot became free within the export timeout.
+     *
+     * @return the number of rejected batches
+     */
+    long getRejectedBatches() {
+        return rejectedBatches.sum();
+    }
+}
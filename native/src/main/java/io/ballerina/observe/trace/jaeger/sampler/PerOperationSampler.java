@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.sampler;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.opentelemetry.api.common.AttributeKey.doubleKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+/**
+ * Sampler which samples the traces of each operation, named by the span name, with its own probability, and
+ * guarantees each operation a minimum number of sampled traces per second. This follows the per-operation sampling
+ * strategy of a Jaeger collector, so rare operations are still traced while frequent ones take most of the traces.
+ * <p>
+ * Operations without their own probability are sampled with the default probability and get their own lower bound
+ * rate limiter on first use, up to a maximum number of operations. The operations beyond the maximum share a single
+ * default sampler and its lower bound, which bounds the memory taken by programs with many distinct span names.
+ */
+public class PerOperationSampler implements Sampler {
+    public static final String TYPE = "peroperation";
+    public static final int DEFAULT_MAX_OPERATIONS = 2000;
+    private static final AttributeKey<String> SAMPLER_TYPE = stringKey("sampler.type");
+    private static final AttributeKey<Double> SAMPLER_PARAM = doubleKey("sampler.param");
+    private static final String PROBABILISTIC_SAMPLER_TYPE = "probabilistic";
+    private static final String LOWER_BOUND_SAMPLER_TYPE = "lowerbound";
+
+    private final double defaultSamplingProbability;
+    private final double lowerBoundTracesPerSecond;
+    private final int maxOperations;
+    private final ConcurrentMap<String, OperationSampler> operationSamplers;
+    private final AtomicInteger operationCount;
+    private final OperationSampler defaultSampler;
+    private final String description;
+
+    /**
+     * Creates a per-operation sampler.
+     *
+     * @param defaultSamplingProbability     the sampling probability of the operations without their own probability
+     * @param lowerBoundTracesPerSecond      the minimum number of sampled traces per second of each operation, or 0
+     *                                       for none
+     * @param operationSamplingProbabilities the sampling probabilities by operation name
+     * @param maxOperations                  the maximum number of operations with their own sampler
+     */
+    public PerOperationSampler(double defaultSamplingProbability, double lowerBoundTracesPerSecond,
+                               Map<String, Double> operationSamplingProbabilities, int maxOperations) {
+        this.defaultSamplingProbability = defaultSamplingProbability;
+        this.lowerBoundTracesPerSecond = lowerBoundTracesPerSecond;
+        this.maxOperations = maxOperations;
+        this.operationSamplers = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Double> entry : operationSamplingProbabilities.entrySet()) {
+            // Operations with their own probability are always kept, even beyond the maximum
+            operationSamplers.put(entry.getKey(), new OperationSampler(entry.getValue(), lowerBoundTracesPerSecond));
+        }
+        this.operationCount = new AtomicInteger(operationSamplers.size());
+        this.defaultSampler = new OperationSampler(defaultSamplingProbability, lowerBoundTracesPerSecond);
+        this.description = "PerOperationSampler{default=" + defaultSampler.probabilisticSampler.getDescription()
+                + ", lowerBound=" + lowerBoundTracesPerSecond + ", operations=" + operationSamplers.size()
+                + ", maxOperations=" + maxOperations + "}";
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+            Context parentContext,
+            String traceId,
+            String name,
+            SpanKind spanKind,
+            Attributes attributes,
+            List<LinkData> parentLinks) {
+        OperationSampler operationSampler = operationSamplers.get(name);
+        if (operationSampler == null) {
+            operationSampler = addOperation(name);
+        }
+        return operationSampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    private OperationSampler addOperation(String name) {
+        if (operationCount.get() >= maxOperations) {
+            return defaultSampler;
+        }
+        OperationSampler operationSampler = operationSamplers.computeIfAbsent(name, operation -> {
+            // A slot is reserved before the sampler is added, so racing threads never exceed the maximum
+            if (operationCount.incrementAndGet() > maxOperations) {
+                operationCount.decrementAndGet();
+                return null;
+            }
+            return new OperationSampler(defaultSamplingProbability, lowerBoundTracesPerSecond);
+        });
+        return operationSampler != null ? operationSampler : defaultSampler;
+    }
+
+    /**
+     * Returns the number of operations with their own sampler.
+     *
+     * @return the number of operations
+     */
+    public int getOperationCount() {
+        return operationCount.get();
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+
+    /**
+     * Sampler of a single operation, which samples its traces with a probability and, when the probabilistic
+     * sampler drops a trace, samples it anyway while the lower bound rate limiter has credits left. Traces sampled
+     * by the probability also spend lower bound credits, so the lower bound is a minimum and not an addition.
+     */
+    private static final class OperationSampler {
+        private final Sampler probabilisticSampler;
+        private final RateLimiter lowerBoundLimiter;
+        private final SamplingResult probabilisticSampledResult;
+        private final SamplingResult probabilisticDroppedResult;
+        private final SamplingResult lowerBoundSampledResult;
+
+        OperationSampler(double samplingProbability, double lowerBoundTracesPerSecond) {
+            this.probabilisticSampler = Sampler.traceIdRatioBased(samplingProbability);
+            if (lowerBoundTracesPerSecond > 0) {
+                double maxBalance = Math.max(lowerBoundTracesPerSecond, 1.0);
+                this.lowerBoundLimiter = new RateLimiter(lowerBoundTracesPerSecond, maxBalance, Clock.getDefault());
+            } else {
+                this.lowerBoundLimiter = null;
+            }
+            Attributes probabilisticAttributes = Attributes.of(SAMPLER_TYPE, PROBABILISTIC_SAMPLER_TYPE,
+                    SAMPLER_PARAM, samplingProbability);
+            this.probabilisticSampledResult = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE,
+                    probabilisticAttributes);
+            this.probabilisticDroppedResult = SamplingResult.create(SamplingDecision.DROP, probabilisticAttributes);
+            this.lowerBoundSampledResult = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE,
+                    Attributes.of(SAMPLER_TYPE, LOWER_BOUND_SAMPLER_TYPE, SAMPLER_PARAM, lowerBoundTracesPerSecond));
+        }
+
+        SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                    Attributes attributes, List<LinkData> parentLinks) {
+            SamplingDecision decision = probabilisticSampler.shouldSample(parentContext, traceId, name, spanKind,
+                    attributes, parentLinks).getDecision();
+            if (decision == SamplingDecision.RECORD_AND_SAMPLE) {
+                if (lowerBoundLimiter != null) {
+                    lowerBoundLimiter.checkCredit(1.0);
+                }
+                return probabilisticSampledResult;
+            }
+            if (lowerBoundLimiter != null && lowerBoundLimiter.checkCredit(1.0)) {
+                return lowerBoundSampledResult;
+            }
+            return probabilisticDroppedResult;
+        }
+    }
+}
@@ -9,7 +9,6 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
-import io.opentelemetry.sdk.internal.RateLimiter;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
@@ -26,13 +25,15 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
  * This class is copied from https://github.com/open-telemetry/opentelemetry-java/blob/v1.32.0/sdk-extensions/
  * jaeger-remote-sampler/src/main/java/io/opentelemetry/sdk/extension/trace/jaeger/sampler/RateLimitingSampler.java.
  * This sampler uses a leaky bucket rate limiter to ensure that traces are sampled with a certain constant rate.
+ * The rate limiter is replaced with a {@link StripedRateLimiter}, so that root spans sampled concurrently on many cores
+ * do not contend on a single atomic value.
  */
 public class RateLimitingSampler implements Sampler {
     public static final String TYPE = "ratelimiting";
     private static final AttributeKey<String> SAMPLER_TYPE = stringKey("sampler.type");
     private static final AttributeKey<Double> SAMPLER_PARAM = doubleKey("sampler.param");
 
-    private final RateLimiter rateLimiter;
+    private final StripedRateLimiter rateLimiter;
     private final SamplingResult onSamplingResult;
     private final SamplingResult offSamplingResult;
     private final String description;
@@ -44,7 +45,7 @@ public class RateLimitingSampler implements Sampler {
      */
     public RateLimitingSampler(int maxTracesPerSecond) {
         double maxBalance = maxTracesPerSecond < 1.0 ? 1.0 : maxTracesPerSecond;
-        this.rateLimiter = new RateLimiter(maxTracesPerSecond, maxBalance, Clock.getDefault());
+        this.rateLimiter = new StripedRateLimiter(maxTracesPerSecond, maxBalance, Clock.getDefault());
         Attributes attributes =
                 Attributes.of(SAMPLER_TYPE, TYPE, SAMPLER_PARAM, (double) maxTracesPerSecond);
         this.onSamplingResult = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE, attributes);
@@ -60,7 +61,7 @@ public class RateLimitingSampler implements Sampler {
             SpanKind spanKind,
             Attributes attributes,
             List<LinkData> parentLinks) {
-        return this.rateLimiter.trySpend(1.0) ? onSamplingResult : offSamplingResult;
+        return this.rateLimiter.tryAcquire() ? onSamplingResult : offSamplingResult;
     }
 
     @Override
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.sampler;
+
+import io.opentelemetry.sdk.common.Clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Token bucket rate limiter which spreads the spending of credits over striped cells, so that threads sampling many
+ * root spans at once do not all update the same atomic value.
+ * <p>
+ * Credits are only added by a shared bucket refilled at the configured rate, as in {@link RateLimiter}. A thread
+ * spends credits from the cell of its stripe, and when the cell is empty, leases a batch of credits from the shared
+ * bucket into the cell, so the shared bucket is updated once per batch instead of once per credit. The stripes are
+ * picked by a hash of the thread and their number follows the number of processors, as with
+ * {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Leased credits are only valid for the lease period in which they were leased, which rebalances the credits between
+ * the stripes: the credits left in the cell of an idle stripe are dropped at the end of the period instead of being
+ * spent later on top of the rate. The limiter therefore never allows more than the configured rate, plus the initial
+ * balance. A cell holds less than a batch, the credits over it going back to the shared bucket when threads of the
+ * same stripe lease at once, and a batch is sized so that the dropped credits are at most 1/16 of the credits added in
+ * a period. Under saturation, the allowed rate is then between 15/16 of the configured rate and the configured rate.
+ * At low rates the batches hold a single credit, and the limiter behaves as the shared bucket alone.
+ */
+final class StripedRateLimiter {
+    private static final int MAX_STRIPES = 64;
+    // Each cell takes 128 bytes, so that cells of different stripes are never in the same or adjacent cache lines
+    private static final int CELL_STRIDE = 16;
+    private static final long LEASE_PERIOD_NANOS = 100_000_000L;
+    private static final int LEASES_PER_PERIOD = 16;
+    // A cell holds the lease period of its credits in the high bits and the number of credits in the low bits
+    private static final int CREDIT_BITS = 24;
+    private static final long CREDIT_MASK = (1L << CREDIT_BITS) - 1;
+    private static final long PERIOD_MASK = -1L >>> CREDIT_BITS;
+
+    private final Clock clock;
+    private final long creditCost; // cost of a credit in nano ticks
+    private final long maxBalance; // max balance in nano ticks
+    private final AtomicLong debit; // last lease nano time less remaining balance
+    private final int stripeMask;
+    private final long leaseSize;
+    private final AtomicLongArray cells;
+
+    StripedRateLimiter(double creditsPerSecond, double maxBalance, Clock clock) {
+        this(creditsPerSecond, maxBalance, clock, Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedRateLimiter(double creditsPerSecond, double maxBalance, Clock clock, int parallelism) {
+        this.clock = clock;
+        if (creditsPerSecond > 0) {
+            this.creditCost = Math.max(1, (long) (1.0e9 / creditsPerSecond));
+            this.maxBalance = (long) (maxBalance * creditCost);
+        } else {
+            this.creditCost = Long.MAX_VALUE;
+            this.maxBalance = 0;
+        }
+        this.debit = new AtomicLong(clock.nanoTime() - this.maxBalance);
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, parallelism) * 2 - 1));
+        this.stripeMask = stripes - 1;
+        double creditsPerLease = creditsPerSecond * LEASE_PERIOD_NANOS / 1.0e9 / (stripes * LEASES_PER_PERIOD);
+        this.leaseSize = Math.max(1, Math.min(CREDIT_MASK, (long) creditsPerLease));
+        this.cells = new AtomicLongArray(stripes * CELL_STRIDE);
+    }
+
+    /**
+     * Spends a single credit if one is available.
+     *
+     * @return true if the credit was spent
+     */
+    boolean tryAcquire() {
+        long now = clock.nanoTime();
+        long period = Math.floorDiv(now, LEASE_PERIOD_NANOS) & PERIOD_MASK;
+        int cell = stripeIndex() * CELL_STRIDE;
+        long value;
+        while ((value = cells.get(cell)) >>> CREDIT_BITS == period && (value & CREDIT_MASK) > 0) {
+            if (cells.compareAndSet(cell, value, value - 1)) {
+                return true;
+            }
+        }
+        long leased = lease(now);
+        if (leased == 0) {
+            return false;
+        }
+        if (leased > 1) {
+            addCredits(cell, period, leased - 1);
+        }
+        return true;
+    }
+
+    private long lease(long now) {
+        long currentDebit;
+        long balance;
+        long credits;
+        do {
+            currentDebit = debit.get();
+            balance = Math.min(now - currentDebit, maxBalance);
+            if (balance < creditCost) {
+                return 0;
+            }
+            credits = Math.min(leaseSize, balance / creditCost);
+        } while (!debit.compareAndSet(currentDebit, now - (balance - credits * creditCost)));
+        return credits;
+    }
+
+    private void addCredits(int cell, long period, long credits) {
+        long value;
+        long kept;
+        long total;
+        do {
+            value = cells.get(cell);
+            // Credits of an earlier period are replaced, as they are no longer valid
+            long held = value >>> CREDIT_BITS == period ? value & CREDIT_MASK : 0;
+            total = held + credits;
+            kept = Math.min(total, leaseSize - 1);
+        } while (!cells.compareAndSet(cell, value, kept | (period << CREDIT_BITS)));
+        if (total > kept) {
+            // Threads of the same stripe leased at once, and the credits over a batch go back to the shared bucket
+            debit.addAndGet(-(total - kept) * creditCost);
+        }
+    }
+
+    private int stripeIndex() {
+        long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & stripeMask;
+    }
+}
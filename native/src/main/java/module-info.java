@@ -1,4 +1,6 @@
 module io.ballerina.observe.trace.extension.jaeger {
+    requires java.logging;
+    requires java.net.http;
     requires io.ballerina.runtime;
     requires io.opentelemetry.api;
     requires io.opentelemetry.context;
@@ -9,6 +11,7 @@ module io.ballerina.observe.trace.extension.jaeger {
     requires io.opentelemetry.exporter.otlp.trace;
     requires grpc.api;
     requires grpc.netty.shaded;
+    requires aircompressor;
 
     provides io.ballerina.runtime.observability.tracer.spi.TracerProvider
             with io.ballerina.observe.trace.jaeger.JaegerTracerProvider;
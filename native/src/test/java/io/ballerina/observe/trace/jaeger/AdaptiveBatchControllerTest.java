@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the tuning of the batch size and the flush interval from the observed exports.
+ */
+public class AdaptiveBatchControllerTest {
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long MAX_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final long MAX_FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_FLUSH_INTERVAL_MILLIS);
+    private static final long TARGET_LATENCY_MILLIS = 250;
+    private static final long SPAN_BYTES = 200;
+    private static final long FAST_EXPORT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SLOW_EXPORT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    public void testValuesStayAtUpperBoundsWhenNotAdaptive() {
+        AdaptiveBatchController controller = createController(false);
+        controller.onExport(MAX_BATCH_SIZE, MAX_BATCH_SIZE * SPAN_BYTES, SLOW_EXPORT_NANOS, false, 0);
+        Assert.assertEquals(controller.getBatchSize(), MAX_BATCH_SIZE);
+        Assert.assertEquals(controller.getFlushIntervalNanos(), MAX_FLUSH_INTERVAL_NANOS);
+    }
+
+    @Test
+    public void testSlowExportsHalveBatchSizeDownToMinimum() {
+        AdaptiveBatchController controller = createController(true);
+        export(controller, MAX_BATCH_SIZE, SLOW_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getBatchSize(), MAX_BATCH_SIZE / 2);
+        export(controller, MAX_BATCH_SIZE / 2, SLOW_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getBatchSize(), MAX_BATCH_SIZE / 4);
+
+        for (int i = 0; i < 10; i++) {
+            export(controller, controller.getBatchSize(), SLOW_EXPORT_NANOS, true, 0);
+        }
+        Assert.assertEquals(controller.getBatchSize(), MAX_BATCH_SIZE / 32);
+    }
+
+    @Test
+    public void testFullFastBatchesGrowBatchSize() {
+        AdaptiveBatchController controller = createController(true);
+        export(controller, MAX_BATCH_SIZE, SLOW_EXPORT_NANOS, true, 0);
+        int batchSize = controller.getBatchSize();
+        int step = MAX_BATCH_SIZE / 64;
+
+        export(controller, batchSize, FAST_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getBatchSize(), batchSize + step);
+        // Spans backing up in the queue grow the batch size twice as fast
+        export(controller, batchSize + step, FAST_EXPORT_NANOS, true, MAX_BATCH_SIZE);
+        Assert.assertEquals(controller.getBatchSize(), batchSize + 3 * step);
+        // A partial batch shows that the batch size is large enough
+        export(controller, 10, FAST_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getBatchSize(), batchSize + 3 * step);
+
+        for (int i = 0; i < 100; i++) {
+            export(controller, controller.getBatchSize(), FAST_EXPORT_NANOS, true, 0);
+        }
+        Assert.assertEquals(controller.getBatchSize(), MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void testLargeSpansCapBatchBytes() {
+        AdaptiveBatchController controller = createController(true);
+        long spanBytes = 64 * 1024;
+        controller.onExport(MAX_BATCH_SIZE, MAX_BATCH_SIZE * spanBytes, FAST_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getBatchSize(), (int) (AdaptiveBatchController.MAX_BATCH_BYTES / spanBytes));
+    }
+
+    @Test
+    public void testFlushIntervalFollowsLatency() {
+        AdaptiveBatchController controller = createController(true);
+        export(controller, 10, FAST_EXPORT_NANOS, true, 0);
+        Assert.assertEquals(controller.getFlushIntervalNanos(), 4 * FAST_EXPORT_NANOS);
+
+        // A failed export doubles the flush interval up to its upper bound
+        export(controller, 10, FAST_EXPORT_NANOS, false, 0);
+        Assert.assertEquals(controller.getFlushIntervalNanos(), 8 * FAST_EXPORT_NANOS);
+        for (int i = 0; i < 5; i++) {
+            export(controller, 10, FAST_EXPORT_NANOS, false, 0);
+        }
+        Assert.assertEquals(controller.getFlushIntervalNanos(), MAX_FLUSH_INTERVAL_NANOS);
+
+        // The flush interval does not go under 10 ms however fast the exports are
+        AdaptiveBatchController fastController = createController(true);
+        export(fastController, 10, TimeUnit.MICROSECONDS.toNanos(100), true, 0);
+        Assert.assertEquals(fastController.getFlushIntervalNanos(), TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    private static AdaptiveBatchController createController(boolean adaptive) {
+        return new AdaptiveBatchController(adaptive, MAX_BATCH_SIZE, MAX_FLUSH_INTERVAL_MILLIS, TARGET_LATENCY_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static void export(AdaptiveBatchController controller, int spanCount, long latencyNanos, boolean success,
+                               int queueDepth) {
+        controller.onExport(spanCount, spanCount * SPAN_BYTES, latencyNanos, success, queueDepth);
+    }
+}
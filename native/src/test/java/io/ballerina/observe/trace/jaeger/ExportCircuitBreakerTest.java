@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the state transitions of the export circuit breaker.
+ * <p>
+ * The breaker reads the system clock, so the circuit either stays open for an hour, longer than any test, or for no
+ * time at all, which lets the next export through as a probe right away.
+ */
+public class ExportCircuitBreakerTest {
+    private static final String TARGET = "127.0.0.1:4317";
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long LONG_OPEN_DURATION = 3_600_000;
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        ExportCircuitBreaker breaker = new ExportCircuitBreaker(TARGET, FAILURE_THRESHOLD, LONG_OPEN_DURATION);
+        failExports(breaker, FAILURE_THRESHOLD - 1);
+        // A success resets the count of consecutive failures
+        Assert.assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        failExports(breaker, FAILURE_THRESHOLD - 1);
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.CLOSED);
+
+        failExports(breaker, 1);
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getOpenedCount(), 1);
+    }
+
+    @Test
+    public void testOpenCircuitRejectsExportsAndShedsSpans() {
+        ExportCircuitBreaker breaker = new ExportCircuitBreaker(TARGET, FAILURE_THRESHOLD, LONG_OPEN_DURATION);
+        Assert.assertFalse(breaker.shouldShed());
+        failExports(breaker, FAILURE_THRESHOLD);
+
+        Assert.assertFalse(breaker.isAvailable());
+        Assert.assertFalse(breaker.tryAcquire());
+        Assert.assertFalse(breaker.tryAcquire());
+        Assert.assertEquals(breaker.getRejectedExports(), 2);
+        Assert.assertTrue(breaker.shouldShed());
+
+        // Spans are kept for the spool when shedding is disabled
+        breaker.disableShedding();
+        Assert.assertFalse(breaker.shouldShed());
+    }
+
+    @Test
+    public void testSuccessfulProbeClosesCircuit() {
+        ExportCircuitBreaker breaker = new ExportCircuitBreaker(TARGET, FAILURE_THRESHOLD, 0);
+        failExports(breaker, FAILURE_THRESHOLD);
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.OPEN);
+        // Spans are queued again once the open duration passed, so that the probe has spans to send
+        Assert.assertFalse(breaker.shouldShed());
+
+        Assert.assertTrue(breaker.isAvailable());
+        Assert.assertTrue(breaker.tryAcquire());
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.HALF_OPEN);
+        // A single probe is in flight at a time
+        Assert.assertFalse(breaker.isAvailable());
+        Assert.assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.CLOSED);
+        Assert.assertTrue(breaker.tryAcquire());
+        Assert.assertEquals(breaker.getHalfOpenedCount(), 1);
+        Assert.assertEquals(breaker.getClosedCount(), 1);
+    }
+
+    @Test
+    public void testFailedProbeOpensCircuitAgain() {
+        ExportCircuitBreaker breaker = new ExportCircuitBreaker(TARGET, FAILURE_THRESHOLD, 0);
+        failExports(breaker, FAILURE_THRESHOLD);
+        Assert.assertTrue(breaker.tryAcquire());
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.HALF_OPEN);
+
+        // A single failed probe opens the circuit, whatever the failure threshold
+        breaker.onFailure();
+        Assert.assertEquals(breaker.getState(), ExportCircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getOpenedCount(), 2);
+        Assert.assertEquals(breaker.getClosedCount(), 0);
+    }
+
+    private static void failExports(ExportCircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            Assert.assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+/**
+ * Tests that the direct marshaling of the {@link OtlpSpanEncoder} writes the same bytes as the marshalers of the
+ * OpenTelemetry exporter.
+ */
+public class OtlpSpanEncoderTest {
+
+    @DataProvider
+    public Object[][] strings() {
+        return new Object[][]{
+                {"get /sum"},
+                {""},
+                {"café"},
+                {"中文"},
+                {"emoji 😀"},
+                {"lone high \ud83d"},
+                {"lone low \ude00 in the middle"},
+                {"\ude00\ud83d"},
+                {"ends with a high surrogate \ud83d"}
+        };
+    }
+
+    @Test(dataProvider = "strings")
+    public void testUtf8LengthMatchesStringEncoding(String value) {
+        Assert.assertEquals(ProtoWriter.utf8Length(value), value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test(dataProvider = "strings")
+    public void testWriteUtf8MatchesStringEncoding(String value) {
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        ProtoWriter.writeUtf8(buffer, value);
+        Assert.assertEquals(buffer.position(), expected.length);
+        Assert.assertEquals(buffer.array(), expected);
+    }
+
+    @Test(dataProvider = "strings")
+    public void testRequestMatchesExporterMarshaler(String value) throws Exception {
+        List<SpanData> spans = createSpans(value);
+        assertSameRequest(spans);
+    }
+
+    @Test
+    public void testRequestWithSeveralResourcesMatchesExporterMarshaler() throws Exception {
+        List<SpanData> spans = new ArrayList<>(createSpans("first"));
+        spans.addAll(createSpans("second 😀"));
+        assertSameRequest(spans);
+    }
+
+    private static void assertSameRequest(List<SpanData> spans) throws Exception {
+        TraceRequestMarshaler marshaler = TraceRequestMarshaler.create(spans);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        marshaler.writeBinaryTo(expected);
+
+        OtlpSpanEncoder encoder = new OtlpSpanEncoder();
+        int size = encoder.prepare(spans);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        encoder.writeTo(buffer);
+
+        Assert.assertEquals(size, marshaler.getBinarySerializedSize());
+        Assert.assertEquals(buffer.position(), size);
+        Assert.assertEquals(buffer.array(), expected.toByteArray());
+    }
+
+    /**
+     * Creates a root span and a child span which carry the string in every string field the encoder writes.
+     */
+    private static List<SpanData> createSpans(String value) {
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.create(Attributes.of(stringKey("service.name"), value)))
+                .build();
+        Tracer tracer = tracerProvider.get("jaeger-test " + value, "1.0 " + value);
+        Span parent = tracer.spanBuilder(value)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute("http.url", "/test/" + value)
+                .setAttribute(value, 200L)
+                .setAttribute("sampled", true)
+                .setAttribute("ratio", 0.5)
+                .startSpan();
+        Span child = tracer.spanBuilder("child " + value)
+                .setParent(Context.root().with(parent))
+                .setSpanKind(SpanKind.CLIENT)
+                .addLink(parent.getSpanContext(), Attributes.of(stringKey("link"), value))
+                .startSpan();
+        child.addEvent(value, Attributes.of(stringKey("event"), value));
+        child.setStatus(StatusCode.ERROR, value);
+        child.end();
+        parent.end();
+        List<SpanData> spans = List.of(((ReadableSpan) parent).toSpanData(), ((ReadableSpan) child).toSpanData());
+        tracerProvider.close();
+        return spans;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the lock-free ring buffer queuing the ended spans.
+ */
+public class SpanRingBufferTest {
+    private static final int PRODUCER_COUNT = 8;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        Assert.assertEquals(new SpanRingBuffer<>(1).capacity(), 1);
+        Assert.assertEquals(new SpanRingBuffer<>(2).capacity(), 2);
+        Assert.assertEquals(new SpanRingBuffer<>(3).capacity(), 4);
+        Assert.assertEquals(new SpanRingBuffer<>(1000).capacity(), 1024);
+        Assert.assertEquals(new SpanRingBuffer<>(1024).capacity(), 1024);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testZeroCapacityIsRejected() {
+        new SpanRingBuffer<>(0);
+    }
+
+    @Test
+    public void testOfferFailsWhenFull() {
+        SpanRingBuffer<Integer> buffer = new SpanRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(buffer.size(), 4);
+
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(0));
+        Assert.assertTrue(buffer.offer(4));
+        Assert.assertFalse(buffer.offer(5));
+    }
+
+    @Test
+    public void testElementsWrapAroundInOrder() {
+        SpanRingBuffer<Integer> buffer = new SpanRingBuffer<>(4);
+        Assert.assertNull(buffer.poll());
+        // Each round moves the cursors by 3, so the slots are reused at every offset
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(buffer.offer(next + i));
+            }
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals(buffer.poll(), Integer.valueOf(next + i));
+            }
+            Assert.assertTrue(buffer.isEmpty());
+            Assert.assertNull(buffer.poll());
+            next += 3;
+        }
+    }
+
+    @Test
+    public void testConcurrentProducersWithSingleConsumer() throws Exception {
+        SpanRingBuffer<long[]> buffer = new SpanRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCER_COUNT);
+        try {
+            List<Future<?>> producers = new ArrayList<>(PRODUCER_COUNT);
+            for (int i = 0; i < PRODUCER_COUNT; i++) {
+                long producer = i;
+                producers.add(executor.submit(() -> {
+                    for (long sequence = 0; sequence < ELEMENTS_PER_PRODUCER; sequence++) {
+                        long[] element = {producer, sequence};
+                        while (!buffer.offer(element)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+
+            // Every element is received once, and the elements of a producer in the order it offered them
+            long[] nextSequences = new long[PRODUCER_COUNT];
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            for (int received = 0; received < PRODUCER_COUNT * ELEMENTS_PER_PRODUCER; ) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Assert.assertTrue(System.nanoTime() < deadline, "Received " + received + " elements");
+                    Thread.onSpinWait();
+                    continue;
+                }
+                int producer = (int) element[0];
+                Assert.assertEquals(element[1], nextSequences[producer], "Element of producer " + producer);
+                nextSequences[producer]++;
+                received++;
+            }
+            for (Future<?> future : producers) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            Assert.assertNull(buffer.poll());
+            Assert.assertTrue(buffer.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
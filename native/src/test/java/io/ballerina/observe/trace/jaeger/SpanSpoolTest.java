@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the recovery of the span spool from the segment files left by an earlier process.
+ * <p>
+ * The segment files are damaged between closing and reopening the spool, as a machine crash would leave them, and
+ * the requests are identified by their payload.
+ */
+public class SpanSpoolTest {
+    private static final long MAX_BYTES = 4 * 1024 * 1024;
+    private static final String FIRST_SEGMENT_FILE_NAME = "segment-0000000000000000.spool";
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("jaeger-spool-test");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void testReplayAfterReopen() throws IOException {
+        SpanSpool spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertTrue(spool.append(payload("first")));
+        Assert.assertTrue(spool.append(payload("second")));
+        Assert.assertTrue(spool.append(payload("third")));
+        spool.consume(spool.peek());
+        spool.close();
+
+        // The replayed request is skipped, and requests appended after the restart are replayed after the others
+        spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertEquals(spool.getPendingRecords(), 2);
+        Assert.assertTrue(spool.append(payload("fourth")));
+        Assert.assertEquals(replay(spool), List.of("second", "third", "fourth"));
+        Assert.assertEquals(spool.getPendingRecords(), 0);
+        spool.close();
+
+        spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertNull(spool.peek());
+        spool.close();
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        SpanSpool spool = SpanSpool.open(directory, MAX_BYTES);
+        spool.append(payload("first"));
+        spool.append(payload("second"));
+        spool.close();
+
+        // The file ends in the middle of the payload of the second record
+        Path segmentFile = directory.resolve(FIRST_SEGMENT_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+            channel.truncate(recordPosition(1, "first") + SpoolSegment.RECORD_HEADER_SIZE + 2);
+        }
+
+        spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertEquals(spool.getPendingRecords(), 1);
+        Assert.assertEquals(replay(spool), List.of("first"));
+        spool.close();
+    }
+
+    @Test
+    public void testChecksumMismatchEndsTheRecords() throws IOException {
+        SpanSpool spool = SpanSpool.open(directory, MAX_BYTES);
+        spool.append(payload("first"));
+        spool.append(payload("second"));
+        spool.append(payload("third"));
+        spool.close();
+
+        // A payload byte of the second record never reached the disk, so neither it nor the records after it can be
+        // trusted
+        Path segmentFile = directory.resolve(FIRST_SEGMENT_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0}),
+                    recordPosition(1, "first") + SpoolSegment.RECORD_HEADER_SIZE);
+        }
+
+        spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertEquals(spool.getPendingRecords(), 1);
+        Assert.assertEquals(replay(spool), List.of("first"));
+        spool.close();
+    }
+
+    @Test
+    public void testUnreadableSegmentIsDiscarded() throws IOException {
+        SpanSpool spool = SpanSpool.open(directory, MAX_BYTES);
+        spool.append(payload("first"));
+        spool.close();
+
+        Path segmentFile = directory.resolve(FIRST_SEGMENT_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0}), 0);
+        }
+
+        spool = SpanSpool.open(directory, MAX_BYTES);
+        Assert.assertNull(spool.peek());
+        Assert.assertFalse(Files.exists(segmentFile));
+        // The sequence of the discarded segment is not reused
+        Assert.assertTrue(spool.append(payload("second")));
+        Assert.assertTrue(Files.exists(directory.resolve("segment-0000000000000001.spool")));
+        spool.close();
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testDirectoryIsLocked() throws IOException {
+        SpanSpool spool = SpanSpool.open(directory, MAX_BYTES);
+        try {
+            SpanSpool.open(directory, MAX_BYTES);
+        } finally {
+            spool.close();
+        }
+    }
+
+    private static ByteBuffer payload(String request) {
+        return ByteBuffer.wrap(request.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the position in the first segment of the record following the given number of records, all with the
+     * same payload.
+     */
+    private static long recordPosition(int previousRecords, String previousPayload) {
+        return SpoolSegment.HEADER_SIZE + (long) previousRecords
+                * (SpoolSegment.RECORD_HEADER_SIZE + previousPayload.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static List<String> replay(SpanSpool spool) {
+        List<String> requests = new ArrayList<>();
+        for (SpanSpool.Record record = spool.peek(); record != null; record = spool.peek()) {
+            requests.add(StandardCharsets.UTF_8.decode(record.getPayload()).toString());
+            spool.consume(record);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+/**
+ * Tests for the cache of the tracer providers of the services.
+ */
+public class TracerCacheTest {
+    private static final String INSTRUMENTATION_NAME = "jaeger-test";
+
+    @Test
+    public void testCachedServicesGetTheirOwnTracer() {
+        List<String> builtServices = new ArrayList<>();
+        TracerCache cache = new TracerCache(serviceName -> buildProvider(serviceName, builtServices),
+                INSTRUMENTATION_NAME, 2);
+
+        Tracer first = cache.getTracer("first");
+        Tracer second = cache.getTracer("second");
+        Assert.assertSame(cache.getTracer("first"), first);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(builtServices, List.of("first", "second"));
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.size(), 2);
+        cache.close();
+    }
+
+    @Test
+    public void testOverflowServicesShareOneProvider() {
+        List<String> builtServices = new ArrayList<>();
+        TracerCache cache = new TracerCache(serviceName -> buildProvider(serviceName, builtServices),
+                INSTRUMENTATION_NAME, 2);
+        Tracer first = cache.getTracer("first");
+        cache.getTracer("second");
+
+        Tracer overflow = cache.getTracer("third");
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(cache.getTracer("service" + i), overflow);
+        }
+        Assert.assertSame(cache.getTracer("first"), first);
+        Assert.assertEquals(builtServices, List.of("first", "second", TracerCache.OVERFLOW_SERVICE_NAME));
+        Assert.assertEquals(cache.getUncachedCount(), 101);
+        Assert.assertEquals(cache.size(), 2);
+        cache.close();
+    }
+
+    @Test
+    public void testCloseShutsDownTheOverflowProvider() {
+        TracerCache cache = new TracerCache(serviceName -> buildProvider(serviceName, new ArrayList<>()),
+                INSTRUMENTATION_NAME, 1);
+        Tracer cached = cache.getTracer("first");
+        Tracer overflow = cache.getTracer("second");
+        Assert.assertTrue(isRecording(cached));
+        Assert.assertTrue(isRecording(overflow));
+
+        cache.close();
+        Assert.assertFalse(isRecording(cached));
+        Assert.assertFalse(isRecording(overflow));
+    }
+
+    private static SdkTracerProvider buildProvider(String serviceName, List<String> builtServices) {
+        builtServices.add(serviceName);
+        return SdkTracerProvider.builder()
+                .setResource(Resource.create(Attributes.of(stringKey("service.name"), serviceName)))
+                .build();
+    }
+
+    private static boolean isRecording(Tracer tracer) {
+        Span span = tracer.spanBuilder("get /sum").startSpan();
+        try {
+            return span.isRecording();
+        } finally {
+            span.end();
+        }
+    }
+}
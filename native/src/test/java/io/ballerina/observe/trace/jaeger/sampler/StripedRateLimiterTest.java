@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.sampler;
+
+import io.opentelemetry.sdk.common.Clock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tests for the striped rate limiter, with a fake clock which only moves between the steps of the test.
+ * <p>
+ * The threads spend credits concurrently within a step, and the clock is moved forward once they have all finished
+ * it, so the credits added to the limiter are known exactly whatever the interleaving of the threads.
+ */
+public class StripedRateLimiterTest {
+    private static final int THREAD_COUNT = 16;
+    // Fewer stripes than threads, so that some threads share a stripe
+    private static final int PARALLELISM = 4;
+    private static final long STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int STEP_COUNT = 2000;
+    // Starts the clock at the beginning of a lease period
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(1000);
+
+    @Test
+    public void testInitialBalanceIsSpentOnce() throws Exception {
+        FakeClock clock = new FakeClock(START_NANOS);
+        StripedRateLimiter limiter = new StripedRateLimiter(100_000, 100_000, clock, PARALLELISM);
+        Assert.assertEquals(drain(limiter), 100_000);
+        Assert.assertEquals(drain(limiter), 0);
+    }
+
+    @Test
+    public void testAggregateRateUnderSaturation() throws Exception {
+        int creditsPerSecond = 100_000;
+        FakeClock clock = new FakeClock(START_NANOS);
+        StripedRateLimiter limiter = new StripedRateLimiter(creditsPerSecond, creditsPerSecond, clock, PARALLELISM);
+        drain(limiter);
+
+        // The threads ask for a little more credits than are added in a step, so the stripes keep leased credits
+        // from one step to the next, which are dropped at the end of their lease period. The credits left once the
+        // clock stops are still valid, and are spent at the end.
+        long acquired = run(limiter, clock, 7) + drain(limiter);
+        long added = (long) creditsPerSecond * STEP_COUNT * STEP_NANOS / TimeUnit.SECONDS.toNanos(1);
+        Assert.assertTrue(acquired <= added, "Allowed " + acquired + " credits over a rate of " + added);
+        Assert.assertTrue(acquired >= added * 15 / 16, "Allowed " + acquired + " credits under 15/16 of " + added);
+    }
+
+    @Test
+    public void testLowRateIsExact() throws Exception {
+        int creditsPerSecond = 100;
+        FakeClock clock = new FakeClock(START_NANOS);
+        StripedRateLimiter limiter = new StripedRateLimiter(creditsPerSecond, creditsPerSecond, clock, PARALLELISM);
+        drain(limiter);
+
+        // A credit is leased at a time, so no credit is left in a stripe to be dropped
+        long acquired = run(limiter, clock, 4);
+        Assert.assertEquals(acquired, (long) creditsPerSecond * STEP_COUNT * STEP_NANOS / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void testZeroRateAllowsNothing() throws Exception {
+        FakeClock clock = new FakeClock(START_NANOS);
+        StripedRateLimiter limiter = new StripedRateLimiter(0, 0, clock, PARALLELISM);
+        Assert.assertEquals(run(limiter, clock, 4), 0);
+    }
+
+    /**
+     * Spends credits from all the threads until none is left, without moving the clock.
+     */
+    private static long drain(StripedRateLimiter limiter) throws Exception {
+        LongAdder acquired = new LongAdder();
+        runThreads(() -> {
+            while (limiter.tryAcquire()) {
+                acquired.increment();
+            }
+        });
+        return acquired.sum();
+    }
+
+    /**
+     * Moves the clock forward step by step, and tries to spend a number of credits from each thread in each step.
+     */
+    private static long run(StripedRateLimiter limiter, FakeClock clock, int attemptsPerStep) throws Exception {
+        LongAdder acquired = new LongAdder();
+        CyclicBarrier step = new CyclicBarrier(THREAD_COUNT, () -> clock.advance(STEP_NANOS));
+        runThreads(() -> {
+            for (int i = 0; i < STEP_COUNT; i++) {
+                awaitStep(step);
+                for (int j = 0; j < attemptsPerStep; j++) {
+                    if (limiter.tryAcquire()) {
+                        acquired.increment();
+                    }
+                }
+            }
+        });
+        return acquired.sum();
+    }
+
+    private static void runThreads(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREAD_COUNT);
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitStep(CyclicBarrier step) {
+        try {
+            step.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("threads did not reach the step together", e);
+        }
+    }
+
+    /**
+     * Clock which only moves when the test moves it.
+     */
+    private static final class FakeClock implements Clock {
+        private final AtomicLong nanoTime;
+
+        FakeClock(long nanoTime) {
+            this.nanoTime = new AtomicLong(nanoTime);
+        }
+
+        void advance(long nanos) {
+            nanoTime.addAndGet(nanos);
+        }
+
+        @Override
+        public long now() {
+            return nanoTime.get();
+        }
+
+        @Override
+        public long nanoTime() {
+            return nanoTime.get();
+        }
+    }
+}
@@ -20,13 +20,24 @@ package io.ballerina.observe.trace.jaeger;
 import io.ballerina.observe.trace.jaeger.backend.ContainerizedJaegerServer;
 import io.ballerina.observe.trace.jaeger.backend.JaegerServer;
 import io.ballerina.observe.trace.jaeger.backend.ProcessJaegerServer;
+import org.ballerinalang.test.context.BServerInstance;
 import org.ballerinalang.test.context.BalServer;
+import org.ballerinalang.test.context.LogLeecher;
+import org.ballerinalang.test.context.Utils;
+import org.ballerinalang.test.util.HttpClientRequest;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.io.File;
+import java.net.InetAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -37,9 +48,19 @@ import java.util.logging.Logger;
  */
 public class BaseTestCase {
     private static final Logger LOGGER = Logger.getLogger(BaseTestCase.class.getName());
+    static final File RESOURCES_DIR = Paths.get("src", "test", "resources", "bal").toFile();
+    static final String TEST_SERVICE_FILE = "01_http_svc_test.bal";
+    static final String TEST_RESOURCE_URL = "http://localhost:9091/test/sum";
+    static final int[] TEST_SERVICE_PORTS = {9091};
+    static final String JAEGER_EXTENSION_LOG_PREFIX = "ballerina: started publishing traces to Jaeger on ";
+
     static BalServer balServer;
     static JaegerServer jaegerServer;
 
+    BServerInstance serverInstance;
+    private LogLeecher errorLogLeecher;
+    private LogLeecher exceptionLogLeecher;
+
     @BeforeSuite(alwaysRun = true)
     public void initialize() throws Exception {
         balServer = new BalServer();
@@ -50,6 +71,74 @@ public class BaseTestCase {
         }
     }
 
+    @BeforeMethod(alwaysRun = true)
+    public void createServerInstance() throws Exception {
+        serverInstance = new BServerInstance(balServer);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void shutdownServerInstance() throws Exception {
+        serverInstance.shutdownServer();
+    }
+
+    /**
+     * Start the test service with a configuration and wait for the Jaeger extension to start.
+     *
+     * The errors and exceptions logged by the service are recorded, to be checked with {@link #assertNoErrorLogs()}.
+     *
+     * @param configFilename The name of the configuration file in the test resources
+     * @param expectedLog    The log line of the Jaeger extension to wait for
+     * @throws Exception if the service does not start or the expected log line is not printed
+     */
+    void startService(String configFilename, String expectedLog) throws Exception {
+        startService(Paths.get(RESOURCES_DIR.getAbsolutePath(), configFilename), expectedLog);
+    }
+
+    /**
+     * Start the test service with a configuration file outside the test resources, such as a generated one.
+     *
+     * @param configFile  The path of the configuration file
+     * @param expectedLog The log line of the Jaeger extension to wait for
+     * @throws Exception if the service does not start or the expected log line is not printed
+     */
+    void startService(Path configFile, String expectedLog) throws Exception {
+        LogLeecher jaegerExtLogLeecher = new LogLeecher(expectedLog);
+        serverInstance.addLogLeecher(jaegerExtLogLeecher);
+        errorLogLeecher = new LogLeecher("error");
+        serverInstance.addErrorLogLeecher(errorLogLeecher);
+        exceptionLogLeecher = new LogLeecher("Exception");
+        serverInstance.addErrorLogLeecher(exceptionLogLeecher);
+
+        Map<String, String> env = new HashMap<>();
+        env.put("BAL_CONFIG_FILES", configFile.toAbsolutePath().toString());
+
+        String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), TEST_SERVICE_FILE).toFile().getAbsolutePath();
+        serverInstance.startServer(balFile, new String[]{"--observability-included"}, null, env,
+                TEST_SERVICE_PORTS);
+        Utils.waitForPortsToOpen(TEST_SERVICE_PORTS, 1000 * 60, false, InetAddress.getByName("localhost"));
+        jaegerExtLogLeecher.waitForText(10000);
+    }
+
+    /**
+     * Send requests to the test service, each of which records a trace of three spans.
+     *
+     * @param requestCount The number of requests to send
+     * @throws Exception if a request fails
+     */
+    void sendRequests(int requestCount) throws Exception {
+        for (int i = 0; i < requestCount; i++) {
+            Assert.assertEquals(HttpClientRequest.doGet(TEST_RESOURCE_URL).getData(), "Sum: 53");
+        }
+    }
+
+    /**
+     * Assert that the service started by {@link #startService(String, String)} logged no errors or exceptions.
+     */
+    void assertNoErrorLogs() {
+        Assert.assertFalse(errorLogLeecher.isTextFound(), "Unexpected error log found");
+        Assert.assertFalse(exceptionLogLeecher.isTextFound(), "Unexpected exception log found");
+    }
+
     @AfterSuite(alwaysRun = true)
     public void destroy() throws Exception {
         Path ballerinaInternalLog = Paths.get(balServer.getServerHome(), "ballerina-internal.log");
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Integration test for exporting spans to the native gRPC API of a Jaeger collector.
+ */
+public class JaegerGrpcCollectorTestCase extends BaseTestCase {
+    private GrpcJaegerCollector jaegerCollector;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16833;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String SAMPLE_SERVER_NAME = "/test";
+    private static final int SPANS_PER_TRACE = 3;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        jaegerCollector = new GrpcJaegerCollector();
+        jaegerCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        jaegerCollector.stop();
+    }
+
+    @Test
+    public void testJaegerGrpcExport() throws Exception {
+        startService("ConfigJaegerGrpc.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        List<GrpcJaegerCollector.Span> spans = jaegerCollector.awaitSpans(SPANS_PER_TRACE, 5000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+
+        GrpcJaegerCollector.Span span1 = jaegerCollector.findSpan("get /sum");
+        Assert.assertNotNull(span1, "Span get /sum not found");
+        Assert.assertEquals(span1.getServiceName(), SAMPLE_SERVER_NAME);
+        Assert.assertNull(span1.getParentSpanId());
+        Assert.assertEquals(span1.getTags().get("span.kind"), "server");
+        Assert.assertEquals(span1.getTags().get("http.method"), "GET");
+        Assert.assertEquals(span1.getTags().get("src.position"), "01_http_svc_test.bal:22:5");
+
+        for (String operationName : new String[]{"$anon/./ObservableAdder:getSum", "ballerina/http/Caller:respond"}) {
+            GrpcJaegerCollector.Span span = jaegerCollector.findSpan(operationName);
+            Assert.assertNotNull(span, "Span " + operationName + " not found");
+            Assert.assertEquals(span.getServiceName(), SAMPLE_SERVER_NAME);
+            Assert.assertEquals(span.getTraceId(), span1.getTraceId());
+            Assert.assertEquals(span.getParentSpanId(), span1.getSpanId());
+            Assert.assertEquals(span.getTags().get("span.kind"), "client");
+        }
+
+        assertNoErrorLogs();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Integration test for balancing the spans over several Jaeger collectors.
+ */
+public class JaegerLoadBalancingTestCase extends BaseTestCase {
+    private final GrpcJaegerCollector[] jaegerCollectors = new GrpcJaegerCollector[COLLECTOR_PORTS.length];
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int[] COLLECTOR_PORTS = {16834, 16835, 16836};
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":16834, "
+            + COLLECTOR_HOST + ":16835, " + COLLECTOR_HOST + ":16836";
+    private static final int REQUEST_COUNT = 30;
+    private static final int SPANS_PER_REQUEST = 3;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        for (int i = 0; i < COLLECTOR_PORTS.length; i++) {
+            jaegerCollectors[i] = new GrpcJaegerCollector();
+            jaegerCollectors[i].start(COLLECTOR_HOST, COLLECTOR_PORTS[i]);
+        }
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        for (GrpcJaegerCollector jaegerCollector : jaegerCollectors) {
+            jaegerCollector.stop();
+        }
+    }
+
+    @Test
+    public void testTracesKeptOnOneCollector() throws Exception {
+        startService("ConfigLoadBalancing.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(REQUEST_COUNT);
+        awaitSpans();
+
+        Map<String, Integer> collectorByTrace = new HashMap<>();
+        int spanCount = 0;
+        for (int i = 0; i < jaegerCollectors.length; i++) {
+            List<GrpcJaegerCollector.Span> spans = jaegerCollectors[i].getSpans();
+            Assert.assertFalse(spans.isEmpty(), "No spans received by the collector on port " + COLLECTOR_PORTS[i]);
+            for (GrpcJaegerCollector.Span span : spans) {
+                Integer collector = collectorByTrace.putIfAbsent(span.getTraceId(), i);
+                Assert.assertTrue(collector == null || collector == i,
+                        "Spans of trace " + span.getTraceId() + " received by more than one collector");
+            }
+            spanCount += spans.size();
+        }
+        Assert.assertEquals(collectorByTrace.size(), REQUEST_COUNT);
+        Assert.assertEquals(spanCount, REQUEST_COUNT * SPANS_PER_REQUEST);
+    }
+
+    @Test
+    public void testFailoverToHealthyCollectors() throws Exception {
+        jaegerCollectors[1].stop();
+        startService("ConfigLoadBalancing.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(REQUEST_COUNT);
+        awaitSpans();
+
+        Set<String> traceIds = new HashSet<>();
+        int spanCount = 0;
+        for (GrpcJaegerCollector jaegerCollector : jaegerCollectors) {
+            for (GrpcJaegerCollector.Span span : jaegerCollector.getSpans()) {
+                traceIds.add(span.getTraceId());
+                spanCount++;
+            }
+        }
+        Assert.assertEquals(traceIds.size(), REQUEST_COUNT);
+        Assert.assertEquals(spanCount, REQUEST_COUNT * SPANS_PER_REQUEST);
+    }
+
+    /**
+     * Wait until the spans of all the requests are received by the collectors together.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void awaitSpans() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            int spanCount = 0;
+            for (GrpcJaegerCollector jaegerCollector : jaegerCollectors) {
+                spanCount += jaegerCollector.getSpans().size();
+            }
+            if (spanCount >= REQUEST_COUNT * SPANS_PER_REQUEST) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.HttpOtlpCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Integration test for exporting spans to an OTLP/HTTP collector.
+ */
+public class JaegerOtlpHttpTestCase extends BaseTestCase {
+    private HttpOtlpCollector otlpCollector;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16840;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + "http://" + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String SAMPLE_SERVER_NAME = "/test";
+    private static final int SPANS_PER_TRACE = 3;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        otlpCollector = new HttpOtlpCollector();
+        otlpCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        otlpCollector.stop();
+    }
+
+    @Test
+    public void testGzipExport() throws Exception {
+        startService("ConfigOtlpHttp.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(SPANS_PER_TRACE, 5000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+        assertTrace();
+
+        List<HttpOtlpCollector.Request> requests = otlpCollector.getRequests();
+        Assert.assertFalse(requests.isEmpty());
+        for (HttpOtlpCollector.Request request : requests) {
+            Assert.assertEquals(request.getContentEncoding(), "gzip");
+            Assert.assertEquals(request.getStatus(), 200);
+        }
+
+        assertNoErrorLogs();
+    }
+
+    @Test
+    public void testRetryOnUnavailableCollector() throws Exception {
+        otlpCollector.rejectRequests(2, 503);
+        startService("ConfigOtlpHttpRetry.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(SPANS_PER_TRACE, 10000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+        assertTrace();
+
+        // The rejected requests are posted again until they are accepted, without duplicating spans
+        List<HttpOtlpCollector.Request> requests = otlpCollector.getRequests();
+        Assert.assertEquals(countRequests(requests, 503), 2);
+        Assert.assertTrue(countRequests(requests, 200) >= 1, "Expected the rejected request to be accepted");
+        for (HttpOtlpCollector.Request request : requests) {
+            Assert.assertEquals(request.getContentEncoding(), "zstd");
+        }
+
+        assertNoErrorLogs();
+    }
+
+    @Test
+    public void testThrottledExportIsRetried() throws Exception {
+        otlpCollector.rejectRequests(1, 429);
+        startService("ConfigOtlpHttpRetry.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(SPANS_PER_TRACE, 10000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+        assertTrace();
+
+        List<HttpOtlpCollector.Request> requests = otlpCollector.getRequests();
+        Assert.assertEquals(countRequests(requests, 429), 1);
+        Assert.assertTrue(countRequests(requests, 200) >= 1, "Expected the throttled request to be accepted");
+
+        assertNoErrorLogs();
+    }
+
+    @Test
+    public void testEncodedRequestExport() throws Exception {
+        // The offheap span processor sends the requests it encodes itself
+        startService("ConfigOtlpHttpOffHeap.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(SPANS_PER_TRACE, 5000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+        assertTrace();
+        Assert.assertNull(otlpCollector.getRequests().get(0).getContentEncoding());
+
+        assertNoErrorLogs();
+    }
+
+    private static long countRequests(List<HttpOtlpCollector.Request> requests, int status) {
+        return requests.stream().filter(request -> request.getStatus() == status).count();
+    }
+
+    private void assertTrace() {
+        HttpOtlpCollector.Span span1 = otlpCollector.findSpan("get /sum");
+        Assert.assertNotNull(span1, "Span get /sum not found");
+        Assert.assertEquals(span1.getServiceName(), SAMPLE_SERVER_NAME);
+        Assert.assertNull(span1.getParentSpanId());
+        Assert.assertEquals(span1.getKind(), HttpOtlpCollector.Span.KIND_SERVER);
+        Assert.assertEquals(span1.getAttributes().get("http.method"), "GET");
+        Assert.assertEquals(span1.getAttributes().get("src.position"), "01_http_svc_test.bal:22:5");
+
+        for (String operationName : new String[]{"$anon/./ObservableAdder:getSum", "ballerina/http/Caller:respond"}) {
+            HttpOtlpCollector.Span span = otlpCollector.findSpan(operationName);
+            Assert.assertNotNull(span, "Span " + operationName + " not found");
+            Assert.assertEquals(span.getServiceName(), SAMPLE_SERVER_NAME);
+            Assert.assertEquals(span.getTraceId(), span1.getTraceId());
+            Assert.assertEquals(span.getParentSpanId(), span1.getSpanId());
+            Assert.assertEquals(span.getKind(), HttpOtlpCollector.Span.KIND_CLIENT);
+        }
+    }
+}
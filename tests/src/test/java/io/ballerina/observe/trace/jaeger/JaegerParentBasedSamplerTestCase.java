@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Integration test for sampling spans with a parent by the sampling decision of the parent.
+ */
+public class JaegerParentBasedSamplerTestCase extends BaseTestCase {
+    private GrpcJaegerCollector jaegerCollector;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16838;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String ROOT_OPERATION_NAME = "get /sum";
+    private static final int SPANS_PER_TRACE = 3;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        jaegerCollector = new GrpcJaegerCollector();
+        jaegerCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        jaegerCollector.stop();
+    }
+
+    @DataProvider(name = "parent-based-sampler-data")
+    public Object[][] getParentBasedSamplerData() {
+        // The rate limiting sampler allows a single trace per second, which is a single credit. Without parent based
+        // sampling, the child spans spend credits of their own, so some of them may be sampled if credits are added
+        // while the trace is recorded.
+        return new Object[][]{
+                {"ConfigSamplerParentBased.toml", SPANS_PER_TRACE, SPANS_PER_TRACE},
+                {"ConfigSamplerNotParentBased.toml", 1, SPANS_PER_TRACE}
+        };
+    }
+
+    @Test(dataProvider = "parent-based-sampler-data")
+    public void testParentBasedSampling(String configFilename, int minSpanCount, int maxSpanCount)
+            throws Exception {
+        startService(configFilename, JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+
+        // The root span spends the only credit. Its child spans are only sampled when they follow their parent.
+        List<GrpcJaegerCollector.Span> spans = jaegerCollector.awaitSpans(SPANS_PER_TRACE, 5000);
+        Assert.assertTrue(spans.size() >= minSpanCount && spans.size() <= maxSpanCount,
+                "Sampled " + spans.size() + " spans instead of " + minSpanCount + " to " + maxSpanCount);
+        Set<String> traceIds = new HashSet<>();
+        boolean rootSpanFound = false;
+        for (GrpcJaegerCollector.Span span : spans) {
+            traceIds.add(span.getTraceId());
+            rootSpanFound |= ROOT_OPERATION_NAME.equals(span.getOperationName());
+        }
+        Assert.assertEquals(traceIds.size(), 1);
+        Assert.assertTrue(rootSpanFound, "Span " + ROOT_OPERATION_NAME + " not sampled");
+
+        assertNoErrorLogs();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Integration test for sampling the traces of each operation with a guaranteed lower bound.
+ */
+public class JaegerPerOperationSamplerTestCase extends BaseTestCase {
+    private GrpcJaegerCollector jaegerCollector;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16837;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String ROOT_OPERATION_NAME = "get /sum";
+    private static final int SPANS_PER_TRACE = 3;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        jaegerCollector = new GrpcJaegerCollector();
+        jaegerCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        jaegerCollector.stop();
+    }
+
+    @Test
+    public void testLowerBoundSampling() throws Exception {
+        startService("ConfigSamplerPerOperation.toml", JAEGER_EXTENSION_LOG);
+
+        // The sampling probability is 0, so only the lower bound of one trace every 100 seconds samples the operation
+        sendRequests(5);
+        // Only the spans of the sampled trace are expected, but spans of further traces are waited for as well
+        jaegerCollector.awaitSpans(SPANS_PER_TRACE + 1, 2000);
+
+        List<GrpcJaegerCollector.Span> rootSpans = jaegerCollector.getSpans(ROOT_OPERATION_NAME);
+        Assert.assertEquals(rootSpans.size(), 1);
+        Assert.assertEquals(rootSpans.get(0).getTags().get("sampler.type"), "lowerbound");
+
+        assertNoErrorLogs();
+    }
+}
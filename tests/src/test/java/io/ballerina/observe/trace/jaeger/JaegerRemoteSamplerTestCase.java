@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import io.ballerina.observe.trace.jaeger.backend.GrpcSamplingManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Integration test for sampling traces with the strategies served by a Jaeger collector.
+ */
+public class JaegerRemoteSamplerTestCase extends BaseTestCase {
+    private GrpcJaegerCollector jaegerCollector;
+    private GrpcSamplingManager samplingManager;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16835;
+    private static final int SAMPLING_MANAGER_PORT = 16836;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String SAMPLE_SERVER_NAME = "/test";
+    private static final String ROOT_OPERATION_NAME = "get /sum";
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        jaegerCollector = new GrpcJaegerCollector();
+        jaegerCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+        samplingManager = new GrpcSamplingManager();
+        samplingManager.start(COLLECTOR_HOST, SAMPLING_MANAGER_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        jaegerCollector.stop();
+        samplingManager.stop();
+    }
+
+    @Test
+    public void testRemoteSamplingStrategies() throws Exception {
+        // Only the root operation is sampled, while the initial sampler of the configuration samples nothing
+        samplingManager.setPerOperationStrategy(0.0, Map.of(ROOT_OPERATION_NAME, 1.0));
+
+        startService("ConfigSamplerRemote.toml", JAEGER_EXTENSION_LOG);
+
+        // The strategies of the service are polled once its tracer is first used
+        sendRequests(1);
+        waitForStrategyRequests(2);
+        sendRequests(1);
+        jaegerCollector.awaitSpans(1, 5000);
+
+        List<GrpcJaegerCollector.Span> rootSpans = jaegerCollector.getSpans(ROOT_OPERATION_NAME);
+        int sampledRootSpans = rootSpans.size();
+        Assert.assertTrue(sampledRootSpans > 0, "Span " + ROOT_OPERATION_NAME + " not sampled");
+        Assert.assertEquals(rootSpans.get(0).getServiceName(), SAMPLE_SERVER_NAME);
+
+        // A new strategy applies without restarting the program
+        samplingManager.setProbabilisticStrategy(0.0);
+        waitForStrategyRequests(samplingManager.getRequestedServiceNames().size() + 2);
+        sendRequests(1);
+        // Nothing is sampled any more, so the spans are only waited for until the timeout
+        jaegerCollector.awaitSpans(Integer.MAX_VALUE, 2000);
+        Assert.assertEquals(jaegerCollector.getSpans(ROOT_OPERATION_NAME).size(), sampledRootSpans);
+
+        Assert.assertTrue(samplingManager.getRequestedServiceNames().contains(SAMPLE_SERVER_NAME));
+        assertNoErrorLogs();
+    }
+
+    /**
+     * Wait until the sampling manager received a number of strategy requests.
+     *
+     * @param requestCount The number of requests to wait for
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void waitForStrategyRequests(int requestCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (samplingManager.getRequestedServiceNames().size() < requestCount) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Sampling strategies not requested");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.HttpOtlpCollector;
+import org.ballerinalang.test.context.BServerInstance;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Integration test for spooling the spans which could not be exported and replaying them.
+ */
+public class JaegerSpoolTestCase extends BaseTestCase {
+    private HttpOtlpCollector otlpCollector;
+    private Path spoolRoot;
+    private Path configFile;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16841;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + "http://" + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final String SAMPLE_SERVER_NAME = "/test";
+    private static final int SPANS_PER_TRACE = 3;
+    // Long enough for a few flush intervals, so that the failed exports have been spooled
+    private static final long SPOOL_WAIT_MILLIS = 3000;
+
+    @BeforeClass
+    public void createSpoolRoot() throws IOException {
+        spoolRoot = Files.createTempDirectory("jaeger-spool-test");
+    }
+
+    @AfterClass
+    public void deleteSpoolRoot() throws IOException {
+        try (Stream<Path> paths = Files.walk(spoolRoot)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        // The collector is only started once the test has spooled spans
+        otlpCollector = new HttpOtlpCollector();
+        configFile = writeConfig(Files.createTempDirectory(spoolRoot, "spool"));
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        otlpCollector.stop();
+    }
+
+    @Test
+    public void testSpooledSpansReplayedAfterRestart() throws Exception {
+        startService(configFile, JAEGER_EXTENSION_LOG);
+        sendRequests(2);
+        Thread.sleep(SPOOL_WAIT_MILLIS);
+        serverInstance.shutdownServer();
+
+        // The restarted service replays the spool it left behind without serving any requests
+        otlpCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+        serverInstance = new BServerInstance(balServer);
+        startService(configFile, JAEGER_EXTENSION_LOG);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(2 * SPANS_PER_TRACE, 15000);
+        Assert.assertEquals(spans.size(), 2 * SPANS_PER_TRACE);
+        assertTraces(2);
+
+        assertNoErrorLogs();
+    }
+
+    @Test
+    public void testSpooledSpansReplayedWhenCollectorIsBack() throws Exception {
+        startService(configFile, JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        Thread.sleep(SPOOL_WAIT_MILLIS);
+
+        // The first live export that succeeds wakes the replayer up before its retry interval is over
+        otlpCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+        sendRequests(1);
+        List<HttpOtlpCollector.Span> spans = otlpCollector.awaitSpans(2 * SPANS_PER_TRACE, 4000);
+        Assert.assertEquals(spans.size(), 2 * SPANS_PER_TRACE);
+        assertTraces(2);
+
+        assertNoErrorLogs();
+    }
+
+    private Path writeConfig(Path spoolDirectory) throws IOException {
+        String config = "[ballerina.observe]\n"
+                + "tracingEnabled=true\n"
+                + "tracingProvider=\"jaeger\"\n"
+                + "\n"
+                + "[ballerinax.jaeger]\n"
+                + "agentHostname=\"" + COLLECTOR_HOST + "\"\n"
+                + "agentPort=" + COLLECTOR_PORT + "\n"
+                + "exporterProtocol=\"http/protobuf\"\n"
+                + "exportMaxAttempts=1\n"
+                + "reporterFlushInterval=100\n"
+                + "spoolDirectory=\"" + spoolDirectory.toAbsolutePath().toString().replace('\\', '/') + "\"\n";
+        Path file = spoolDirectory.resolveSibling(spoolDirectory.getFileName() + ".toml");
+        return Files.writeString(file, config);
+    }
+
+    private void assertTraces(int traceCount) {
+        List<HttpOtlpCollector.Span> rootSpans = otlpCollector.getSpans("get /sum");
+        Assert.assertEquals(rootSpans.size(), traceCount);
+        Assert.assertEquals(rootSpans.stream().map(HttpOtlpCollector.Span::getTraceId).distinct().count(), traceCount,
+                "Expected each trace to be replayed once");
+        for (HttpOtlpCollector.Span rootSpan : rootSpans) {
+            Assert.assertEquals(rootSpan.getServiceName(), SAMPLE_SERVER_NAME);
+            Assert.assertNull(rootSpan.getParentSpanId());
+            long childSpanCount = otlpCollector.getSpans().stream()
+                    .filter(span -> rootSpan.getSpanId().equals(span.getParentSpanId()))
+                    .count();
+            Assert.assertEquals(childSpanCount, SPANS_PER_TRACE - 1);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger;
+
+import io.ballerina.observe.trace.jaeger.backend.GrpcJaegerCollector;
+import org.ballerinalang.test.util.HttpClientRequest;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Integration test for exporting only the traces selected by the tail sampling policies.
+ */
+public class JaegerTailSamplingTestCase extends BaseTestCase {
+    private GrpcJaegerCollector jaegerCollector;
+
+    private static final String COLLECTOR_HOST = "127.0.0.1";
+    private static final int COLLECTOR_PORT = 16839;
+    private static final String JAEGER_EXTENSION_LOG = JAEGER_EXTENSION_LOG_PREFIX + COLLECTOR_HOST + ":"
+            + COLLECTOR_PORT;
+    private static final int SPANS_PER_TRACE = 3;
+    private static final String OTHER_RESOURCE_URL = "http://localhost:9091/test/other";
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        jaegerCollector = new GrpcJaegerCollector();
+        jaegerCollector.start(COLLECTOR_HOST, COLLECTOR_PORT);
+    }
+
+    @AfterMethod
+    public void cleanUpServer() throws Exception {
+        jaegerCollector.stop();
+    }
+
+    @Test
+    public void testTailSamplingMatched() throws Exception {
+        startService("ConfigTailSamplingMatched.toml", JAEGER_EXTENSION_LOG);
+        sendRequests(1);
+        // Wait for the decision window of the trace and the export of its spans
+        List<GrpcJaegerCollector.Span> spans = jaegerCollector.awaitSpans(SPANS_PER_TRACE, 5000);
+        Assert.assertEquals(spans.size(), SPANS_PER_TRACE);
+        Assert.assertEquals(getTraceIds(spans).size(), 1, "Spans of several traces exported");
+
+        assertNoErrorLogs();
+    }
+
+    @Test
+    public void testTailSamplingNotMatched() throws Exception {
+        startService("ConfigTailSamplingNotMatched.toml", JAEGER_EXTENSION_LOG);
+        // The trace of the other resource is selected by the attribute policy, which shows that the spans kept by
+        // tail sampling reach the collector before the absence of the trace of the test resource is checked
+        Assert.assertEquals(HttpClientRequest.doGet(OTHER_RESOURCE_URL).getData(), "Other");
+        List<GrpcJaegerCollector.Span> matchedSpans = jaegerCollector.awaitSpans(1, 5000);
+        Assert.assertFalse(matchedSpans.isEmpty(), "Spans of the matched trace not exported");
+        Set<String> matchedTraceIds = getTraceIds(matchedSpans);
+        Assert.assertEquals(matchedTraceIds.size(), 1, "Spans of several traces exported");
+
+        // The probabilistic fallback keeps no trace, so the trace of the test resource is dropped once its decision
+        // window has passed
+        sendRequests(1);
+        List<GrpcJaegerCollector.Span> spans = jaegerCollector.awaitSpans(matchedSpans.size() + SPANS_PER_TRACE,
+                3000);
+        Assert.assertEquals(getTraceIds(spans), matchedTraceIds, "Spans of the not matched trace exported");
+
+        assertNoErrorLogs();
+    }
+
+    private static Set<String> getTraceIds(List<GrpcJaegerCollector.Span> spans) {
+        Set<String> traceIds = new HashSet<>();
+        for (GrpcJaegerCollector.Span span : spans) {
+            traceIds.add(span.getTraceId());
+        }
+        return traceIds;
+    }
+}
@@ -25,18 +25,15 @@ import io.ballerina.observe.trace.jaeger.model.JaegerQueryResponseTypeToken;
 import io.ballerina.observe.trace.jaeger.model.JaegerSpan;
 import io.ballerina.observe.trace.jaeger.model.JaegerTag;
 import io.ballerina.observe.trace.jaeger.model.JaegerTrace;
-import org.ballerinalang.test.context.BServerInstance;
 import org.ballerinalang.test.context.LogLeecher;
 import org.ballerinalang.test.context.Utils;
 import org.ballerinalang.test.util.HttpClientRequest;
 import org.ballerinalang.test.util.HttpResponse;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import java.io.File;
 import java.lang.reflect.Type;
 import java.net.InetAddress;
 import java.nio.file.Paths;
@@ -46,7 +43,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.DEFAULT_SERVICE_NAME;
 
@@ -54,23 +50,11 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.DEFAULT_
  * Integration test for Jaeger extension.
  */
 public class JaegerTracesTestCase extends BaseTestCase {
-    private BServerInstance serverInstance;
-
-    private static final File RESOURCES_DIR = Paths.get("src", "test", "resources", "bal").toFile();
-    private static final String TEST_RESOURCE_URL = "http://localhost:9091/test/sum";
-
-    private static final String JAEGER_EXTENSION_LOG_PREFIX = "ballerina: started publishing traces to Jaeger on ";
     private static final String SAMPLE_SERVER_NAME = "/test";
     private static final String JAEGER_PROCESS_ID = "p1";
 
-    @BeforeMethod
-    public void setup() throws Exception {
-        serverInstance = new BServerInstance(balServer);
-    }
-
     @AfterMethod
     public void cleanUpServer() throws Exception {
-        serverInstance.shutdownServer();
         jaegerServer.stopServer();
     }
 
@@ -91,25 +75,7 @@ public class JaegerTracesTestCase extends BaseTestCase {
                                   String configFilename)
             throws Exception {
         jaegerServer.startServer(host, jaegerReportAddress, jaegerReportProtocol);
-
-        LogLeecher jaegerExtLogLeecher = new LogLeecher(JAEGER_EXTENSION_LOG_PREFIX + host + ":"
-                + jaegerReportAddress);
-        serverInstance.addLogLeecher(jaegerExtLogLeecher);
-        LogLeecher errorLogLeecher = new LogLeecher("error");
-        serverInstance.addErrorLogLeecher(errorLogLeecher);
-        LogLeecher exceptionLogLeecher = new LogLeecher("Exception");
-        serverInstance.addErrorLogLeecher(exceptionLogLeecher);
-
-        String configFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), configFilename).toFile().getAbsolutePath();
-        Map<String, String> env = new HashMap<>();
-        env.put("BAL_CONFIG_FILES", configFile);
-
-        final String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), "01_http_svc_test.bal").toFile()
-                .getAbsolutePath();
-        int[] requiredPorts = {9091};
-        serverInstance.startServer(balFile, new String[]{"--observability-included"}, null, env, requiredPorts);
-        Utils.waitForPortsToOpen(requiredPorts, 1000 * 60, false, InetAddress.getByName("localhost"));
-        jaegerExtLogLeecher.waitForText(10000);
+        startService(configFilename, JAEGER_EXTENSION_LOG_PREFIX + host + ":" + jaegerReportAddress);
 
         // Send requests to generate metrics
         long startTimeMicroseconds = Calendar.getInstance().getTimeInMillis() * 1000;
@@ -149,7 +115,7 @@ public class JaegerTracesTestCase extends BaseTestCase {
         Assert.assertEquals(jaegerTrace.getProcesses().size(), 1);
 
         String span1Position = "01_http_svc_test.bal:22:5";
-        JaegerSpan span1 = findSpan(jaegerTrace, span1Position);
+        JaegerSpan span1 = jaegerTrace.findSpan(span1Position);
         Assert.assertNotNull(span1, "Span from position " + span1Position + " not found");
         Assert.assertEquals(span1.getOperationName(), "get /sum");
         Assert.assertEquals(span1.getReferences().size(), 0);
@@ -180,7 +146,7 @@ public class JaegerTracesTestCase extends BaseTestCase {
         )));
 
         String span2Position = "01_http_svc_test.bal:24:19";
-        JaegerSpan span2 = findSpan(jaegerTrace, span2Position);
+        JaegerSpan span2 = jaegerTrace.findSpan(span2Position);
         Assert.assertNotNull(span2, "Span from position " + span2Position + " not found");
         Assert.assertEquals(span2.getOperationName(), "$anon/./ObservableAdder:getSum");
         Assert.assertEquals(span2.getReferences().size(), 1);
@@ -207,7 +173,7 @@ public class JaegerTracesTestCase extends BaseTestCase {
         )));
 
         String span3Position = "01_http_svc_test.bal:28:20";
-        JaegerSpan span3 = findSpan(jaegerTrace, span3Position);
+        JaegerSpan span3 = jaegerTrace.findSpan(span3Position);
         Assert.assertNotNull(span3, "Span from position " + span3Position + " not found");
         Assert.assertEquals(span3.getOperationName(), "ballerina/http/Caller:respond");
         Assert.assertEquals(span3.getReferences().size(), 1);
@@ -240,8 +206,7 @@ public class JaegerTracesTestCase extends BaseTestCase {
         JaegerProcess jaegerProcess = jaegerTrace.getProcesses().get(JAEGER_PROCESS_ID);
         Assert.assertEquals(jaegerProcess.getServiceName(), SAMPLE_SERVER_NAME);
 
-        Assert.assertFalse(errorLogLeecher.isTextFound(), "Unexpected error log found");
-        Assert.assertFalse(exceptionLogLeecher.isTextFound(), "Unexpected exception log found");
+        assertNoErrorLogs();
     }
 
     @Test
@@ -253,11 +218,9 @@ public class JaegerTracesTestCase extends BaseTestCase {
         LogLeecher exceptionLogLeecher = new LogLeecher("Exception");
         serverInstance.addErrorLogLeecher(exceptionLogLeecher);
 
-        final String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), "01_http_svc_test.bal").toFile()
-                .getAbsolutePath();
-        int[] requiredPorts = {9091};
-        serverInstance.startServer(balFile, null, null, requiredPorts);
-        Utils.waitForPortsToOpen(requiredPorts, 1000 * 60, false, InetAddress.getByName("localhost"));
+        String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), TEST_SERVICE_FILE).toFile().getAbsolutePath();
+        serverInstance.startServer(balFile, null, null, TEST_SERVICE_PORTS);
+        Utils.waitForPortsToOpen(TEST_SERVICE_PORTS, 1000 * 60, false, InetAddress.getByName("localhost"));
 
         String responseData = HttpClientRequest.doGet(TEST_RESOURCE_URL).getData();
         Assert.assertEquals(responseData, "Sum: 53");
@@ -281,11 +244,10 @@ public class JaegerTracesTestCase extends BaseTestCase {
         Map<String, String> env = new HashMap<>();
         env.put("BAL_CONFIG_FILES", configFile);
 
-        final String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), "01_http_svc_test.bal").toFile()
-                .getAbsolutePath();
-        int[] requiredPorts = {9091};
-        serverInstance.startServer(balFile, new String[]{"--observability-included"}, null, env, requiredPorts);
-        Utils.waitForPortsToOpen(requiredPorts, 1000 * 60, false, InetAddress.getByName("localhost"));
+        String balFile = Paths.get(RESOURCES_DIR.getAbsolutePath(), TEST_SERVICE_FILE).toFile().getAbsolutePath();
+        serverInstance.startServer(balFile, new String[]{"--observability-included"}, null, env,
+                TEST_SERVICE_PORTS);
+        Utils.waitForPortsToOpen(TEST_SERVICE_PORTS, 1000 * 60, false, InetAddress.getByName("localhost"));
         tracerNotFoundLog.waitForText(10000);
 
         String responseData = HttpClientRequest.doGet(TEST_RESOURCE_URL).getData();
@@ -294,22 +256,4 @@ public class JaegerTracesTestCase extends BaseTestCase {
         Assert.assertFalse(jaegerExtLogLeecher.isTextFound(), "Jaeger extension not expected to enable");
         Assert.assertFalse(exceptionLogLeecher.isTextFound(), "Unexpected exception log found");
     }
-
-    /**
-     * Find a span from a jaeger trace by position ID.
-     *
-     * @param jaegerTrace The jaeger trace in which the spans should be searched
-     * @param positionID  The position ID of the span
-     * @return The found span or null otherwise
-     */
-    private JaegerSpan findSpan(JaegerTrace jaegerTrace, String positionID) {
-        for (JaegerSpan span : jaegerTrace.getSpans()) {
-            Optional<JaegerTag> positionTag =
-                    span.getTags().stream().filter(t -> "src.position".equals(t.getKey())).findAny();
-            if (positionTag.isPresent() && positionID.equals(positionTag.get().getValue())) {
-                return span;
-            }
-        }
-        return null;
-    }
 }
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.backend;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a Jaeger collector receiving spans on the native {@code jaeger.api_v2} gRPC API.
+ * <p>
+ * This runs a gRPC server inside the test JVM which accepts {@code CollectorService/PostSpans} calls and decodes the
+ * process and span fields which the tests assert on, without requiring a Jaeger server.
+ */
+public class GrpcJaegerCollector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrpcJaegerCollector.class);
+    private static final String SERVICE_NAME = "jaeger.api_v2.CollectorService";
+    private static final byte[] EMPTY_RESPONSE = new byte[0];
+
+    private final List<Batch> batches = Collections.synchronizedList(new ArrayList<>());
+    private Server server;
+
+    /**
+     * Start receiving spans.
+     *
+     * @param interfaceIP  The IP of the interface to bind to
+     * @param grpcBindPort The gRPC port to bind to
+     * @throws IOException if starting the server fails
+     */
+    public void start(String interfaceIP, int grpcBindPort) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Jaeger collector stand-in already started");
+        }
+        MethodDescriptor<byte[], byte[]> postSpansMethod = MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "PostSpans"))
+                .setRequestMarshaller(new BytesMarshaller())
+                .setResponseMarshaller(new BytesMarshaller())
+                .build();
+        ServerServiceDefinition service = ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(postSpansMethod, ServerCalls.asyncUnaryCall(this::postSpans))
+                .build();
+        server = NettyServerBuilder.forAddress(new InetSocketAddress(interfaceIP, grpcBindPort))
+                .addService(service)
+                .build()
+                .start();
+        LOGGER.info("Started Jaeger collector stand-in on " + interfaceIP + ":" + grpcBindPort);
+    }
+
+    /**
+     * Stop receiving spans.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server to stop
+     */
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow();
+            server.awaitTermination(5, TimeUnit.SECONDS);
+            server = null;
+        }
+    }
+
+    /**
+     * Get the batches received so far.
+     *
+     * @return the received batches
+     */
+    public List<Batch> getBatches() {
+        synchronized (batches) {
+            return new ArrayList<>(batches);
+        }
+    }
+
+    /**
+     * Get the spans of all the batches received so far.
+     *
+     * @return the received spans
+     */
+    public List<Span> getSpans() {
+        List<Span> spans = new ArrayList<>();
+        for (Batch batch : getBatches()) {
+            spans.addAll(batch.getSpans());
+        }
+        return spans;
+    }
+
+    /**
+     * Get the spans received so far with an operation name.
+     *
+     * @param operationName The operation name of the spans
+     * @return the received spans with the operation name
+     */
+    public List<Span> getSpans(String operationName) {
+        List<Span> spans = new ArrayList<>();
+        for (Span span : getSpans()) {
+            if (operationName.equals(span.getOperationName())) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Find a span received so far by operation name.
+     *
+     * @param operationName The operation name of the span
+     * @return The first received span with the operation name or null otherwise
+     */
+    public Span findSpan(String operationName) {
+        List<Span> spans = getSpans(operationName);
+        return spans.isEmpty() ? null : spans.get(0);
+    }
+
+    /**
+     * Wait until a number of spans are received, or until the timeout elapses.
+     *
+     * @param spanCount     The number of spans to wait for
+     * @param timeoutMillis The maximum time to wait in milliseconds
+     * @return the spans received when the wait ends
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<Span> awaitSpans(int spanCount, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<Span> spans = getSpans();
+        while (spans.size() < spanCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            spans = getSpans();
+        }
+        return spans;
+    }
+
+    private void postSpans(byte[] request, StreamObserver<byte[]> responseObserver) {
+        try {
+            readMessage(CodedInputStream.newInstance(request), (fieldNumber, input) -> {
+                if (fieldNumber == 1) {
+                    Batch batch = new Batch();
+                    readNestedMessage(input, (batchFieldNumber, batchInput) -> readBatchField(batchFieldNumber,
+                            batchInput, batch));
+                    batches.add(batch);
+                    return true;
+                }
+                return false;
+            });
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to decode request of " + request.length + " bytes", e);
+        }
+        responseObserver.onNext(EMPTY_RESPONSE);
+        responseObserver.onCompleted();
+    }
+
+    private static boolean readBatchField(int fieldNumber, CodedInputStream input, Batch batch) throws IOException {
+        if (fieldNumber == 1) {
+            Span span = new Span(batch);
+            readNestedMessage(input, (spanFieldNumber, spanInput) -> readSpanField(spanFieldNumber, spanInput, span));
+            batch.spans.add(span);
+            return true;
+        } else if (fieldNumber == 2) {
+            readNestedMessage(input, (processFieldNumber, processInput) -> {
+                if (processFieldNumber == 1) {
+                    batch.serviceName = processInput.readStringRequireUtf8();
+                    return true;
+                }
+                return false;
+            });
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean readSpanField(int fieldNumber, CodedInputStream input, Span span) throws IOException {
+        switch (fieldNumber) {
+            case 1:
+                span.traceId = toHex(input.readByteArray());
+                return true;
+            case 2:
+                span.spanId = toHex(input.readByteArray());
+                return true;
+            case 3:
+                span.operationName = input.readStringRequireUtf8();
+                return true;
+            case 4:
+                readReference(input, span);
+                return true;
+            case 8:
+                readTag(input, span.tags);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void readReference(CodedInputStream input, Span span) throws IOException {
+        String[] spanId = new String[1];
+        int[] refType = new int[1];
+        readNestedMessage(input, (fieldNumber, refInput) -> {
+            if (fieldNumber == 2) {
+                spanId[0] = toHex(refInput.readByteArray());
+                return true;
+            } else if (fieldNumber == 3) {
+                refType[0] = refInput.readEnum();
+                return true;
+            }
+            return false;
+        });
+        // CHILD_OF references point to the parent span
+        if (refType[0] == 0) {
+            span.parentSpanId = spanId[0];
+        }
+    }
+
+    private static void readTag(CodedInputStream input, Map<String, String> tags) throws IOException {
+        String[] key = new String[1];
+        String[] value = new String[1];
+        readNestedMessage(input, (fieldNumber, tagInput) -> {
+            switch (fieldNumber) {
+                case 1:
+                    key[0] = tagInput.readStringRequireUtf8();
+                    return true;
+                case 3:
+                    value[0] = tagInput.readStringRequireUtf8();
+                    return true;
+                case 4:
+                    value[0] = String.valueOf(tagInput.readBool());
+                    return true;
+                case 5:
+                    value[0] = String.valueOf(tagInput.readInt64());
+                    return true;
+                case 6:
+                    value[0] = String.valueOf(tagInput.readDouble());
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        tags.put(key[0], value[0]);
+    }
+
+    private interface FieldReader {
+        boolean read(int fieldNumber, CodedInputStream input) throws IOException;
+    }
+
+    private static void readMessage(CodedInputStream input, FieldReader fieldReader) throws IOException {
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0) {
+                return;
+            }
+            if (!fieldReader.read(WireFormat.getTagFieldNumber(tag), input)) {
+                input.skipField(tag);
+            }
+        }
+    }
+
+    private static void readNestedMessage(CodedInputStream input, FieldReader fieldReader) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        readMessage(input, fieldReader);
+        input.popLimit(oldLimit);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Marshaller passing the raw request and response bytes through.
+     */
+    private static class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try (stream) {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Batch of spans received in a request.
+     */
+    public static class Batch {
+        private String serviceName;
+        private final List<Span> spans = new ArrayList<>();
+
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        public List<Span> getSpans() {
+            return spans;
+        }
+    }
+
+    /**
+     * Span received in a batch.
+     */
+    public static class Span {
+        private final Batch batch;
+        private String traceId;
+        private String spanId;
+        private String parentSpanId;
+        private String operationName;
+        private final Map<String, String> tags = new HashMap<>();
+
+        private Span(Batch batch) {
+            this.batch = batch;
+        }
+
+        public String getServiceName() {
+            return batch.getServiceName();
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        public String getSpanId() {
+            return spanId;
+        }
+
+        public String getParentSpanId() {
+            return parentSpanId;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.backend;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a Jaeger collector serving sampling strategies on the {@code jaeger.api_v2} gRPC API.
+ * <p>
+ * This runs a gRPC server inside the test JVM which answers {@code SamplingManager/GetSamplingStrategy} calls with the
+ * strategy set by the test, and records the services which asked for their strategies, without requiring a Jaeger
+ * server.
+ */
+public class GrpcSamplingManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrpcSamplingManager.class);
+    private static final String SERVICE_NAME = "jaeger.api_v2.SamplingManager";
+    private static final int PROBABILISTIC_STRATEGY_TYPE = 0;
+
+    private final List<String> requestedServiceNames = Collections.synchronizedList(new ArrayList<>());
+    private volatile byte[] strategyResponse = encodeProbabilisticStrategy(1.0);
+    private Server server;
+
+    /**
+     * Start serving sampling strategies.
+     *
+     * @param interfaceIP  The IP of the interface to bind to
+     * @param grpcBindPort The gRPC port to bind to
+     * @throws IOException if starting the server fails
+     */
+    public void start(String interfaceIP, int grpcBindPort) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Jaeger sampling manager stand-in already started");
+        }
+        MethodDescriptor<byte[], byte[]> getSamplingStrategyMethod = MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "GetSamplingStrategy"))
+                .setRequestMarshaller(new BytesMarshaller())
+                .setResponseMarshaller(new BytesMarshaller())
+                .build();
+        ServerServiceDefinition service = ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(getSamplingStrategyMethod, ServerCalls.asyncUnaryCall(this::getSamplingStrategy))
+                .build();
+        server = NettyServerBuilder.forAddress(new InetSocketAddress(interfaceIP, grpcBindPort))
+                .addService(service)
+                .build()
+                .start();
+        LOGGER.info("Started Jaeger sampling manager stand-in on " + interfaceIP + ":" + grpcBindPort);
+    }
+
+    /**
+     * Stop serving sampling strategies.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server to stop
+     */
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow();
+            server.awaitTermination(5, TimeUnit.SECONDS);
+            server = null;
+        }
+    }
+
+    /**
+     * Serve a strategy sampling the traces of every operation with the given probability.
+     *
+     * @param samplingRate The sampling probability
+     */
+    public void setProbabilisticStrategy(double samplingRate) {
+        strategyResponse = encodeProbabilisticStrategy(samplingRate);
+    }
+
+    /**
+     * Serve a strategy sampling the traces of each operation with its own probability.
+     *
+     * @param defaultSamplingProbability The sampling probability of the operations without their own probability
+     * @param operationProbabilities     The sampling probabilities by operation name
+     */
+    public void setPerOperationStrategy(double defaultSamplingProbability, Map<String, Double> operationProbabilities) {
+        strategyResponse = encode(output -> {
+            output.writeEnum(1, PROBABILISTIC_STRATEGY_TYPE);
+            output.writeByteArray(4, encode(operationsOutput -> {
+                operationsOutput.writeDouble(1, defaultSamplingProbability);
+                for (Map.Entry<String, Double> entry : operationProbabilities.entrySet()) {
+                    operationsOutput.writeByteArray(3, encode(operationOutput -> {
+                        operationOutput.writeString(1, entry.getKey());
+                        operationOutput.writeByteArray(2, encode(probabilisticOutput ->
+                                probabilisticOutput.writeDouble(1, entry.getValue())));
+                    }));
+                }
+            }));
+        });
+    }
+
+    /**
+     * Get the names of the services which requested their sampling strategies so far.
+     *
+     * @return the service names, once per request
+     */
+    public List<String> getRequestedServiceNames() {
+        synchronized (requestedServiceNames) {
+            return new ArrayList<>(requestedServiceNames);
+        }
+    }
+
+    private void getSamplingStrategy(byte[] request, StreamObserver<byte[]> responseObserver) {
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(request);
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                if (WireFormat.getTagFieldNumber(tag) == 1) {
+                    requestedServiceNames.add(input.readStringRequireUtf8());
+                } else {
+                    input.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to decode request of " + request.length + " bytes", e);
+        }
+        responseObserver.onNext(strategyResponse);
+        responseObserver.onCompleted();
+    }
+
+    private static byte[] encodeProbabilisticStrategy(double samplingRate) {
+        return encode(output -> {
+            output.writeEnum(1, PROBABILISTIC_STRATEGY_TYPE);
+            output.writeByteArray(2, encode(probabilisticOutput -> probabilisticOutput.writeDouble(1, samplingRate)));
+        });
+    }
+
+    private interface MessageWriter {
+        void write(CodedOutputStream output) throws IOException;
+    }
+
+    private static byte[] encode(MessageWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            writer.write(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Marshaller passing the raw request and response bytes through.
+     */
+    private static class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try (stream) {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.backend;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.airlift.compress.zstd.ZstdInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Local stand-in for an OTLP/HTTP collector.
+ * <p>
+ * This runs an HTTP server inside the test JVM which accepts binary protobuf requests on {@code /v1/traces}, optionally
+ * compressed with gzip or zstd, and decodes the resource and span fields which the tests assert on, without requiring
+ * a collector. A number of requests can be rejected with a given status first, to exercise the retries of the
+ * exporter.
+ */
+public class HttpOtlpCollector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpOtlpCollector.class);
+    private static final String TRACES_PATH = "/v1/traces";
+    private static final String SERVICE_NAME_KEY = "service.name";
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<Batch> batches = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger requestsToReject = new AtomicInteger();
+    private volatile int rejectionStatus = 503;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Start receiving spans.
+     *
+     * @param interfaceIP  The IP of the interface to bind to
+     * @param httpBindPort The HTTP port to bind to
+     * @throws IOException if starting the server fails
+     */
+    public void start(String interfaceIP, int httpBindPort) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("OTLP/HTTP collector stand-in already started");
+        }
+        server = HttpServer.create(new InetSocketAddress(interfaceIP, httpBindPort), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(TRACES_PATH, this::handle);
+        server.start();
+        LOGGER.info("Started OTLP/HTTP collector stand-in on " + interfaceIP + ":" + httpBindPort);
+    }
+
+    /**
+     * Stop receiving spans.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server to stop
+     */
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.stop(STOP_DELAY_SECONDS);
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Reject the next requests with an HTTP status instead of accepting them.
+     *
+     * @param requestCount The number of requests to reject
+     * @param status       The HTTP status to reject the requests with
+     */
+    public void rejectRequests(int requestCount, int status) {
+        rejectionStatus = status;
+        requestsToReject.set(requestCount);
+    }
+
+    /**
+     * Get the requests received so far, including the rejected ones.
+     *
+     * @return the received requests
+     */
+    public List<Request> getRequests() {
+        synchronized (requests) {
+            return new ArrayList<>(requests);
+        }
+    }
+
+    /**
+     * Get the batches received so far in accepted requests.
+     *
+     * @return the received batches
+     */
+    public List<Batch> getBatches() {
+        synchronized (batches) {
+            return new ArrayList<>(batches);
+        }
+    }
+
+    /**
+     * Get the spans of all the batches received so far.
+     *
+     * @return the received spans
+     */
+    public List<Span> getSpans() {
+        List<Span> spans = new ArrayList<>();
+        for (Batch batch : getBatches()) {
+            spans.addAll(batch.getSpans());
+        }
+        return spans;
+    }
+
+    /**
+     * Get the spans received so far with an operation name.
+     *
+     * @param operationName The operation name of the spans
+     * @return the received spans with the operation name
+     */
+    public List<Span> getSpans(String operationName) {
+        List<Span> spans = new ArrayList<>();
+        for (Span span : getSpans()) {
+            if (operationName.equals(span.getOperationName())) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Find a span received so far by operation name.
+     *
+     * @param operationName The operation name of the span
+     * @return The first received span with the operation name or null otherwise
+     */
+    public Span findSpan(String operationName) {
+        List<Span> spans = getSpans(operationName);
+        return spans.isEmpty() ? null : spans.get(0);
+    }
+
+    /**
+     * Wait until a number of spans are received, or until the timeout elapses.
+     *
+     * @param spanCount     The number of spans to wait for
+     * @param timeoutMillis The maximum time to wait in milliseconds
+     * @return the spans received when the wait ends
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<Span> awaitSpans(int spanCount, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<Span> spans = getSpans();
+        while (spans.size() < spanCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            spans = getSpans();
+        }
+        return spans;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            int status = 200;
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                status = 405;
+            } else if (requestsToReject.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                status = rejectionStatus;
+            } else {
+                try {
+                    batches.addAll(readRequest(decompress(body, contentEncoding)));
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.error("Failed to decode request of " + body.length + " bytes", e);
+                    status = 400;
+                }
+            }
+            requests.add(new Request(contentEncoding, body.length, status));
+            exchange.sendResponseHeaders(status, -1);
+        }
+    }
+
+    private static byte[] decompress(byte[] body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        InputStream in;
+        switch (contentEncoding) {
+            case "gzip":
+                in = new GZIPInputStream(new ByteArrayInputStream(body));
+                break;
+            case "zstd":
+                in = new ZstdInputStream(new ByteArrayInputStream(body));
+                break;
+            default:
+                throw new IOException("unsupported content encoding: " + contentEncoding);
+        }
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static List<Batch> readRequest(byte[] request) throws IOException {
+        List<Batch> requestBatches = new ArrayList<>();
+        readMessage(CodedInputStream.newInstance(request), (fieldNumber, input) -> {
+            if (fieldNumber == 1) {
+                Batch batch = new Batch();
+                readNestedMessage(input, (resourceSpansFieldNumber, resourceSpansInput) ->
+                        readResourceSpansField(resourceSpansFieldNumber, resourceSpansInput, batch));
+                requestBatches.add(batch);
+                return true;
+            }
+            return false;
+        });
+        return requestBatches;
+    }
+
+    private static boolean readResourceSpansField(int fieldNumber, CodedInputStream input, Batch batch)
+            throws IOException {
+        if (fieldNumber == 1) {
+            Map<String, String> attributes = new HashMap<>();
+            readNestedMessage(input, (resourceFieldNumber, resourceInput) -> {
+                if (resourceFieldNumber == 1) {
+                    readAttribute(resourceInput, attributes);
+                    return true;
+                }
+                return false;
+            });
+            batch.serviceName = attributes.get(SERVICE_NAME_KEY);
+            return true;
+        } else if (fieldNumber == 2) {
+            readNestedMessage(input, (scopeSpansFieldNumber, scopeSpansInput) -> {
+                if (scopeSpansFieldNumber == 2) {
+                    Span span = new Span(batch);
+                    readNestedMessage(scopeSpansInput, (spanFieldNumber, spanInput) ->
+                            readSpanField(spanFieldNumber, spanInput, span));
+                    batch.spans.add(span);
+                    return true;
+                }
+                return false;
+            });
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean readSpanField(int fieldNumber, CodedInputStream input, Span span) throws IOException {
+        switch (fieldNumber) {
+            case 1:
+                span.traceId = toHex(input.readByteArray());
+                return true;
+            case 2:
+                span.spanId = toHex(input.readByteArray());
+                return true;
+            case 4:
+                byte[] parentSpanId = input.readByteArray();
+                span.parentSpanId = parentSpanId.length == 0 ? null : toHex(parentSpanId);
+                return true;
+            case 5:
+                span.operationName = input.readStringRequireUtf8();
+                return true;
+            case 6:
+                span.kind = input.readEnum();
+                return true;
+            case 9:
+                readAttribute(input, span.attributes);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void readAttribute(CodedInputStream input, Map<String, String> attributes) throws IOException {
+        String[] key = new String[1];
+        String[] value = new String[1];
+        readNestedMessage(input, (fieldNumber, keyValueInput) -> {
+            if (fieldNumber == 1) {
+                key[0] = keyValueInput.readStringRequireUtf8();
+                return true;
+            } else if (fieldNumber == 2) {
+                readNestedMessage(keyValueInput, (valueFieldNumber, valueInput) -> {
+                    switch (valueFieldNumber) {
+                        case 1:
+                            value[0] = valueInput.readStringRequireUtf8();
+                            return true;
+                        case 2:
+                            value[0] = String.valueOf(valueInput.readBool());
+                            return true;
+                        case 3:
+                            value[0] = String.valueOf(valueInput.readInt64());
+                            return true;
+                        case 4:
+                            value[0] = String.valueOf(valueInput.readDouble());
+                            return true;
+                        default:
+                            return false;
+                    }
+                });
+                return true;
+            }
+            return false;
+        });
+        attributes.put(key[0], value[0]);
+    }
+
+    private interface FieldReader {
+        boolean read(int fieldNumber, CodedInputStream input) throws IOException;
+    }
+
+    private static void readMessage(CodedInputStream input, FieldReader fieldReader) throws IOException {
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0) {
+                return;
+            }
+            if (!fieldReader.read(WireFormat.getTagFieldNumber(tag), input)) {
+                input.skipField(tag);
+            }
+        }
+    }
+
+    private static void readNestedMessage(CodedInputStream input, FieldReader fieldReader) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        readMessage(input, fieldReader);
+        input.popLimit(oldLimit);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Request received by the collector.
+     */
+    public static class Request {
+        private final String contentEncoding;
+        private final int bodySize;
+        private final int status;
+
+        private Request(String contentEncoding, int bodySize, int status) {
+            this.contentEncoding = contentEncoding;
+            this.bodySize = bodySize;
+            this.status = status;
+        }
+
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        public int getBodySize() {
+            return bodySize;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Spans of a resource received in a request.
+     */
+    public static class Batch {
+        private String serviceName;
+        private final List<Span> spans = new ArrayList<>();
+
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        public List<Span> getSpans() {
+            return spans;
+        }
+    }
+
+    /**
+     * Span received in a batch.
+     */
+    public static class Span {
+        /**
+         * The OTLP {@code SPAN_KIND_SERVER} kind.
+         */
+        public static final int KIND_SERVER = 2;
+        /**
+         * The OTLP {@code SPAN_KIND_CLIENT} kind.
+         */
+        public static final int KIND_CLIENT = 3;
+
+        private final Batch batch;
+        private String traceId;
+        private String spanId;
+        private String parentSpanId;
+        private String operationName;
+        private int kind;
+        private final Map<String, String> attributes = new HashMap<>();
+
+        private Span(Batch batch) {
+            this.batch = batch;
+        }
+
+        public String getServiceName() {
+            return batch.getServiceName();
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        public String getSpanId() {
+            return spanId;
+        }
+
+        public String getParentSpanId() {
+            return parentSpanId;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        public int getKind() {
+            return kind;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.observe.trace.jaeger.backend;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a Jaeger agent.
+ * <p>
+ * This receives Thrift compact {@code emitBatch} UDP packets and decodes the process and span fields which the tests
+ * assert on, without requiring a Jaeger server.
+ */
+public class UdpJaegerAgent {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UdpJaegerAgent.class);
+    private static final int MAX_PACKET_SIZE = 65535;
+
+    private static final byte TYPE_BOOLEAN_TRUE = 1;
+    private static final byte TYPE_BOOLEAN_FALSE = 2;
+    private static final byte TYPE_BYTE = 3;
+    private static final byte TYPE_I16 = 4;
+    private static final byte TYPE_I32 = 5;
+    private static final byte TYPE_I64 = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_BINARY = 8;
+    private static final byte TYPE_LIST = 9;
+    private static final byte TYPE_SET = 10;
+    private static final byte TYPE_MAP = 11;
+    private static final byte TYPE_STRUCT = 12;
+
+    private final List<Batch> batches = Collections.synchronizedList(new ArrayList<>());
+    private DatagramSocket socket;
+    private Thread receiverThread;
+
+    /**
+     * Start receiving packets.
+     *
+     * @param interfaceIP The IP of the interface to bind to
+     * @param udpBindPort The UDP port to bind to
+     * @throws SocketException if binding the port fails
+     */
+    public void start(String interfaceIP, int udpBindPort) throws SocketException {
+        if (socket != null) {
+            throw new IllegalStateException("Jaeger agent stand-in already started");
+        }
+        socket = new DatagramSocket(new InetSocketAddress(interfaceIP, udpBindPort));
+        receiverThread = new Thread(this::receive, "udp-jaeger-agent");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        LOGGER.info("Started Jaeger agent stand-in on " + interfaceIP + ":" + udpBindPort);
+    }
+
+    /**
+     * Stop receiving packets.
+     *
+     * @throws InterruptedException if interrupted while waiting for the receiver to stop
+     */
+    public void stop() throws InterruptedException {
+        if (socket != null) {
+            socket.close();
+            receiverThread.join(TimeUnit.SECONDS.toMillis(5));
+            socket = null;
+            receiverThread = null;
+        }
+    }
+
+    /**
+     * Get the batches received so far.
+     *
+     * @return the received batches
+     */
+    public List<Batch> getBatches() {
+        synchronized (batches) {
+            return new ArrayList<>(batches);
+        }
+    }
+
+    /**
+     * Get the spans of all the batches received so far.
+     *
+     * @return the received spans
+     */
+    public List<Span> getSpans() {
+        List<Span> spans = new ArrayList<>();
+        for (Batch batch : getBatches()) {
+            spans.addAll(batch.getSpans());
+        }
+        return spans;
+    }
+
+    /**
+     * Get the spans received so far with an operation name.
+     *
+     * @param operationName The operation name of the spans
+     * @return the received spans with the operation name
+     */
+    public List<Span> getSpans(String operationName) {
+        List<Span> spans = new ArrayList<>();
+        for (Span span : getSpans()) {
+            if (operationName.equals(span.getOperationName())) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Find a span received so far by operation name.
+     *
+     * @param operationName The operation name of the span
+     * @return The first received span with the operation name or null otherwise
+     */
+    public Span findSpan(String operationName) {
+        List<Span> spans = getSpans(operationName);
+        return spans.isEmpty() ? null : spans.get(0);
+    }
+
+    /**
+     * Wait until a number of spans are received, or until the timeout elapses.
+     *
+     * @param spanCount     The number of spans to wait for
+     * @param timeoutMillis The maximum time to wait in milliseconds
+     * @return the spans received when the wait ends
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<Span> awaitSpans(int spanCount, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<Span> spans = getSpans();
+        while (spans.size() < spanCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            spans = getSpans();
+        }
+        return spans;
+    }
+
+    private void receive() {
+        byte[] packetBuffer = new byte[MAX_PACKET_SIZE];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(packetBuffer, packetBuffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                // The socket is closed when stopping
+                continue;
+            }
+            try {
+                batches.add(readEmitBatch(ByteBuffer.wrap(packet.getData(), 0, packet.getLength())));
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to decode packet of " + packet.getLength() + " bytes", e);
+            }
+        }
+    }
+
+    private static Batch readEmitBatch(ByteBuffer buffer) {
+        if (buffer.get() != (byte) 0x82) {
+            throw new IllegalArgumentException("not a Thrift compact message");
+        }
+        buffer.get();
+        readVarint(buffer);
+        String methodName = readString(buffer);
+        if (!"emitBatch".equals(methodName)) {
+            throw new IllegalArgumentException("unexpected method " + methodName);
+        }
+        Batch batch = new Batch();
+        readStruct(buffer, (id, type) -> {
+            if (id == 1 && type == TYPE_STRUCT) {
+                readBatch(buffer, batch);
+                return true;
+            }
+            return false;
+        });
+        return batch;
+    }
+
+    private static void readBatch(ByteBuffer buffer, Batch batch) {
+        readStruct(buffer, (id, type) -> {
+            if (id == 1 && type == TYPE_STRUCT) {
+                readStruct(buffer, (processFieldId, processFieldType) -> {
+                    if (processFieldId == 1) {
+                        batch.serviceName = readString(buffer);
+                        return true;
+                    }
+                    return false;
+                });
+                return true;
+            } else if (id == 2 && type == TYPE_LIST) {
+                int size = readListHeader(buffer);
+                for (int i = 0; i < size; i++) {
+                    batch.spans.add(readSpan(buffer, batch));
+                }
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static Span readSpan(ByteBuffer buffer, Batch batch) {
+        Span span = new Span(batch);
+        readStruct(buffer, (id, type) -> {
+            switch (id) {
+                case 1:
+                    span.traceIdLow = readZigzagVarint(buffer);
+                    return true;
+                case 2:
+                    span.traceIdHigh = readZigzagVarint(buffer);
+                    return true;
+                case 3:
+                    span.spanId = readZigzagVarint(buffer);
+                    return true;
+                case 4:
+                    span.parentSpanId = readZigzagVarint(buffer);
+                    return true;
+                case 5:
+                    span.operationName = readString(buffer);
+                    return true;
+                case 10:
+                    int size = readListHeader(buffer);
+                    for (int i = 0; i < size; i++) {
+                        readTag(buffer, span.tags);
+                    }
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        return span;
+    }
+
+    private static void readTag(ByteBuffer buffer, Map<String, String> tags) {
+        String[] key = new String[1];
+        String[] value = new String[1];
+        readStruct(buffer, (id, type) -> {
+            switch (id) {
+                case 1:
+                    key[0] = readString(buffer);
+                    return true;
+                case 3:
+                    value[0] = readString(buffer);
+                    return true;
+                case 4:
+                    value[0] = String.valueOf(buffer.order(ByteOrder.LITTLE_ENDIAN).getDouble());
+                    buffer.order(ByteOrder.BIG_ENDIAN);
+                    return true;
+                case 5:
+                    value[0] = String.valueOf(type == TYPE_BOOLEAN_TRUE);
+                    return true;
+                case 6:
+                    value[0] = String.valueOf(readZigzagVarint(buffer));
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        tags.put(key[0], value[0]);
+    }
+
+    private interface FieldReader {
+        boolean read(int id, byte type);
+    }
+
+    private static void readStruct(ByteBuffer buffer, FieldReader fieldReader) {
+        int lastFieldId = 0;
+        while (true) {
+            byte header = buffer.get();
+            byte type = (byte) (header & 0x0F);
+            if (type == 0) {
+                return;
+            }
+            int delta = (header >> 4) & 0x0F;
+            int id = delta == 0 ? (int) readZigzagVarint(buffer) : lastFieldId + delta;
+            lastFieldId = id;
+            if (!fieldReader.read(id, type)) {
+                skip(buffer, type);
+            }
+        }
+    }
+
+    private static void skip(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN_TRUE:
+            case TYPE_BOOLEAN_FALSE:
+                break;
+            case TYPE_BYTE:
+                buffer.get();
+                break;
+            case TYPE_I16:
+            case TYPE_I32:
+            case TYPE_I64:
+                readVarint(buffer);
+                break;
+            case TYPE_DOUBLE:
+                buffer.position(buffer.position() + 8);
+                break;
+            case TYPE_BINARY:
+                int length = (int) readVarint(buffer);
+                buffer.position(buffer.position() + length);
+                break;
+            case TYPE_LIST:
+            case TYPE_SET:
+                byte listHeader = buffer.get();
+                int size = (listHeader >> 4) & 0x0F;
+                if (size == 15) {
+                    size = (int) readVarint(buffer);
+                }
+                byte elementType = (byte) (listHeader & 0x0F);
+                for (int i = 0; i < size; i++) {
+                    skipElement(buffer, elementType);
+                }
+                break;
+            case TYPE_MAP:
+                int entries = (int) readVarint(buffer);
+                if (entries > 0) {
+                    byte types = buffer.get();
+                    for (int i = 0; i < entries; i++) {
+                        skipElement(buffer, (byte) ((types >> 4) & 0x0F));
+                        skipElement(buffer, (byte) (types & 0x0F));
+                    }
+                }
+                break;
+            case TYPE_STRUCT:
+                readStruct(buffer, (id, fieldType) -> false);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown Thrift compact type " + type);
+        }
+    }
+
+    private static void skipElement(ByteBuffer buffer, byte type) {
+        // Booleans in collections take a byte, unlike boolean fields
+        if (type == TYPE_BOOLEAN_TRUE || type == TYPE_BOOLEAN_FALSE) {
+            buffer.get();
+        } else {
+            skip(buffer, type);
+        }
+    }
+
+    private static int readListHeader(ByteBuffer buffer) {
+        byte header = buffer.get();
+        int size = (header >> 4) & 0x0F;
+        return size == 15 ? (int) readVarint(buffer) : size;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = (int) readVarint(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readZigzagVarint(ByteBuffer buffer) {
+        long value = readVarint(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Batch of spans received in a packet.
+     */
+    public static class Batch {
+        private String serviceName;
+        private final List<Span> spans = new ArrayList<>();
+
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        public List<Span> getSpans() {
+            return spans;
+        }
+    }
+
+    /**
+     * Span received in a batch.
+     */
+    public static class Span {
+        private final Batch batch;
+        private long traceIdHigh;
+        private long traceIdLow;
+        private long spanId;
+        private long parentSpanId;
+        private String operationName;
+        private final Map<String, String> tags = new HashMap<>();
+
+        private Span(Batch batch) {
+            this.batch = batch;
+        }
+
+        public String getServiceName() {
+            return batch.getServiceName();
+        }
+
+        public long getTraceIdHigh() {
+            return traceIdHigh;
+        }
+
+        public long getTraceIdLow() {
+            return traceIdLow;
+        }
+
+        public long getSpanId() {
+            return spanId;
+        }
+
+        public long getParentSpanId() {
+            return parentSpanId;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+    }
+}
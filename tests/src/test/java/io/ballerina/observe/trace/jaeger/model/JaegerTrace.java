@@ -19,6 +19,7 @@ package io.ballerina.observe.trace.jaeger.model;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Jaeger Trace model.
@@ -51,4 +52,21 @@ public class JaegerTrace {
     public void setProcesses(Map<String, JaegerProcess> processes) {
         this.processes = processes;
     }
+
+    /**
+     * Find a span of this trace by position ID.
+     *
+     * @param positionID The position ID of the span
+     * @return The found span or null otherwise
+     */
+    public JaegerSpan findSpan(String positionID) {
+        for (JaegerSpan span : spans) {
+            Optional<JaegerTag> positionTag =
+                    span.getTags().stream().filter(t -> "src.position".equals(t.getKey())).findAny();
+            if (positionTag.isPresent() && positionID.equals(positionTag.get().getValue())) {
+                return span;
+            }
+        }
+        return null;
+    }
 }
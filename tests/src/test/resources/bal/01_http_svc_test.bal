@@ -27,6 +27,12 @@ service /test on new http:Listener(9091) {
         resp.setTextPayload(<@untainted> "Sum: " + sum.toString());
         checkpanic caller->respond(resp);
     }
+
+    resource function get other(http:Caller caller, http:Request req) {
+        http:Response resp = new;
+        resp.setTextPayload(<@untainted> "Other");
+        checkpanic caller->respond(resp);
+    }
 }
 
 type ObservableAdderClass object {